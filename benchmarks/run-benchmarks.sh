@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Build and run the JMH suite, writing JSON results next to the committed baselines.
+#
+# Usage:
+#   benchmarks/run-benchmarks.sh                    # full suite -> baseline/current.json
+#   benchmarks/run-benchmarks.sh baseline           # refresh baseline/baseline.json
+#   benchmarks/run-benchmarks.sh current 'Reducing' # only benchmarks matching the regex
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+BENCH_DIR="${ROOT_DIR}/benchmarks"
+RESULT_NAME="${1:-current}"
+INCLUDE="${2:-.*}"
+
+# ** build the service jar and the benchmark uber jar
+mvn -B -q -f "${ROOT_DIR}/pom.xml" install -DskipTests -Djacoco.skip=true
+mvn -B -q -f "${BENCH_DIR}/pom.xml" package
+
+# ** run with the GC profiler so bytes/op are recorded alongside ops/us and us/op
+java -jar "${BENCH_DIR}/target/benchmarks.jar" "${INCLUDE}" \
+    -prof gc \
+    -rf json \
+    -rff "${BENCH_DIR}/baseline/${RESULT_NAME}.json"
+
+# ** compare against the committed baseline when one exists
+if [[ "${RESULT_NAME}" != "baseline" && -f "${BENCH_DIR}/baseline/baseline.json" ]]; then
+    java -cp "${BENCH_DIR}/target/benchmarks.jar" com.lms.amortisation.benchmarks.BaselineComparator \
+        "${BENCH_DIR}/baseline/baseline.json" "${BENCH_DIR}/baseline/${RESULT_NAME}.json"
+fi
@@ -0,0 +1,129 @@
+package com.lms.amortisation.benchmarks;
+
+// ** import utils
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a committed baseline
+ *
+ * Results are matched on benchmark name, mode and parameters. A run is
+ * flagged as a regression when throughput drops, average time rises or
+ * normalised allocation (gc.alloc.rate.norm) grows by more than the
+ * tolerance. Exits with status 1 if any regression is found so it can
+ * gate a CI job.
+ *
+ * Usage: java -cp benchmarks.jar com.lms.amortisation.benchmarks.BaselineComparator
+ *        baseline.json current.json [tolerancePercent]
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10.0;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [tolerancePercent]");
+            System.exit(2);
+        }
+
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                continue;
+            }
+
+            JsonNode after = entry.getValue();
+            String mode = after.path("mode").asText();
+
+            double scoreDelta = percentChange(
+                before.path("primaryMetric").path("score").asDouble(),
+                after.path("primaryMetric").path("score").asDouble()
+            );
+            // Throughput is higher-is-better, every other mode is lower-is-better
+            boolean scoreRegressed = "thrpt".equals(mode) ? scoreDelta < -tolerance : scoreDelta > tolerance;
+
+            double allocationBefore = allocation(before);
+            double allocationAfter = allocation(after);
+            double allocationDelta = percentChange(allocationBefore, allocationAfter);
+            boolean allocationRegressed = allocationBefore > 0 && allocationDelta > tolerance;
+
+            String status = scoreRegressed || allocationRegressed ? "REGRESSION" : "OK";
+            if (scoreRegressed || allocationRegressed) {
+                regressions++;
+            }
+
+            System.out.printf("%-10s %s score %+.1f%%, alloc %.0f -> %.0f B/op (%+.1f%%)%n",
+                status, entry.getKey(), scoreDelta, allocationBefore, allocationAfter, allocationDelta);
+        }
+
+        System.out.printf("%d result(s) compared, %d regression(s) beyond %.1f%%%n",
+            current.size(), regressions, tolerance);
+
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Index JMH results by benchmark, mode and sorted parameters
+     *
+     * @param results JMH JSON result array
+     * @return Results keyed by a stable identifier
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            indexed.put(result.path("benchmark").asText() + " [" + result.path("mode").asText() + "] " + params, result);
+        }
+        return indexed;
+    }
+
+    /**
+     * Normalised allocation in bytes per operation, or 0 if -prof gc was not used
+     *
+     * @param result Single JMH result
+     * @return Bytes allocated per operation
+     */
+    private static double allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            // Older JMH versions prefix profiler metrics with a middle dot
+            if (metric.getKey().replace("·", "").equals(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100.0;
+    }
+}
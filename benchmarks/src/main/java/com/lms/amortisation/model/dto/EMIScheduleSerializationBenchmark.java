@@ -0,0 +1,98 @@
+package com.lms.amortisation.model.dto;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calculator.EmiFactorCache;
+import com.lms.amortisation.service.calculator.FixedPointReducingBalanceCalculator;
+import com.lms.amortisation.service.calculator.ReducingBalanceCalculator;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import utils
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness for Jackson serialisation of a calculated EMISchedule
+ *
+ * The mapper is configured the way Spring Boot configures the MVC one
+ * (JSR-310 module, ISO dates), so the numbers track what /calculate pays
+ * after the calculator returns. The fixed-point engine's schedules are
+ * columnar, so its numbers include materialising each row on the fly.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class EMIScheduleSerializationBenchmark {
+
+    @Param({"12", "60", "240", "360"})
+    private int tenure;
+
+    @Param({"500000.00", "5000000.00"})
+    private String principal;
+
+    @Param({"8.5", "12.75"})
+    private String interestRate;
+
+    @Param({"big-decimal", "fixed-point"})
+    private String engine;
+
+    private ObjectMapper objectMapper;
+    private EMISchedule schedule;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        CalculationRequest request = CalculationRequest.builder()
+            .loanId("LN-BENCH-" + tenure)
+            .principal(new BigDecimal(principal))
+            .interestRate(new BigDecimal(interestRate))
+            .tenure(tenure)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+
+        AmortisationProperties properties = new AmortisationProperties();
+        EmiFactorCache emiFactorCache = new EmiFactorCache(properties, new SimpleMeterRegistry());
+        DueDateCalendar dueDateCalendar = new DueDateCalendar(
+            properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+        ReducingBalanceCalculator calculator = "fixed-point".equals(engine)
+            ? new FixedPointReducingBalanceCalculator(emiFactorCache, dueDateCalendar)
+            : new ReducingBalanceCalculator(emiFactorCache, dueDateCalendar);
+        schedule = calculator.calculate(request);
+        json = objectMapper.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public EMISchedule deserialize() throws Exception {
+        return objectMapper.readValue(json, EMISchedule.class);
+    }
+}
@@ -0,0 +1,196 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.entity.EmiScheduleEntry;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calculator.EmiFactorCache;
+import com.lms.amortisation.service.calculator.FixedPointReducingBalanceCalculator;
+import com.lms.amortisation.service.calculator.ReducingBalanceCalculator;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import core packages
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import database
+import org.h2.jdbcx.JdbcDataSource;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness comparing schedule persistence paths on an in-memory H2 database
+ *
+ * Each operation replaces the schedules of one month-end chunk (delete,
+ * then insert every installment) in a single transaction:
+ * - "jpa": one EmiScheduleEntry persisted per installment through a
+ *   Hibernate session with hibernate.jdbc.batch_size=50, flushing and
+ *   clearing every batch, as an entity-based writer would
+ * - "jdbc-batch": {@link JdbcBatchEmiScheduleWriter}
+ *
+ * Installment rows per second = ops/s × loans × 360. H2 runs in-process,
+ * so this isolates client-side cost (entity management, binding,
+ * allocation); network round trips, which array binding removes on
+ * Oracle, are not represented and {@link OracleArrayEmiScheduleWriter}
+ * cannot run here.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+public class EmiScheduleWriterBenchmark {
+
+    private static final int TENURE = 360;
+    private static final int JPA_BATCH_SIZE = 50;
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE LMS.EMI_SCHEDULE (" +
+        "LOAN_ID VARCHAR(20) NOT NULL, INSTALLMENT_NUMBER INT NOT NULL, DUE_DATE DATE NOT NULL, " +
+        "OPENING_BALANCE DECIMAL(15, 2) NOT NULL, EMI DECIMAL(15, 2) NOT NULL, " +
+        "PRINCIPAL DECIMAL(15, 2) NOT NULL, INTEREST DECIMAL(15, 2) NOT NULL, " +
+        "CLOSING_BALANCE DECIMAL(15, 2) NOT NULL, CUMULATIVE_PRINCIPAL DECIMAL(15, 2), " +
+        "CUMULATIVE_INTEREST DECIMAL(15, 2), PRIMARY KEY (LOAN_ID, INSTALLMENT_NUMBER))";
+
+    @Param({"100"})
+    private int loans;
+
+    @Param({"jpa", "jdbc-batch"})
+    private String writer;
+
+    @Param({"big-decimal", "fixed-point"})
+    private String engine;
+
+    private List<EMISchedule> schedules;
+    private List<String> loanIds;
+    private SessionFactory sessionFactory;
+    private TransactionTemplate transactionTemplate;
+    private EmiScheduleWriter scheduleWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schedules-" + writer + "-" + engine + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS LMS");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS LMS.EMI_SCHEDULE");
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+        AmortisationProperties properties = new AmortisationProperties();
+        EmiFactorCache emiFactorCache = new EmiFactorCache(properties, new SimpleMeterRegistry());
+        DueDateCalendar dueDateCalendar = new DueDateCalendar(
+            properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+        ReducingBalanceCalculator calculator = "fixed-point".equals(engine)
+            ? new FixedPointReducingBalanceCalculator(emiFactorCache, dueDateCalendar)
+            : new ReducingBalanceCalculator(emiFactorCache, dueDateCalendar);
+
+        schedules = new ArrayList<>(loans);
+        loanIds = new ArrayList<>(loans);
+        for (int i = 0; i < loans; i++) {
+            String loanId = String.format("LN%08d", i);
+            loanIds.add(loanId);
+            schedules.add(calculator.calculate(CalculationRequest.builder()
+                .loanId(loanId)
+                .principal(new BigDecimal("5000000.00").add(BigDecimal.valueOf(i * 1000L)))
+                .interestRate(new BigDecimal("8.5"))
+                .tenure(TENURE)
+                .productType(ProductType.HOME_LOAN)
+                .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .build()));
+        }
+
+        if ("jpa".equals(writer)) {
+            StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, JPA_BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+            sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(EmiScheduleEntry.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        } else {
+            transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            scheduleWriter = new JdbcBatchEmiScheduleWriter(jdbcTemplate, 500);
+        }
+
+        System.out.printf("%n[chunk] writer=%s engine=%s: %d loans, %d installment rows per op%n",
+            writer, engine, loans, loans * TENURE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Benchmark
+    public int replaceChunk() {
+        return "jpa".equals(writer) ? replaceWithJpa() : transactionTemplate.execute(
+            status -> scheduleWriter.replaceSchedules(schedules));
+    }
+
+    private int replaceWithJpa() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createMutationQuery("delete from EmiScheduleEntry e where e.loanId in (:loanIds)")
+                .setParameterList("loanIds", loanIds)
+                .executeUpdate();
+
+            int persisted = 0;
+            for (EMISchedule schedule : schedules) {
+                for (Installment installment : schedule.getSchedule()) {
+                    session.persist(EmiScheduleEntry.builder()
+                        .loanId(schedule.getLoanId())
+                        .installmentNumber(installment.getInstallmentNumber())
+                        .dueDate(installment.getDueDate())
+                        .openingBalance(installment.getOpeningBalance())
+                        .emi(installment.getEmi())
+                        .principal(installment.getPrincipal())
+                        .interest(installment.getInterest())
+                        .closingBalance(installment.getClosingBalance())
+                        .cumulativePrincipal(installment.getCumulativePrincipal())
+                        .cumulativeInterest(installment.getCumulativeInterest())
+                        .build());
+
+                    if (++persisted % JPA_BATCH_SIZE == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+            }
+
+            transaction.commit();
+            return persisted;
+        }
+    }
+}
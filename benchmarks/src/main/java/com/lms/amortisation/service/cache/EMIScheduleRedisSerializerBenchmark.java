@@ -0,0 +1,122 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calculator.EmiFactorCache;
+import com.lms.amortisation.service.calculator.FixedPointReducingBalanceCalculator;
+import com.lms.amortisation.service.calculator.ReducingBalanceCalculator;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import core packages
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import utils
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness comparing Redis value encodings of a cached EMISchedule
+ *
+ * "json" is the serializer the schedules cache used before the binary
+ * codec (Jackson with the application's JSR-310 setup); "binary" is
+ * {@link EMIScheduleRedisSerializer}. The encoded size of each
+ * combination, i.e. Redis memory and network bytes per entry, is printed
+ * once per trial; run with -prof gc for bytes allocated per op.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class EMIScheduleRedisSerializerBenchmark {
+
+    @Param({"12", "60", "240", "360"})
+    private int tenure;
+
+    @Param({"big-decimal", "fixed-point"})
+    private String engine;
+
+    @Param({"json", "binary"})
+    private String codec;
+
+    private RedisSerializer<EMISchedule> serializer;
+    private EMISchedule schedule;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        RedisSerializer<EMISchedule> json = new Jackson2JsonRedisSerializer<>(objectMapper, EMISchedule.class);
+        serializer = "binary".equals(codec) ? new EMIScheduleRedisSerializer(json) : json;
+
+        CalculationRequest request = CalculationRequest.builder()
+            .loanId("LN-BENCH-" + tenure)
+            .principal(new BigDecimal("5000000.00"))
+            .interestRate(new BigDecimal("8.5"))
+            .tenure(tenure)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+
+        AmortisationProperties properties = new AmortisationProperties();
+        EmiFactorCache emiFactorCache = new EmiFactorCache(properties, new SimpleMeterRegistry());
+        DueDateCalendar dueDateCalendar = new DueDateCalendar(
+            properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+        ReducingBalanceCalculator calculator = "fixed-point".equals(engine)
+            ? new FixedPointReducingBalanceCalculator(emiFactorCache, dueDateCalendar)
+            : new ReducingBalanceCalculator(emiFactorCache, dueDateCalendar);
+        schedule = calculator.calculate(request);
+        encoded = serializer.serialize(schedule);
+
+        System.out.printf("%n[encoded size] codec=%s engine=%s tenure=%d: %d bytes%n",
+            codec, engine, tenure, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(schedule);
+    }
+
+    @Benchmark
+    public EMISchedule deserialize() {
+        return serializer.deserialize(encoded);
+    }
+
+    /**
+     * Cache hit as seen by a caller that reads every row (e.g. the API
+     * response or an outstanding-balance scan)
+     */
+    @Benchmark
+    public BigDecimal deserializeAndReadRows() {
+        EMISchedule cached = serializer.deserialize(encoded);
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Installment installment : cached.getSchedule()) {
+            sum = sum.add(installment.getInterest());
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,81 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness for one rate row of a what-if sweep
+ *
+ * Compares {@link EmiSweep#fillRow} (incremental growth across tenures in
+ * double precision) with evaluating the exact formula cell by cell, which
+ * is what a sweep built from /calculate calls costs. The trial setup fails
+ * if any cell differs, so every run also verifies the row.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class EmiSweepBenchmark {
+
+    @Param({"7.0", "12.75"})
+    private String interestRate;
+
+    @Param({"1", "5"})
+    private int principalCount;
+
+    private BigDecimal monthlyRate;
+    private int[] tenures;
+    private long[] principals;
+    private long[] emis;
+    private long[] totalInterests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        monthlyRate = CalculationRules.monthlyRate(new BigDecimal(interestRate));
+        tenures = new int[349];
+        for (int i = 0; i < tenures.length; i++) {
+            tenures[i] = 12 + i;
+        }
+        principals = new long[principalCount];
+        for (int i = 0; i < principalCount; i++) {
+            principals[i] = 10_00_000_00L * (i + 1) + 12_345L;
+        }
+        emis = new long[tenures.length * principalCount];
+        totalInterests = new long[emis.length];
+
+        long[] reference = exactRow();
+        EmiSweep.fillRow(monthlyRate, tenures, principals, emis, totalInterests, 0);
+        if (!Arrays.equals(emis, reference)) {
+            throw new IllegalStateException("Sweep row differs from the exact EMI formula");
+        }
+    }
+
+    @Benchmark
+    public long[] sweepRow() {
+        EmiSweep.fillRow(monthlyRate, tenures, principals, emis, totalInterests, 0);
+        return emis;
+    }
+
+    @Benchmark
+    public long[] exactRow() {
+        long[] row = new long[tenures.length * principals.length];
+        int cell = 0;
+        for (int tenure : tenures) {
+            for (long principal : principals) {
+                row[cell++] = FixedPointMath.toMinorUnits(
+                    EmiFactorCache.exactEMI(FixedPointMath.toAmount(principal), monthlyRate, tenure));
+            }
+        }
+        return row;
+    }
+}
@@ -0,0 +1,86 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness for the calculators built on {@link ScheduleKernel}
+ *
+ * Same shape as {@link ReducingBalanceCalculatorBenchmark} so flat rate
+ * and bullet schedules can be compared with the fixed-point reducing
+ * balance engine: the columnar calculate() and the streaming variant
+ * that materialises one Installment per row.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class KernelScheduleCalculatorBenchmark {
+
+    @Param({"FLAT_RATE", "BULLET_PAYMENT"})
+    private String method;
+
+    @Param({"12", "60", "240", "360"})
+    private int tenure;
+
+    @Param({"500000.00"})
+    private String principal;
+
+    @Param({"8.5", "12.75"})
+    private String interestRate;
+
+    private KernelScheduleCalculator calculator;
+    private CalculationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AmortisationMethod amortisationMethod = AmortisationMethod.valueOf(method);
+        AmortisationProperties properties = new AmortisationProperties();
+        DueDateCalendar dueDateCalendar = new DueDateCalendar(
+            properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+        calculator = amortisationMethod == AmortisationMethod.FLAT_RATE
+            ? new FlatRateCalculator(dueDateCalendar)
+            : new BulletPaymentCalculator(dueDateCalendar);
+
+        request = CalculationRequest.builder()
+            .loanId("LN-BENCH-" + tenure)
+            .principal(new BigDecimal(principal))
+            .interestRate(new BigDecimal(interestRate))
+            .tenure(tenure)
+            .productType(ProductType.BUSINESS_LOAN)
+            .amortisationMethod(amortisationMethod)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+    }
+
+    @Benchmark
+    public EMISchedule calculate() {
+        return calculator.calculate(request);
+    }
+
+    @Benchmark
+    public EMISchedule calculateStreaming(Blackhole blackhole) {
+        return calculator.calculate(request, blackhole::consume);
+    }
+}
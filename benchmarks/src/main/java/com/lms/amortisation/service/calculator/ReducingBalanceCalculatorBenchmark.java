@@ -0,0 +1,113 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness for the reducing balance hot path
+ *
+ * Measures the full calculate() call as well as its two dominant phases
+ * (EMI formula, cached and exact, and schedule generation) in isolation, across the tenure
+ * range the API accepts, for both the BigDecimal and fixed-point engines.
+ * Run with -prof gc to get bytes allocated per op.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class ReducingBalanceCalculatorBenchmark {
+
+    @Param({"12", "60", "240", "360"})
+    private int tenure;
+
+    @Param({"500000.00", "5000000.00"})
+    private String principal;
+
+    @Param({"8.5", "12.75"})
+    private String interestRate;
+
+    @Param({"big-decimal", "fixed-point"})
+    private String engine;
+
+    private ReducingBalanceCalculator calculator;
+    private CalculationRequest request;
+    private BigDecimal principalAmount;
+    private BigDecimal monthlyRate;
+    private BigDecimal emi;
+    private LocalDate startDate;
+    private int[] dueDates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AmortisationProperties properties = new AmortisationProperties();
+        EmiFactorCache emiFactorCache = new EmiFactorCache(properties, new SimpleMeterRegistry());
+        DueDateCalendar dueDateCalendar = new DueDateCalendar(
+            properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+        calculator = "fixed-point".equals(engine)
+            ? new FixedPointReducingBalanceCalculator(emiFactorCache, dueDateCalendar)
+            : new ReducingBalanceCalculator(emiFactorCache, dueDateCalendar);
+        principalAmount = new BigDecimal(principal);
+        startDate = LocalDate.of(2025, 1, 1);
+
+        request = CalculationRequest.builder()
+            .loanId("LN-BENCH-" + tenure)
+            .principal(principalAmount)
+            .interestRate(new BigDecimal(interestRate))
+            .tenure(tenure)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(startDate)
+            .build();
+
+        monthlyRate = CalculationRules.monthlyRate(request.getInterestRate());
+        emi = calculator.calculateEMI(principalAmount, monthlyRate, tenure);
+        dueDates = dueDateCalendar.dueDates(
+            startDate, PaymentFrequency.MONTHLY, dueDateCalendar.holidayCalendar(request), tenure);
+    }
+
+    @Benchmark
+    public EMISchedule calculate() {
+        return calculator.calculate(request);
+    }
+
+    @Benchmark
+    public BigDecimal calculateEMI() {
+        return calculator.calculateEMI(principalAmount, monthlyRate, tenure);
+    }
+
+    /**
+     * Uncached reference: the full-precision (1+r)^n formula the factor cache replaces
+     */
+    @Benchmark
+    public BigDecimal calculateEMIExact() {
+        return EmiFactorCache.exactEMI(principalAmount, monthlyRate, tenure);
+    }
+
+    @Benchmark
+    public List<Installment> generateSchedule() {
+        return calculator.generateSchedule(principalAmount, emi, monthlyRate, tenure, dueDates);
+    }
+}
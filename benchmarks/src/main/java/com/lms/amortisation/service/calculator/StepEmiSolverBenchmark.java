@@ -0,0 +1,72 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import benchmarking
+import org.openjdk.jmh.annotations.*;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH harness for the step-up / step-down base installment solver
+ *
+ * Compares {@link StepEmiSolver#solve()} (closed form, then bracketed
+ * secant) with the brute-force bisection reference it must match. The
+ * trial setup fails if the two disagree, so every benchmark run also
+ * verifies the solver over the parameter grid.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class StepEmiSolverBenchmark {
+
+    @Param({"60", "240", "360"})
+    private int tenure;
+
+    @Param({"0.10", "-0.05"})
+    private String stepRate;
+
+    @Param({"1", "10000"})
+    private long roundingUnit;
+
+    @Param({"8.5", "12.75"})
+    private String interestRate;
+
+    private long principal;
+    private BigDecimal monthlyRate;
+    private BigDecimal step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        principal = 5_000_000_00L;
+        monthlyRate = CalculationRules.monthlyRate(new BigDecimal(interestRate));
+        step = new BigDecimal(stepRate);
+
+        long solved = newSolver().solve();
+        long reference = newSolver().bruteForce();
+        if (solved != reference) {
+            throw new IllegalStateException(
+                "Step EMI solver returned " + solved + " but the brute-force reference returned " + reference);
+        }
+    }
+
+    @Benchmark
+    public long solve() {
+        return newSolver().solve();
+    }
+
+    @Benchmark
+    public long bruteForce() {
+        return newSolver().bruteForce();
+    }
+
+    private StepEmiSolver newSolver() {
+        return new StepEmiSolver(principal, monthlyRate, tenure, step, 12, roundingUnit);
+    }
+}
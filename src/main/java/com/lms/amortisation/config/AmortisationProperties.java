@@ -0,0 +1,445 @@
+package com.lms.amortisation.config;
+
+// ** import types
+import com.lms.amortisation.model.enums.DayCountConvention;
+import com.lms.amortisation.model.enums.ProductType;
+
+// ** import core packages
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
+
+// ** import utils
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed binding for the app.amortisation configuration tree
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.amortisation")
+public class AmortisationProperties {
+
+    private Calculation calculation = new Calculation();
+
+    private Cache cache = new Cache();
+
+    private Bulk bulk = new Bulk();
+
+    private Sweep sweep = new Sweep();
+
+    private Batch batch = new Batch();
+
+    private Snapshot snapshot = new Snapshot();
+
+    private Projection projection = new Projection();
+
+    /**
+     * Holiday calendars by name, for due-date adjustment
+     */
+    private Map<String, Calendar> calendars = new LinkedHashMap<>();
+
+    private Compliance compliance = new Compliance();
+
+    private Diagnostics diagnostics = new Diagnostics();
+
+    /**
+     * Calculation engine settings
+     */
+    @Data
+    public static class Calculation {
+
+        /**
+         * Calculation engine: big-decimal (reference) or fixed-point
+         */
+        private String engine = "big-decimal";
+
+        /**
+         * Maximum loan tenure in months
+         */
+        private int maxTenureMonths = 360;
+
+        /**
+         * Holiday calendar for due dates when a request does not set the
+         * holidayCalendar option; empty leaves due dates unadjusted
+         * (DAILY_REDUCING has its own default)
+         */
+        private String holidayCalendar = "";
+
+        /**
+         * Due-date sequences (one per anchor day, step and calendar) kept in memory
+         */
+        private int dueDateCacheSize = 1024;
+
+        private EmiFactorCache emiFactorCache = new EmiFactorCache();
+
+        private DailyReducing dailyReducing = new DailyReducing();
+
+        private StepEmi stepEmi = new StepEmi();
+    }
+
+    /**
+     * Step-up / step-down EMI defaults (requests override with options of the same names)
+     */
+    @Data
+    public static class StepEmi {
+
+        /**
+         * Change in the installment at each step, in percent
+         */
+        private BigDecimal stepPercent = BigDecimal.TEN;
+
+        /**
+         * Installments between steps
+         */
+        private int stepMonths = 12;
+
+        /**
+         * Stepped installments are rounded to this amount in rupees; 0 keeps paise
+         */
+        private BigDecimal stepRounding = BigDecimal.ZERO;
+    }
+
+    /**
+     * Daily reducing balance settings
+     */
+    @Data
+    public static class DailyReducing {
+
+        /**
+         * Day count convention when a request does not set the dayCount option
+         */
+        private DayCountConvention dayCount = DayCountConvention.ACT_365;
+
+        /**
+         * Day-count tables (one per start date, convention and calendar) kept in memory
+         */
+        private int tableCacheSize = 4096;
+    }
+
+    /**
+     * EMI annuity-factor cache settings
+     */
+    @Data
+    public static class EmiFactorCache {
+
+        /**
+         * Maximum number of (monthly rate, tenure) factors kept in memory
+         */
+        private int maxSize = 4096;
+
+        /**
+         * Product rate cards whose factors are precomputed at startup
+         */
+        private List<RateCard> rateCards = new ArrayList<>();
+    }
+
+    /**
+     * Published annual rates and standard tenures for a product
+     */
+    @Data
+    public static class RateCard {
+
+        private ProductType productType;
+
+        /**
+         * Annual interest rates (e.g., 8.5 for 8.5%)
+         */
+        private List<BigDecimal> rates = new ArrayList<>();
+
+        /**
+         * Tenures in months
+         */
+        private List<Integer> tenures = new ArrayList<>();
+    }
+
+    /**
+     * Cache time-to-live settings (plain numbers are seconds)
+     */
+    @Data
+    public static class Cache {
+
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration productConfigTtl = Duration.ofHours(1);
+
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration interestRateTtl = Duration.ofHours(1);
+
+        /**
+         * Loan schedules and schedule checkpoints
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration calculationResultTtl = Duration.ofMinutes(15);
+
+        /**
+         * Share schedules between requests with identical loan parameters
+         * (keyed by parameter fingerprint) and coalesce concurrent identical
+         * calculations
+         */
+        private boolean parameterKeyed = true;
+
+        private NearCache near = new NearCache();
+    }
+
+    /**
+     * In-process near cache in front of Redis
+     */
+    @Data
+    public static class NearCache {
+
+        private boolean enabled = true;
+
+        /**
+         * Estimated heap budget shared by all near-cached entries
+         */
+        private DataSize maxWeight = DataSize.ofMegabytes(64);
+
+        /**
+         * Caches served through the near tier
+         */
+        private List<String> caches = new ArrayList<>(List.of("schedules", "scheduleCheckpoints", "scheduleQuotes"));
+    }
+
+    /**
+     * Bulk calculation endpoint settings
+     */
+    @Data
+    public static class Bulk {
+
+        /**
+         * Maximum number of requests accepted in one bulk call
+         */
+        private int maxItems = 1000;
+
+        /**
+         * Calculation threads; 0 uses the number of available processors
+         */
+        private int parallelism = 0;
+
+        /**
+         * Pending calculations queued before callers run them inline
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Results calculated ahead of the client when streaming NDJSON
+         */
+        private int streamWindow = 64;
+    }
+
+    /**
+     * What-if EMI sweep endpoint settings
+     */
+    @Data
+    public static class Sweep {
+
+        /**
+         * Maximum rate × tenure × principal cells in one sweep
+         */
+        private int maxCells = 500000;
+
+        /**
+         * Fork/join threads splitting the rate axis; 0 uses the number of available processors
+         */
+        private int parallelism = 0;
+    }
+
+    /**
+     * Month-end batch recalculation settings
+     */
+    @Data
+    public static class Batch {
+
+        /**
+         * Loans calculated and written per transaction
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Worker threads processing partitions concurrently
+         */
+        private int parallelThreads = 10;
+
+        /**
+         * Loan-id range partitions; 0 uses four per worker thread so that
+         * threads finishing early pick up remaining ranges
+         */
+        private int gridSize = 0;
+
+        /**
+         * Rows fetched per round trip by the loan cursor
+         */
+        private int fetchSize = 1000;
+
+        /**
+         * Installment rows sent per JDBC batch
+         */
+        private int insertBatchSize = 500;
+
+        /**
+         * Schedule writer: auto (oracle-array on an Oracle URL, jdbc-batch
+         * otherwise), oracle-array or jdbc-batch
+         */
+        private String scheduleWriter = "auto";
+
+        /**
+         * Installment rows bound per array-insert round trip (oracle-array)
+         */
+        private int arrayBindSize = 10000;
+
+        /**
+         * Attempts per chunk on transient database errors
+         */
+        private int maxRetryAttempts = 3;
+
+        /**
+         * Loans that may fail calculation before a partition fails
+         */
+        private int skipLimit = 100;
+    }
+
+    /**
+     * Portfolio cash-flow projection settings
+     */
+    @Data
+    public static class Projection {
+
+        /**
+         * Maximum months in one projection
+         */
+        private int maxMonths = 480;
+
+        /**
+         * How long a finished projection can still be fetched
+         */
+        private Duration resultTtl = Duration.ofHours(1);
+    }
+
+    /**
+     * Non-business days of a holiday calendar
+     */
+    @Data
+    public static class Calendar {
+
+        private List<DayOfWeek> weekendDays = new ArrayList<>(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        /**
+         * Dated holidays (ISO dates, e.g. 2025-01-26)
+         */
+        private List<String> holidays = new ArrayList<>();
+    }
+
+    /**
+     * Memory-mapped schedule snapshot settings
+     */
+    @Data
+    public static class Snapshot {
+
+        /**
+         * Serve loan schedules from a local snapshot rebuilt by the month-end job
+         */
+        private boolean enabled = false;
+
+        /**
+         * Snapshot file; a shared volume lets one job run serve every pod
+         */
+        private String path = "data/schedule-snapshot.bin";
+
+        /**
+         * Snapshots older than this are ignored (a missed month-end run
+         * falls back to the cache and Oracle)
+         */
+        private Duration maxAge = Duration.ofDays(35);
+
+        /**
+         * How often the file is checked for a newer snapshot
+         */
+        private Duration reloadInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Compliance audit settings
+     */
+    @Data
+    public static class Compliance {
+
+        /**
+         * Append every served calculation's audit trail to the local audit log
+         */
+        private boolean auditEnabled = true;
+
+        private String regulatoryVersion = "RBI-2024-v1";
+
+        /**
+         * Years audit logs must be kept (enforced by log archival, not this service)
+         */
+        private int retentionYears = 7;
+
+        private AuditLog auditLog = new AuditLog();
+    }
+
+    /**
+     * Append-only audit log written off the request thread
+     */
+    @Data
+    public static class AuditLog {
+
+        /**
+         * Audit log file; opened for append, never truncated. Must be an
+         * absolute path on durable storage when auditing is enabled
+         */
+        private String path = "";
+
+        /**
+         * Audit records queued for the writer; callers wait when it is full
+         */
+        private int queueCapacity = 65536;
+
+        /**
+         * Records written per drain of the queue
+         */
+        private int batchSize = 1024;
+
+        /**
+         * Longest time written records may sit in the page cache before fsync
+         */
+        private Duration fsyncInterval = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Runtime diagnostics settings
+     */
+    @Data
+    public static class Diagnostics {
+
+        /**
+         * Record virtual threads pinned to their carrier (virtual-thread mode only)
+         */
+        private boolean pinnedThreadEvents = true;
+
+        /**
+         * Minimum pinned duration worth reporting
+         */
+        private Duration pinnedThreadThreshold = Duration.ofMillis(20);
+
+        /**
+         * Time /calculate requests per phase, tagged by method, product and tenure bucket
+         */
+        private boolean phaseTimers = true;
+
+        /**
+         * Publish percentile histograms for phase timers and allocation summaries
+         */
+        private boolean phaseHistograms = true;
+    }
+}
@@ -0,0 +1,269 @@
+package com.lms.amortisation.config;
+
+// ** import types
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.repository.EmiScheduleWriter;
+import com.lms.amortisation.service.batch.LoanIdRangePartitioner;
+import com.lms.amortisation.service.batch.LoanTermsRowMapper;
+import com.lms.amortisation.service.batch.ScheduleItemWriter;
+import com.lms.amortisation.service.batch.ScheduleSnapshotPartWriter;
+import com.lms.amortisation.service.batch.ScheduleSnapshotTasklet;
+import com.lms.amortisation.service.calculator.CalculatorRegistry;
+import com.lms.amortisation.service.snapshot.ScheduleSnapshotStore;
+
+// ** import core packages
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Month-end schedule recalculation job
+ *
+ * A manager step splits the active loan book into loan-id ranges
+ * ({@link LoanIdRangePartitioner}) and hands them to worker steps running
+ * concurrently on the batch executor. Each worker:
+ * - reads its range through a JDBC cursor (no JPA entities),
+ * - calculates each loan with the calculator registered for its method,
+ * - writes schedules in bulk ({@link ScheduleItemWriter}, array binding on
+ *   Oracle),
+ * - evicts the written loans from the schedule caches on every pod once
+ *   the chunk commits.
+ *
+ * With the schedule snapshot enabled, each worker also appends its
+ * schedules to a per-partition part file ({@link ScheduleSnapshotPartWriter})
+ * and a final step merges the parts into the local memory-mapped snapshot
+ * ({@link ScheduleSnapshotTasklet}) once every partition has completed.
+ *
+ * Job instances are identified by the runDate parameter. Relaunching a
+ * failed run date restarts it: completed partitions are not repeated and
+ * unfinished ones resume after their last committed chunk.
+ *
+ * Partitions are dispatched by {@link #monthEndPartitionHandler}, which
+ * runs them on local threads. Spreading them across pods (remote
+ * partitioning) means replacing that bean with a messaging-based handler
+ * from spring-batch-integration; the partitioner and worker step are
+ * already independent of where they run.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+public class BatchConfig {
+
+    public static final String MONTH_END_JOB = "monthEndRecalculationJob";
+    public static final String RUN_DATE = "runDate";
+
+    private static final String ACTIVE_STATUS = "ACTIVE";
+
+    private static final String LOAN_RANGE_SQL =
+        "SELECT " + LoanTermsRowMapper.COLUMNS + " " +
+        "FROM LMS.LOANS l JOIN LMS.PRODUCT_CONFIG p ON p.PRODUCT_ID = l.PRODUCT_ID " +
+        "WHERE l.STATUS = ? AND l.LOAN_ID BETWEEN ? AND ? " +
+        "ORDER BY l.LOAN_ID";
+
+    private final AmortisationProperties.Batch batch;
+
+    public BatchConfig(AmortisationProperties properties) {
+        this.batch = properties.getBatch();
+    }
+
+    @Bean
+    public Job monthEndRecalculationJob(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager,
+        Step monthEndManagerStep,
+        ObjectProvider<ScheduleSnapshotStore> snapshotStore
+    ) {
+        SimpleJobBuilder job = new JobBuilder(MONTH_END_JOB, jobRepository)
+            .start(monthEndManagerStep);
+
+        ScheduleSnapshotStore store = snapshotStore.getIfAvailable();
+        if (store != null) {
+            job.next(new StepBuilder("scheduleSnapshotStep", jobRepository)
+                .tasklet(new ScheduleSnapshotTasklet(store, RUN_DATE), transactionManager)
+                .build());
+        }
+        return job.build();
+    }
+
+    @Bean
+    public Step monthEndManagerStep(
+        JobRepository jobRepository,
+        JdbcTemplate jdbcTemplate,
+        PartitionHandler monthEndPartitionHandler
+    ) {
+        return new StepBuilder("monthEndManagerStep", jobRepository)
+            .partitioner("monthEndWorkerStep", new LoanIdRangePartitioner(jdbcTemplate, ACTIVE_STATUS))
+            .partitionHandler(monthEndPartitionHandler)
+            .build();
+    }
+
+    /**
+     * Runs partitions as local worker steps on the batch executor
+     *
+     * @param monthEndWorkerStep Worker step executed once per partition
+     * @param batchExecutor Worker threads
+     * @return Local partition handler
+     */
+    @Bean
+    public PartitionHandler monthEndPartitionHandler(
+        Step monthEndWorkerStep,
+        @Qualifier("batchExecutor") TaskExecutor batchExecutor
+    ) {
+        int gridSize = batch.getGridSize() > 0 ? batch.getGridSize() : batch.getParallelThreads() * 4;
+
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(monthEndWorkerStep);
+        handler.setTaskExecutor(batchExecutor);
+        handler.setGridSize(gridSize);
+        return handler;
+    }
+
+    @Bean
+    public Step monthEndWorkerStep(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager,
+        JdbcCursorItemReader<CalculationRequest> loanTermsReader,
+        ItemProcessor<CalculationRequest, EMISchedule> scheduleProcessor,
+        ScheduleItemWriter scheduleItemWriter,
+        ObjectProvider<ScheduleSnapshotPartWriter> snapshotPartWriter
+    ) {
+        ItemWriter<EMISchedule> writer = scheduleItemWriter;
+        ScheduleSnapshotPartWriter partWriter = snapshotPartWriter.getIfAvailable();
+        if (partWriter != null) {
+            // ** database first: a failed part write rolls the chunk's rows back too
+            CompositeItemWriter<EMISchedule> composite = new CompositeItemWriter<>();
+            composite.setDelegates(List.of(scheduleItemWriter, partWriter));
+            writer = composite;
+        }
+
+        return new StepBuilder("monthEndWorkerStep", jobRepository)
+            .<CalculationRequest, EMISchedule>chunk(batch.getChunkSize(), transactionManager)
+            .reader(loanTermsReader)
+            .processor(scheduleProcessor)
+            .writer(writer)
+            .faultTolerant()
+            // Calculations are pure, so a rollback never needs to repeat them
+            .processorNonTransactional()
+            .skip(CalculationException.class)
+            .skipLimit(batch.getSkipLimit())
+            .retry(TransientDataAccessException.class)
+            .retryLimit(batch.getMaxRetryAttempts())
+            .listener(new SkipListener<CalculationRequest, EMISchedule>() {
+                @Override
+                public void onSkipInProcess(CalculationRequest item, Throwable t) {
+                    log.warn("Skipped loanId {} in month-end run: {}", item.getLoanId(), t.getMessage());
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Cursor over one partition's loan-id range
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<CalculationRequest> loanTermsReader(
+        DataSource dataSource,
+        @Value("#{stepExecutionContext['" + LoanIdRangePartitioner.MIN_LOAN_ID + "']}") String minLoanId,
+        @Value("#{stepExecutionContext['" + LoanIdRangePartitioner.MAX_LOAN_ID + "']}") String maxLoanId
+    ) {
+        return new JdbcCursorItemReaderBuilder<CalculationRequest>()
+            .name("loanTermsReader")
+            .dataSource(dataSource)
+            .sql(LOAN_RANGE_SQL)
+            .queryArguments(ACTIVE_STATUS, minLoanId, maxLoanId)
+            .rowMapper(new LoanTermsRowMapper())
+            .fetchSize(batch.getFetchSize())
+            .saveState(true)
+            .build();
+    }
+
+    /**
+     * Calculates a loan with the calculator registered for its method
+     *
+     * Goes straight to the registry: month-end runs touch every loan once,
+     * so the request-path caches would only be polluted.
+     */
+    @Bean
+    public ItemProcessor<CalculationRequest, EMISchedule> scheduleProcessor(CalculatorRegistry calculatorRegistry) {
+        return request -> calculatorRegistry.get(request.getAmortisationMethod()).calculate(request);
+    }
+
+    @Bean
+    @StepScope
+    public ScheduleItemWriter scheduleItemWriter(
+        EmiScheduleWriter emiScheduleWriter,
+        JdbcTemplate jdbcTemplate,
+        CacheManager cacheManager,
+        @Value("#{jobParameters['" + RUN_DATE + "']}") LocalDate runDate
+    ) {
+        return new ScheduleItemWriter(emiScheduleWriter, jdbcTemplate, cacheManager, runDate);
+    }
+
+    /**
+     * Appends a partition's schedules to its part of the next snapshot
+     */
+    @Bean
+    @StepScope
+    @ConditionalOnProperty(prefix = "app.amortisation.snapshot", name = "enabled", havingValue = "true")
+    public ScheduleSnapshotPartWriter scheduleSnapshotPartWriter(
+        ScheduleSnapshotStore snapshotStore,
+        @Value("#{jobParameters['" + RUN_DATE + "']}") LocalDate runDate,
+        @Value("#{stepExecution.stepName}") String partitionName
+    ) {
+        return new ScheduleSnapshotPartWriter(
+            ScheduleSnapshotTasklet.partFile(snapshotStore.partsDirectory(runDate), partitionName));
+    }
+
+    /**
+     * Worker threads for month-end partitions
+     *
+     * Each running partition holds two pooled connections (cursor and
+     * chunk transaction), so parallel-threads must stay well inside the
+     * Hikari pool size.
+     */
+    @Bean(name = "batchExecutor")
+    public ThreadPoolTaskExecutor batchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batch.getParallelThreads());
+        executor.setMaxPoolSize(batch.getParallelThreads());
+        executor.setThreadNamePrefix("batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
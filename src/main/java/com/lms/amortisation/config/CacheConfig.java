@@ -0,0 +1,134 @@
+package com.lms.amortisation.config;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.service.cache.EMIScheduleRedisSerializer;
+import com.lms.amortisation.service.cache.TwoTierCacheManager;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+// ** import utils
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cache definitions: Redis, optionally fronted by an in-process near tier
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Calculated schedules of loans of record, keyed by loan ID
+     */
+    public static final String SCHEDULES = "schedules";
+
+    /**
+     * Random-access checkpoints of loans of record, keyed by loan ID
+     */
+    public static final String SCHEDULE_CHECKPOINTS = "scheduleCheckpoints";
+
+    /**
+     * Calculated schedules shared by requests with identical parameters,
+     * keyed by {@link com.lms.amortisation.service.cache.CalculationFingerprint}
+     */
+    public static final String SCHEDULE_QUOTES = "scheduleQuotes";
+
+    /**
+     * Cache manager
+     *
+     * The Redis tier keeps the spring.cache.redis defaults plus per-cache
+     * TTLs and serialisation: schedules use the compact binary encoding of
+     * {@link EMIScheduleRedisSerializer} (JSON written by earlier releases
+     * is still read with the application ObjectMapper); checkpoints are
+     * small Serializable objects and keep the default JDK serialisation.
+     *
+     * Caches listed under app.amortisation.cache.near get a Caffeine tier
+     * in front of Redis, so repeated lookups of a hot loan skip the network
+     * round trip and deserialisation. With the near tier disabled no cache
+     * is wrapped and behaviour is Redis-only.
+     *
+     * @return Cache manager (replaces the auto-configured RedisCacheManager)
+     */
+    @Bean
+    public TwoTierCacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        CacheProperties cacheProperties,
+        AmortisationProperties properties,
+        ObjectMapper objectMapper,
+        StringRedisTemplate redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig();
+        if (redisProperties.getTimeToLive() != null) {
+            defaults = defaults.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            defaults = defaults.disableCachingNullValues();
+        }
+
+        RedisCacheConfiguration calculationResults = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(properties.getCache().getCalculationResultTtl())
+            .disableCachingNullValues();
+
+        EMIScheduleRedisSerializer scheduleSerializer = new EMIScheduleRedisSerializer(
+            new Jackson2JsonRedisSerializer<>(objectMapper, EMISchedule.class));
+
+        RedisCacheConfiguration schedules = calculationResults.serializeValuesWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(scheduleSerializer));
+
+        RedisCacheManager redis = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(defaults)
+            .withCacheConfiguration(SCHEDULES, schedules)
+            .withCacheConfiguration(SCHEDULE_QUOTES, schedules)
+            .withCacheConfiguration(SCHEDULE_CHECKPOINTS, calculationResults)
+            .build();
+        redis.afterPropertiesSet();
+
+        AmortisationProperties.NearCache near = properties.getCache().getNear();
+        Set<String> nearCaches = near.isEnabled() ? new HashSet<>(near.getCaches()) : Set.of();
+
+        return new TwoTierCacheManager(
+            redis,
+            nearCaches,
+            near.getMaxWeight().toBytes(),
+            properties.getCache().getCalculationResultTtl(),
+            redisTemplate,
+            meterRegistry
+        );
+    }
+
+    /**
+     * Subscription to near cache invalidations from other pods
+     *
+     * @return Listener container delivering invalidation messages to the cache manager
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(
+        RedisConnectionFactory connectionFactory,
+        TwoTierCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
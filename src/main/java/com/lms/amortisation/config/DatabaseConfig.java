@@ -0,0 +1,87 @@
+package com.lms.amortisation.config;
+
+// ** import types
+import com.lms.amortisation.repository.EmiScheduleWriter;
+import com.lms.amortisation.repository.JdbcBatchEmiScheduleWriter;
+import com.lms.amortisation.repository.OracleArrayEmiScheduleWriter;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Oracle data source bound from spring.datasource.oracle
+ *
+ * The connection settings live under a vendor-specific prefix, which Spring
+ * Boot does not bind on its own. JPA, JDBC and Spring Batch
+ * auto-configuration all pick up the data source declared here.
+ *
+ * Also selects the bulk schedule writer for the database in use.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+public class DatabaseConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.oracle")
+    public DataSourceProperties oracleDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.oracle.hikari")
+    public HikariDataSource dataSource(DataSourceProperties oracleDataSourceProperties) {
+        return oracleDataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    /**
+     * Bulk writer for LMS.EMI_SCHEDULE
+     *
+     * "auto" picks array binding when the JDBC URL is Oracle and portable
+     * multi-row JDBC batches otherwise (H2 and PostgreSQL in tests and
+     * local runs). The choice is made from the URL, so startup does not
+     * need a database connection.
+     *
+     * @param oracleDataSourceProperties Data source settings
+     * @param jdbcTemplate JDBC template on the primary data source
+     * @param properties Amortisation configuration
+     * @return Schedule writer
+     */
+    @Bean
+    public EmiScheduleWriter emiScheduleWriter(
+        DataSourceProperties oracleDataSourceProperties,
+        JdbcTemplate jdbcTemplate,
+        AmortisationProperties properties
+    ) {
+        AmortisationProperties.Batch batch = properties.getBatch();
+        String writer = batch.getScheduleWriter();
+        if ("auto".equalsIgnoreCase(writer)) {
+            boolean oracle = DatabaseDriver.fromJdbcUrl(oracleDataSourceProperties.getUrl()) == DatabaseDriver.ORACLE;
+            writer = oracle ? "oracle-array" : "jdbc-batch";
+        }
+
+        EmiScheduleWriter scheduleWriter = switch (writer.toLowerCase()) {
+            case "oracle-array" -> new OracleArrayEmiScheduleWriter(jdbcTemplate, batch.getArrayBindSize());
+            case "jdbc-batch" -> new JdbcBatchEmiScheduleWriter(jdbcTemplate, batch.getInsertBatchSize());
+            default -> throw new IllegalStateException("Unknown app.amortisation.batch.schedule-writer: " + writer);
+        };
+        log.info("Using {} schedule writer", scheduleWriter.getWriterName());
+        return scheduleWriter;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lms.amortisation.config;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// ** import utils
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for calculation work and asynchronous request handling
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Spring Boot's default application executor (platform threads)
+     *
+     * Boot only auto-configures it when no other Executor bean exists, so
+     * it is declared here alongside the calculation executor. It runs
+     * {@code @Async} methods and streamed (StreamingResponseBody) responses,
+     * configured through spring.task.execution.*.
+     *
+     * @param builder Builder pre-configured from spring.task.execution
+     * @return Application task executor
+     */
+    @Lazy
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Spring Boot's default application executor (virtual threads)
+     *
+     * With spring.threads.virtual.enabled=true every {@code @Async} task and
+     * streamed response gets its own virtual thread, so tasks blocked on
+     * Redis or Oracle no longer hold a pooled platform thread.
+     *
+     * @param builder Builder pre-configured for virtual threads
+     * @return Application task executor
+     */
+    @Lazy
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Bounded pool for bulk calculation fan-out
+     *
+     * Calculations are CPU-bound, so the pool is sized to the cores rather
+     * than to request concurrency, and stays on platform threads even in
+     * virtual-thread mode. When the queue is full the submitting
+     * request thread runs the calculation itself, which throttles callers
+     * instead of rejecting their work.
+     *
+     * @param properties Amortisation configuration
+     * @return Calculation executor
+     */
+    @Bean(name = "calculationExecutor")
+    public ThreadPoolTaskExecutor calculationExecutor(AmortisationProperties properties) {
+        AmortisationProperties.Bulk bulk = properties.getBulk();
+        int parallelism = bulk.getParallelism() > 0
+            ? bulk.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(bulk.getQueueCapacity());
+        executor.setThreadNamePrefix("calc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
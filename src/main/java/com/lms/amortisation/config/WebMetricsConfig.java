@@ -0,0 +1,42 @@
+package com.lms.amortisation.config;
+
+// ** import types
+import com.lms.amortisation.controller.CalculationProfileInterceptor;
+import com.lms.amortisation.service.metrics.CalculationMetrics;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-phase calculation metrics on the request path
+ *
+ * Registers {@link CalculationProfileInterceptor} for /calculate when
+ * app.amortisation.diagnostics.phase-timers is enabled (the default).
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(
+    prefix = "app.amortisation.diagnostics",
+    name = "phase-timers",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class WebMetricsConfig implements WebMvcConfigurer {
+
+    private final CalculationMetrics calculationMetrics;
+
+    public WebMetricsConfig(CalculationMetrics calculationMetrics) {
+        this.calculationMetrics = calculationMetrics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new CalculationProfileInterceptor(calculationMetrics))
+            .addPathPatterns("/api/v1/amortisation/calculate");
+    }
+}
@@ -1,19 +1,32 @@
 package com.lms.amortisation.controller;
 
 // ** import types
+import com.lms.amortisation.model.dto.BulkCalculationResponse;
 import com.lms.amortisation.model.dto.CalculationRequest;
 import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.OutstandingBalance;
+import com.lms.amortisation.model.dto.RecalculationRequest;
+import com.lms.amortisation.model.dto.SweepRequest;
+import com.lms.amortisation.model.dto.SweepResponse;
 import com.lms.amortisation.service.AmortisationService;
+import com.lms.amortisation.service.BulkCalculationService;
+import com.lms.amortisation.service.EmiSweepService;
+import com.lms.amortisation.util.NdjsonWriter;
 
 // ** import core packages
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 // ** import validation
 import jakarta.validation.Valid;
 
 // ** import utils
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.micrometer.core.annotation.Timed;
@@ -22,13 +35,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * REST Controller for amortisation calculations
  *
  * Provides endpoints for:
  * - Real-time EMI calculation
+ * - Bulk calculation for quote comparisons
+ * - Streaming NDJSON output (Accept: application/x-ndjson)
+ * - What-if EMI sweeps over rate, tenure and principal grids
  * - Schedule retrieval
+ * - Single installment and outstanding balance lookups
  * - Recalculation with edge cases
  *
  * @author LMS Team
@@ -43,6 +63,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class AmortisationController {
 
     private final AmortisationService amortisationService;
+    private final BulkCalculationService bulkCalculationService;
+    private final EmiSweepService emiSweepService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Calculate EMI schedule for a loan
@@ -66,17 +89,204 @@ public class AmortisationController {
     public ResponseEntity<EMISchedule> calculateEMI(
         @Valid @RequestBody CalculationRequest request
     ) {
-        log.info("Received calculation request for loanId: {}, productType: {}, method: {}",
+        log.debug("Received calculation request for loanId: {}, productType: {}, method: {}",
             request.getLoanId(), request.getProductType(), request.getAmortisationMethod());
 
         EMISchedule schedule = amortisationService.calculate(request);
 
-        log.info("Calculation completed for loanId: {}. EMI: {}, Installments: {}",
+        log.debug("Calculation completed for loanId: {}. EMI: {}, Installments: {}",
             request.getLoanId(), schedule.getEmi(), schedule.getInstallmentCount());
 
         return ResponseEntity.ok(schedule);
     }
 
+    /**
+     * Calculate EMI schedule for a loan as NDJSON
+     *
+     * Writes one installment per line as it is calculated, followed by a
+     * final line with the schedule summary (EMI, totals, audit trail and
+     * installmentCount, without the installment list).
+     *
+     * @param request Calculation request with loan parameters
+     * @return Streamed installments followed by the summary
+     */
+    @PostMapping(value = "/calculate", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.calculate.stream", description = "Time taken to set up a streamed EMI calculation")
+    @Operation(
+        summary = "Calculate EMI Schedule (NDJSON)",
+        description = "Stream installments one per line, then the schedule summary"
+    )
+    public ResponseEntity<StreamingResponseBody> calculateEMIStream(
+        @Valid @RequestBody CalculationRequest request
+    ) {
+        log.debug("Received streaming calculation request for loanId: {}, productType: {}, method: {}",
+            request.getLoanId(), request.getProductType(), request.getAmortisationMethod());
+
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, false)) {
+                EMISchedule summary = amortisationService.calculate(request, writer::emit);
+                writer.write(summary);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Calculate EMI schedules for many loans in one call
+     *
+     * Each request is validated individually; invalid or failing items
+     * are reported in place without failing the rest of the batch.
+     *
+     * @param requests Calculation requests (1 to app.amortisation.bulk.max-items)
+     * @return Per-request schedules or errors in input order
+     */
+    @PostMapping("/calculate/bulk")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.calculate.bulk", description = "Time taken to calculate a bulk request")
+    @Operation(
+        summary = "Calculate EMI Schedules in Bulk",
+        description = "Calculate many EMI schedules in parallel, returning per-item results or errors in input order"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty batch or too many requests"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkCalculationResponse> calculateBulk(
+        @RequestBody List<CalculationRequest> requests
+    ) {
+        if (requests.isEmpty() || requests.size() > bulkCalculationService.getMaxItems()) {
+            log.warn("Rejected bulk calculation with {} requests (limit {})",
+                requests.size(), bulkCalculationService.getMaxItems());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Received bulk calculation request with {} items", requests.size());
+
+        BulkCalculationResponse response = bulkCalculationService.calculate(requests);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Calculate EMI schedules for many loans as NDJSON
+     *
+     * Writes one per-item result per line in input order as soon as it is
+     * ready. Only a bounded window of results is calculated ahead of the
+     * client, so memory does not grow with the batch size.
+     *
+     * @param requests Calculation requests (1 to app.amortisation.bulk.max-items)
+     * @return Streamed per-request schedules or errors
+     */
+    @PostMapping(value = "/calculate/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.calculate.bulk.stream", description = "Time taken to set up a streamed bulk calculation")
+    @Operation(
+        summary = "Calculate EMI Schedules in Bulk (NDJSON)",
+        description = "Stream per-item results one per line in input order"
+    )
+    public ResponseEntity<StreamingResponseBody> calculateBulkStream(
+        @RequestBody List<CalculationRequest> requests
+    ) {
+        if (requests.isEmpty() || requests.size() > bulkCalculationService.getMaxItems()) {
+            log.warn("Rejected bulk calculation with {} requests (limit {})",
+                requests.size(), bulkCalculationService.getMaxItems());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Received streaming bulk calculation request with {} items", requests.size());
+
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, true)) {
+                bulkCalculationService.stream(requests, writer::emit);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Calculate EMIs for every cell of a rate × tenure × principal grid
+     *
+     * Returns reducing balance EMI and total interest per cell without
+     * generating schedules.
+     *
+     * @param request Rate, tenure and principal axes (up to app.amortisation.sweep.max-cells cells)
+     * @return Axes and flat per-cell figures in minor units
+     */
+    @PostMapping("/sweep")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.sweep", description = "Time taken to calculate a what-if sweep")
+    @Operation(
+        summary = "What-if EMI Sweep",
+        description = "Reducing balance EMI and total interest for every rate, tenure and principal combination"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sweep successful"),
+        @ApiResponse(responseCode = "400", description = "Invalid axes or too many cells"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<SweepResponse> sweep(
+        @Valid @RequestBody SweepRequest request
+    ) {
+        long cells = emiSweepService.countCells(request);
+        if (cells == 0 || cells > emiSweepService.getMaxCells()) {
+            log.warn("Rejected sweep with {} cells (limit {})", cells, emiSweepService.getMaxCells());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Received sweep request with {} cells", cells);
+
+        SweepResponse response = emiSweepService.sweep(request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recalculate an existing schedule from the installment an event takes effect
+     *
+     * Installments before the event are returned unchanged; only the tail
+     * is regenerated.
+     *
+     * @param request Loan terms, existing schedule and event
+     * @return Recalculated EMI schedule
+     */
+    @PostMapping("/recalculate")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.recalculate", description = "Time taken to recalculate a schedule tail")
+    @Operation(
+        summary = "Recalculate EMI Schedule",
+        description = "Apply a rate reset, part-prepayment or payment holiday at an installment and regenerate the remaining schedule"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recalculation successful"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<EMISchedule> recalculate(
+        @Valid @RequestBody RecalculationRequest request
+    ) {
+        log.debug("Received recalculation request for loanId: {} from installment {}",
+            request.getLoan().getLoanId(), request.getEvent().getInstallmentNumber());
+
+        EMISchedule schedule = amortisationService.recalculate(request);
+
+        return ResponseEntity.ok(schedule);
+    }
+
     /**
      * Get existing loan schedule
      *
@@ -111,6 +321,76 @@ public class AmortisationController {
         return ResponseEntity.ok(schedule);
     }
 
+    /**
+     * Get a single installment of an existing loan schedule
+     *
+     * @param loanId Loan identifier
+     * @param installmentNumber Installment number (1 to tenure)
+     * @return The installment, without generating the full schedule
+     */
+    @GetMapping("/schedule/{loanId}/installment/{installmentNumber}")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.get.installment", description = "Time taken to retrieve a single installment")
+    @Operation(
+        summary = "Get Installment",
+        description = "Retrieve one installment of a loan schedule without generating the full schedule"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Installment retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Loan or installment not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Installment> getInstallment(
+        @PathVariable String loanId,
+        @PathVariable int installmentNumber
+    ) {
+        log.debug("Retrieving installment {} for loanId: {}", installmentNumber, loanId);
+
+        Installment installment = amortisationService.getInstallment(loanId, installmentNumber);
+
+        if (installment == null) {
+            log.warn("Installment {} not found for loanId: {}", installmentNumber, loanId);
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(installment);
+    }
+
+    /**
+     * Get the outstanding balance of an existing loan at a date
+     *
+     * @param loanId Loan identifier
+     * @param asOf Valuation date (ISO yyyy-MM-dd)
+     * @return Outstanding principal after installments due on or before asOf
+     */
+    @GetMapping("/schedule/{loanId}/outstanding")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:calculate')")
+    @Timed(value = "amortisation.get.outstanding", description = "Time taken to retrieve an outstanding balance")
+    @Operation(
+        summary = "Get Outstanding Balance",
+        description = "Outstanding principal after all installments due on or before the given date"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Outstanding balance retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Loan not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<OutstandingBalance> getOutstanding(
+        @PathVariable String loanId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        log.debug("Retrieving outstanding balance as of {} for loanId: {}", asOf, loanId);
+
+        OutstandingBalance outstanding = amortisationService.getOutstanding(loanId, asOf);
+
+        if (outstanding == null) {
+            log.warn("Outstanding balance not found for loanId: {}", loanId);
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(outstanding);
+    }
+
     /**
      * Health check endpoint
      *
@@ -0,0 +1,102 @@
+package com.lms.amortisation.controller;
+
+// ** import types
+import com.lms.amortisation.model.dto.BatchJobStatus;
+import com.lms.amortisation.service.batch.BatchStatusService;
+
+// ** import core packages
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+// ** import utils
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+
+/**
+ * REST Controller for batch jobs
+ *
+ * Provides endpoints for:
+ * - Submitting (or restarting) the month-end recalculation run
+ * - Polling job execution status
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/amortisation/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Batch job APIs")
+@SecurityRequirement(name = "OAuth2")
+public class BatchController {
+
+    private final BatchStatusService batchStatusService;
+
+    /**
+     * Submit the month-end recalculation job
+     *
+     * @param runDate Run date (ISO yyyy-MM-dd); defaults to today
+     * @return Launched execution (202), or 409 if the run date is running or complete
+     */
+    @PostMapping("/submit")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:batch')")
+    @Operation(
+        summary = "Submit Month-End Job",
+        description = "Recalculate and persist schedules for all active loans; resubmitting a failed run date restarts it"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job launched"),
+        @ApiResponse(responseCode = "409", description = "Run date already running or completed"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<BatchJobStatus> submit(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate
+    ) throws JobExecutionException {
+        LocalDate effectiveRunDate = runDate != null ? runDate : LocalDate.now();
+
+        try {
+            BatchJobStatus status = batchStatusService.submitMonthEnd(effectiveRunDate);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            log.warn("Rejected month-end submission for runDate {}: {}", effectiveRunDate, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Get the status of a job execution
+     *
+     * @param executionId Job execution ID returned by submit
+     * @return Execution status with partition progress
+     */
+    @GetMapping("/{executionId}")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:batch')")
+    @Operation(summary = "Get Job Status", description = "Status and progress of a batch job execution")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status retrieved"),
+        @ApiResponse(responseCode = "404", description = "Execution not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<BatchJobStatus> getStatus(@PathVariable long executionId) {
+        BatchJobStatus status = batchStatusService.getStatus(executionId);
+
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(status);
+    }
+}
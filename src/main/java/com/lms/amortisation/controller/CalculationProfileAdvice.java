@@ -0,0 +1,44 @@
+package com.lms.amortisation.controller;
+
+// ** import types
+import com.lms.amortisation.service.metrics.CalculationProfile;
+
+// ** import core packages
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the start of response serialisation for the request's calculation profile
+ *
+ * A no-op unless {@link CalculationProfileInterceptor} bound a profile to
+ * the request.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@ControllerAdvice(assignableTypes = AmortisationController.class)
+public class CalculationProfileAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        CalculationProfile.mark();
+        return body;
+    }
+}
@@ -0,0 +1,55 @@
+package com.lms.amortisation.controller;
+
+// ** import types
+import com.lms.amortisation.service.metrics.CalculationMetrics;
+import com.lms.amortisation.service.metrics.CalculationProfile;
+
+// ** import core packages
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds a {@link CalculationProfile} to each /calculate request
+ *
+ * The profile starts before the handler runs and is recorded after the
+ * response body has been written, so the serialisation phase runs from
+ * {@link CalculationProfileAdvice} to completion. Requests that fail or
+ * switch to asynchronous streaming (NDJSON) are not recorded.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class CalculationProfileInterceptor implements AsyncHandlerInterceptor {
+
+    private final CalculationMetrics calculationMetrics;
+
+    public CalculationProfileInterceptor(CalculationMetrics calculationMetrics) {
+        this.calculationMetrics = calculationMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CalculationProfile.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Object handler,
+        Exception ex
+    ) {
+        CalculationProfile.lap(CalculationProfile.Phase.SERIALISATION);
+        CalculationProfile profile = CalculationProfile.finish();
+        if (profile != null && ex == null && response.getStatus() < 400) {
+            calculationMetrics.record(profile);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CalculationProfile.finish();
+    }
+}
@@ -0,0 +1,113 @@
+package com.lms.amortisation.controller;
+
+// ** import types
+import com.lms.amortisation.model.dto.CashFlowProjectionStatus;
+import com.lms.amortisation.service.portfolio.CashFlowProjectionService;
+
+// ** import core packages
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+// ** import utils
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+
+/**
+ * REST Controller for portfolio-level views of the loan book
+ *
+ * Provides endpoints for:
+ * - Submitting monthly principal and interest inflow projections by product type
+ * - Polling projection status and results
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/amortisation/portfolio")
+@RequiredArgsConstructor
+@Tag(name = "Portfolio", description = "Portfolio aggregation APIs")
+@SecurityRequirement(name = "OAuth2")
+public class PortfolioController {
+
+    private final CashFlowProjectionService cashFlowProjectionService;
+
+    /**
+     * Submit a projection of the active book's inflows per month
+     *
+     * Calculates every active loan, so it runs for as long as a month-end
+     * pass over the book without its database writes; poll the returned
+     * projection ID for the result.
+     *
+     * @param from Any day of the first projected month; defaults to today
+     * @param months Number of months (1 to app.amortisation.projection.max-months)
+     * @return Running projection (202), or 409 if another projection is running
+     */
+    @PostMapping("/cash-flows/projections")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:batch')")
+    @Operation(
+        summary = "Submit Portfolio Cash-Flow Projection",
+        description = "Project principal and interest inflows of the active book per month, grouped by product type"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Projection started"),
+        @ApiResponse(responseCode = "400", description = "Months out of range"),
+        @ApiResponse(responseCode = "409", description = "Another projection is running"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CashFlowProjectionStatus> submitCashFlows(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(defaultValue = "360") int months
+    ) {
+        if (months < 1 || months > cashFlowProjectionService.getMaxMonths()) {
+            log.warn("Rejected cash-flow projection over {} months (limit {})",
+                months, cashFlowProjectionService.getMaxMonths());
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDate effectiveFrom = from != null ? from : LocalDate.now();
+        CashFlowProjectionStatus status = cashFlowProjectionService.submit(effectiveFrom, months);
+
+        if (status == null) {
+            log.warn("Rejected cash-flow projection from {}: another projection is running", effectiveFrom);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        log.info("Projecting portfolio cash flows from {} over {} months as {}",
+            effectiveFrom, months, status.getProjectionId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    /**
+     * Get the status of a projection, with its cash flows once completed
+     *
+     * @param projectionId Projection ID returned by submit
+     * @return Projection status
+     */
+    @GetMapping("/cash-flows/projections/{projectionId}")
+    @PreAuthorize("hasAuthority('SCOPE_amortisation:batch')")
+    @Operation(summary = "Get Portfolio Cash-Flow Projection", description = "Status and result of a submitted projection")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status retrieved"),
+        @ApiResponse(responseCode = "404", description = "Projection not found or expired"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CashFlowProjectionStatus> getCashFlows(@PathVariable String projectionId) {
+        CashFlowProjectionStatus status = cashFlowProjectionService.getStatus(projectionId);
+
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(status);
+    }
+}
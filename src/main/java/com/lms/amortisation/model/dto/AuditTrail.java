@@ -0,0 +1,187 @@
+package com.lms.amortisation.model.dto;
+
+// ** import types
+import com.lms.amortisation.model.enums.AmortisationMethod;
+
+// ** import utils
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compliance audit trail of a calculation
+ *
+ * Captured as the calculation's method, a shared parameter {@link Template}
+ * with the raw parameter values, the calculated EMI and the regulatory
+ * version. Nothing is formatted on the calculation path: the familiar
+ * one-line text ("Amortisation Method: ... | Formula: ... | Parameters: ...
+ * | Calculated EMI: ... | Regulatory Version: ...") is rendered on first
+ * read and then kept. It is also the JSON form, so responses are
+ * unchanged.
+ *
+ * Trails read back from a cache or snapshot hold their rendered text only.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class AuditTrail {
+
+    /**
+     * Regulatory version the calculators implement
+     */
+    public static final String REGULATORY_VERSION = "RBI-2024-v1";
+
+    private final AmortisationMethod method;
+    private final Template parameters;
+    private final Object[] values;
+    private final Object emi;
+    private final Template noteTemplate;
+    private final Object[] noteValues;
+    private String rendered;
+
+    private AuditTrail(
+        AmortisationMethod method,
+        Template parameters,
+        Object[] values,
+        Object emi,
+        Template noteTemplate,
+        Object[] noteValues,
+        String rendered
+    ) {
+        this.method = method;
+        this.parameters = parameters;
+        this.values = values;
+        this.emi = emi;
+        this.noteTemplate = noteTemplate;
+        this.noteValues = noteValues;
+        this.rendered = rendered;
+    }
+
+    /**
+     * Capture the audit trail of a calculation
+     *
+     * @param method Amortisation method (its formula is rendered from it)
+     * @param parameters Parameter template of the calculator
+     * @param emi Calculated EMI
+     * @param values Parameter values, one per template placeholder
+     * @return Unrendered audit trail
+     */
+    public static AuditTrail of(AmortisationMethod method, Template parameters, Object emi, Object... values) {
+        return new AuditTrail(method, parameters, values, emi, null, null, null);
+    }
+
+    /**
+     * Audit trail restored from its rendered text
+     *
+     * @param rendered Previously rendered text
+     * @return Audit trail, or null for null text
+     */
+    @JsonCreator
+    public static AuditTrail rendered(String rendered) {
+        return rendered != null ? new AuditTrail(null, null, null, null, null, null, rendered) : null;
+    }
+
+    /**
+     * Copy with a note appended after the regulatory version
+     *
+     * @param note Note template
+     * @param values Note values, one per placeholder
+     * @return Annotated audit trail
+     */
+    public AuditTrail withNote(Template note, Object... values) {
+        if (method == null) {
+            return rendered(render() + " | " + note.render(new StringBuilder(), values));
+        }
+        return new AuditTrail(method, parameters, this.values, emi, note, values, null);
+    }
+
+    /**
+     * Amortisation method, or null for a trail restored from text
+     *
+     * @return Amortisation method
+     */
+    public AmortisationMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Render the audit trail text (once; later reads return the same string)
+     *
+     * @return Audit trail text
+     */
+    @JsonValue
+    public String render() {
+        String text = rendered;
+        if (text == null) {
+            StringBuilder out = new StringBuilder(256)
+                .append("Amortisation Method: ").append(method.name())
+                .append(" | Formula: ").append(method.getFormula())
+                .append(" | Parameters: ");
+            parameters.render(out, values)
+                .append(" | Calculated EMI: ").append(emi)
+                .append(" | Regulatory Version: ").append(REGULATORY_VERSION);
+            if (noteTemplate != null) {
+                noteTemplate.render(out.append(" | "), noteValues);
+            }
+            text = out.toString();
+            rendered = text;
+        }
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof AuditTrail that && render().equals(that.render()));
+    }
+
+    @Override
+    public int hashCode() {
+        return render().hashCode();
+    }
+
+    /**
+     * Parameter text with {} placeholders, split once so rendering only appends
+     */
+    public static final class Template {
+
+        private static final String PLACEHOLDER = "{}";
+
+        private final String[] literals;
+
+        private Template(String[] literals) {
+            this.literals = literals;
+        }
+
+        /**
+         * Compile a template
+         *
+         * @param pattern Text with one {} per value, e.g. "P={}, n={}"
+         * @return Template
+         */
+        public static Template of(String pattern) {
+            List<String> literals = new ArrayList<>();
+            int from = 0;
+            int at;
+            while ((at = pattern.indexOf(PLACEHOLDER, from)) >= 0) {
+                literals.add(pattern.substring(from, at));
+                from = at + PLACEHOLDER.length();
+            }
+            literals.add(pattern.substring(from));
+            return new Template(literals.toArray(String[]::new));
+        }
+
+        StringBuilder render(StringBuilder out, Object[] values) {
+            out.append(literals[0]);
+            for (int i = 1; i < literals.length; i++) {
+                out.append(i - 1 < values.length ? values[i - 1] : null).append(literals[i]);
+            }
+            return out;
+        }
+    }
+}
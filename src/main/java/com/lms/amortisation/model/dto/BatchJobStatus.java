@@ -0,0 +1,65 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO describing a batch job execution
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobStatus {
+
+    /**
+     * Job execution ID (poll status with it)
+     */
+    private Long executionId;
+
+    private String jobName;
+
+    /**
+     * Run date identifying the job instance
+     */
+    private LocalDate runDate;
+
+    /**
+     * Batch status (STARTING, STARTED, COMPLETED, FAILED, ...)
+     */
+    private String status;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    /**
+     * Loans read across all partitions
+     */
+    private long loansRead;
+
+    /**
+     * Schedules written across all partitions
+     */
+    private long schedulesWritten;
+
+    /**
+     * Loans skipped because they could not be calculated
+     */
+    private long loansSkipped;
+
+    /**
+     * Partitions completed out of the total
+     */
+    private int partitionsCompleted;
+
+    private int partitions;
+}
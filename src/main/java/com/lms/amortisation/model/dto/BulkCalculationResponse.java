@@ -0,0 +1,41 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Response DTO for a bulk calculation
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCalculationResponse {
+
+    /**
+     * Number of requests submitted
+     */
+    private int total;
+
+    /**
+     * Number of requests calculated successfully
+     */
+    private int succeeded;
+
+    /**
+     * Number of requests that failed validation or calculation
+     */
+    private int failed;
+
+    /**
+     * Per-request results in input order
+     */
+    private List<BulkCalculationResult> results;
+}
@@ -0,0 +1,54 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item in a bulk calculation
+ *
+ * Exactly one of schedule or error is set.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCalculationResult {
+
+    /**
+     * Position of the request in the submitted array (0-based)
+     */
+    private int index;
+
+    /**
+     * Loan ID from the request
+     */
+    private String loanId;
+
+    /**
+     * Whether the calculation succeeded
+     */
+    private boolean success;
+
+    /**
+     * Calculated schedule (on success)
+     */
+    private EMISchedule schedule;
+
+    /**
+     * Error code (on failure), e.g. VALIDATION_FAILED
+     */
+    private String errorCode;
+
+    /**
+     * Error description (on failure)
+     */
+    private String errorMessage;
+}
@@ -79,7 +79,8 @@ public class CalculationRequest {
     private LocalDate startDate;
 
     /**
-     * Payment frequency (default: MONTHLY)
+     * Payment frequency: WEEKLY, FORTNIGHTLY, MONTHLY, QUARTERLY or
+     * HALF_YEARLY (default: MONTHLY); tenure stays in months
      */
     @Builder.Default
     private String frequency = "MONTHLY";
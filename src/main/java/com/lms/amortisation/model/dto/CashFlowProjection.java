@@ -0,0 +1,50 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for a portfolio cash-flow projection
+ *
+ * Projected principal and interest inflows of the active book per
+ * calendar month, grouped by product type.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowProjection {
+
+    /**
+     * First day of the first projected month
+     */
+    private LocalDate fromMonth;
+
+    /**
+     * Number of projected months; period i is fromMonth plus i months
+     */
+    private int months;
+
+    /**
+     * Loans whose schedules were aggregated
+     */
+    private long loans;
+
+    /**
+     * Loans left out because their terms could not be calculated
+     */
+    private long skipped;
+
+    /**
+     * Per-product cash flows (products without active loans are omitted)
+     */
+    private List<ProductCashFlow> products;
+}
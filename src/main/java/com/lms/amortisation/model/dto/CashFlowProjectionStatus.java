@@ -0,0 +1,53 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO describing a submitted portfolio cash-flow projection
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowProjectionStatus {
+
+    /**
+     * Projection ID (poll status with it)
+     */
+    private String projectionId;
+
+    /**
+     * RUNNING, COMPLETED or FAILED
+     */
+    private String status;
+
+    /**
+     * Any day of the first projected month, as submitted
+     */
+    private LocalDate from;
+
+    private int months;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    /**
+     * Failure reason when FAILED
+     */
+    private String error;
+
+    /**
+     * Projected cash flows once COMPLETED
+     */
+    private CashFlowProjection projection;
+}
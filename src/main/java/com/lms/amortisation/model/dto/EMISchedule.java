@@ -1,6 +1,8 @@
 package com.lms.amortisation.model.dto;
 
 // ** import utils
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +18,7 @@ import java.util.List;
  * @version 1.0.0
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class EMISchedule {
@@ -53,15 +55,32 @@ public class EMISchedule {
     private BigDecimal totalPayment;
 
     /**
-     * Complete installment schedule
+     * Complete installment schedule (omitted when rows were streamed separately)
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Installment> schedule;
 
+    /**
+     * Columnar form of the schedule, set by calculators that produce it
+     * directly. When present and no explicit list was set, getSchedule()
+     * exposes it as a lazily materialised view.
+     */
+    @JsonIgnore
+    private ScheduleColumns columns;
+
+    /**
+     * Number of installments emitted to a row sink instead of being held
+     * in this object (streamed responses)
+     */
+    @JsonIgnore
+    private Integer streamedInstallmentCount;
+
     /**
      * Audit trail for compliance
-     * Contains calculation method, formula, and parameters
+     * Contains calculation method, formula, and parameters; rendered to
+     * its one-line text only when read
      */
-    private String auditTrail;
+    private AuditTrail auditTrail;
 
     /**
      * Calculation method used
@@ -74,12 +93,30 @@ public class EMISchedule {
     @Builder.Default
     private boolean cached = false;
 
+    /**
+     * Get complete installment schedule
+     *
+     * @return Explicit installment list, a view over the columnar form, or null
+     */
+    public List<Installment> getSchedule() {
+        if (schedule == null && columns != null) {
+            return columns.asInstallments();
+        }
+        return schedule;
+    }
+
     /**
      * Get number of installments
      *
      * @return Total number of installments
      */
     public int getInstallmentCount() {
-        return schedule != null ? schedule.size() : 0;
+        if (schedule != null) {
+            return schedule.size();
+        }
+        if (columns != null) {
+            return columns.size();
+        }
+        return streamedInstallmentCount != null ? streamedInstallmentCount : 0;
     }
 }
@@ -0,0 +1,52 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response DTO for an outstanding balance point query
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutstandingBalance {
+
+    /**
+     * Loan ID
+     */
+    private String loanId;
+
+    /**
+     * Valuation date
+     */
+    private LocalDate asOf;
+
+    /**
+     * Number of installments due on or before the valuation date
+     */
+    private Integer installmentsDue;
+
+    /**
+     * Outstanding principal after those installments
+     */
+    private BigDecimal outstandingBalance;
+
+    /**
+     * Principal repaid by those installments
+     */
+    private BigDecimal cumulativePrincipal;
+
+    /**
+     * Interest paid by those installments
+     */
+    private BigDecimal cumulativeInterest;
+}
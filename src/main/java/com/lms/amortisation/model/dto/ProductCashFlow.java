@@ -0,0 +1,55 @@
+package com.lms.amortisation.model.dto;
+
+// ** import types
+import com.lms.amortisation.model.enums.ProductType;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Projected monthly inflows of one product type
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCashFlow {
+
+    /**
+     * Product type
+     */
+    private ProductType productType;
+
+    /**
+     * Loans of this product in the projection
+     */
+    private long loans;
+
+    /**
+     * Principal due per projected month
+     */
+    private List<BigDecimal> principal;
+
+    /**
+     * Interest due per projected month
+     */
+    private List<BigDecimal> interest;
+
+    /**
+     * Principal due after the last projected month
+     */
+    private BigDecimal principalBeyondHorizon;
+
+    /**
+     * Interest due after the last projected month
+     */
+    private BigDecimal interestBeyondHorizon;
+}
@@ -0,0 +1,45 @@
+package com.lms.amortisation.model.dto;
+
+// ** import validation
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Request DTO for recalculating the tail of an existing schedule
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecalculationRequest {
+
+    /**
+     * Original loan terms; the interest rate is the one in effect before the event
+     */
+    @Valid
+    @NotNull(message = "Loan terms are required")
+    private CalculationRequest loan;
+
+    /**
+     * Existing schedule; at least the installments before the event are required
+     */
+    @NotNull(message = "Existing schedule is required")
+    private List<Installment> schedule;
+
+    /**
+     * Event applied from its installment onwards
+     */
+    @Valid
+    @NotNull(message = "Event is required")
+    private ScheduleEvent event;
+}
@@ -0,0 +1,209 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar, primitive-array form of an installment schedule
+ *
+ * Holds one parallel array per installment field: amounts as minor units
+ * (paise, scale 2) in long[] and due dates as epoch days in int[]. A 360 row
+ * schedule costs a handful of arrays instead of ~3,600 boxed BigDecimal,
+ * LocalDate and Integer objects, and rows are only turned into
+ * {@link Installment} objects when a caller actually reads them.
+ *
+ * Row identities every producer must respect:
+ * - installmentNumber = index + 1
+ * - closingBalance = openingBalance - principal
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class ScheduleColumns {
+
+    private static final int SCALE = 2;
+
+    private final int[] dueDates;
+    private final long[] openingBalances;
+    private final long[] emis;
+    private final long[] principals;
+    private final long[] interests;
+    private final long[] cumulativePrincipals;
+    private final long[] cumulativeInterests;
+    private int size;
+
+    /**
+     * Create empty columns sized for a schedule
+     *
+     * @param capacity Number of installments that will be appended
+     */
+    public ScheduleColumns(int capacity) {
+        this.dueDates = new int[capacity];
+        this.openingBalances = new long[capacity];
+        this.emis = new long[capacity];
+        this.principals = new long[capacity];
+        this.interests = new long[capacity];
+        this.cumulativePrincipals = new long[capacity];
+        this.cumulativeInterests = new long[capacity];
+    }
+
+    /**
+     * Append the next installment
+     *
+     * @param dueDate Due date as epoch day
+     * @param openingBalance Opening balance in minor units
+     * @param emi Installment amount in minor units
+     * @param principal Principal component in minor units
+     * @param interest Interest component in minor units
+     * @param cumulativePrincipal Principal paid to date in minor units
+     * @param cumulativeInterest Interest paid to date in minor units
+     */
+    public void add(
+        int dueDate,
+        long openingBalance,
+        long emi,
+        long principal,
+        long interest,
+        long cumulativePrincipal,
+        long cumulativeInterest
+    ) {
+        int index = size++;
+        dueDates[index] = dueDate;
+        openingBalances[index] = openingBalance;
+        emis[index] = emi;
+        principals[index] = principal;
+        interests[index] = interest;
+        cumulativePrincipals[index] = cumulativePrincipal;
+        cumulativeInterests[index] = cumulativeInterest;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getDueDate(int index) {
+        return dueDates[checkIndex(index)];
+    }
+
+    public long getOpeningBalance(int index) {
+        return openingBalances[checkIndex(index)];
+    }
+
+    public long getEmi(int index) {
+        return emis[checkIndex(index)];
+    }
+
+    public long getPrincipal(int index) {
+        return principals[checkIndex(index)];
+    }
+
+    public long getInterest(int index) {
+        return interests[checkIndex(index)];
+    }
+
+    public long getClosingBalance(int index) {
+        return openingBalances[checkIndex(index)] - principals[index];
+    }
+
+    public long getCumulativePrincipal(int index) {
+        return cumulativePrincipals[checkIndex(index)];
+    }
+
+    public long getCumulativeInterest(int index) {
+        return cumulativeInterests[checkIndex(index)];
+    }
+
+    /**
+     * Materialise one row as an Installment
+     *
+     * @param index Zero-based row index
+     * @return New Installment holding the row's values
+     */
+    public Installment toInstallment(int index) {
+        checkIndex(index);
+        return Installment.builder()
+            .installmentNumber(index + 1)
+            .dueDate(LocalDate.ofEpochDay(dueDates[index]))
+            .openingBalance(toAmount(openingBalances[index]))
+            .emi(toAmount(emis[index]))
+            .principal(toAmount(principals[index]))
+            .interest(toAmount(interests[index]))
+            .closingBalance(toAmount(openingBalances[index] - principals[index]))
+            .cumulativePrincipal(toAmount(cumulativePrincipals[index]))
+            .cumulativeInterest(toAmount(cumulativeInterests[index]))
+            .build();
+    }
+
+    /**
+     * Read-only list view over the rows
+     *
+     * Each get() materialises a fresh Installment, so callers that iterate
+     * once (Jackson, streaming) hold at most one row at a time. Changes made
+     * to returned Installments are not written back.
+     *
+     * @return Lazily materialising list of installments
+     */
+    public List<Installment> asInstallments() {
+        return new InstallmentView();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ScheduleColumns that) || size != that.size) {
+            return false;
+        }
+        return Arrays.equals(dueDates, 0, size, that.dueDates, 0, size)
+            && Arrays.equals(openingBalances, 0, size, that.openingBalances, 0, size)
+            && Arrays.equals(emis, 0, size, that.emis, 0, size)
+            && Arrays.equals(principals, 0, size, that.principals, 0, size)
+            && Arrays.equals(interests, 0, size, that.interests, 0, size)
+            && Arrays.equals(cumulativePrincipals, 0, size, that.cumulativePrincipals, 0, size)
+            && Arrays.equals(cumulativeInterests, 0, size, that.cumulativeInterests, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + dueDates[i];
+            result = 31 * result + Long.hashCode(openingBalances[i]);
+            result = 31 * result + Long.hashCode(principals[i]);
+        }
+        return result;
+    }
+
+    private static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Installment index " + index + " out of range for size " + size);
+        }
+        return index;
+    }
+
+    /**
+     * List view that materialises Installment rows on access
+     */
+    private final class InstallmentView extends AbstractList<Installment> implements RandomAccess {
+
+        @Override
+        public Installment get(int index) {
+            return toInstallment(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
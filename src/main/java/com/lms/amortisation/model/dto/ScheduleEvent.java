@@ -0,0 +1,55 @@
+package com.lms.amortisation.model.dto;
+
+// ** import validation
+import jakarta.validation.constraints.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * Change to a loan taking effect from one installment onwards
+ *
+ * Any combination of a rate reset, a part-prepayment and a payment holiday
+ * may be applied at the same installment. Fields left null are unchanged.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleEvent {
+
+    /**
+     * First installment affected by the event (1 to tenure)
+     */
+    @NotNull(message = "Installment number is required")
+    @Min(value = 1, message = "Installment number must be at least 1")
+    private Integer installmentNumber;
+
+    /**
+     * New annual interest rate (e.g., 8.5 for 8.5%) from this installment
+     */
+    @DecimalMin(value = "0.0", message = "Interest rate cannot be negative")
+    @DecimalMax(value = "50.0", message = "Interest rate cannot exceed 50%")
+    private BigDecimal interestRate;
+
+    /**
+     * Principal prepaid before this installment is due
+     */
+    @DecimalMin(value = "0.01", message = "Prepayment amount must be positive")
+    private BigDecimal prepaymentAmount;
+
+    /**
+     * Number of installments skipped from this installment; their interest
+     * is capitalised and the remaining installments are pushed out
+     */
+    @Min(value = 1, message = "Holiday must be at least 1 month")
+    @Max(value = 24, message = "Holiday cannot exceed 24 months")
+    private Integer holidayMonths;
+}
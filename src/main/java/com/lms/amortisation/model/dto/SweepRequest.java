@@ -0,0 +1,86 @@
+package com.lms.amortisation.model.dto;
+
+// ** import validation
+import jakarta.validation.constraints.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Request DTO for a what-if EMI sweep
+ *
+ * Describes a grid of reducing balance loans: every annual rate from
+ * rateFrom to rateTo in rateStep increments, every tenure from tenureFrom
+ * to tenureTo in tenureStep increments, and every listed principal.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepRequest {
+
+    /**
+     * Lowest annual interest rate (e.g., 7.0 for 7%)
+     */
+    @NotNull(message = "Rate from is required")
+    @DecimalMin(value = "0.0", message = "Interest rate cannot be negative")
+    @DecimalMax(value = "50.0", message = "Interest rate cannot exceed 50%")
+    private BigDecimal rateFrom;
+
+    /**
+     * Highest annual interest rate (inclusive)
+     */
+    @NotNull(message = "Rate to is required")
+    @DecimalMin(value = "0.0", message = "Interest rate cannot be negative")
+    @DecimalMax(value = "50.0", message = "Interest rate cannot exceed 50%")
+    private BigDecimal rateTo;
+
+    /**
+     * Annual rate increment (e.g., 0.05)
+     */
+    @NotNull(message = "Rate step is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Rate step must be positive")
+    private BigDecimal rateStep;
+
+    /**
+     * Shortest tenure in months
+     */
+    @NotNull(message = "Tenure from is required")
+    @Min(value = 1, message = "Tenure must be at least 1 month")
+    @Max(value = 360, message = "Tenure cannot exceed 360 months")
+    private Integer tenureFrom;
+
+    /**
+     * Longest tenure in months (inclusive)
+     */
+    @NotNull(message = "Tenure to is required")
+    @Min(value = 1, message = "Tenure must be at least 1 month")
+    @Max(value = 360, message = "Tenure cannot exceed 360 months")
+    private Integer tenureTo;
+
+    /**
+     * Tenure increment in months (default: 1)
+     */
+    @Builder.Default
+    @Min(value = 1, message = "Tenure step must be at least 1 month")
+    private int tenureStep = 1;
+
+    /**
+     * Loan principal amounts
+     */
+    @NotEmpty(message = "At least one principal is required")
+    private List<
+        @NotNull(message = "Principal amount is required")
+        @DecimalMin(value = "10000.00", message = "Principal must be at least 10,000")
+        @DecimalMax(value = "100000000.00", message = "Principal cannot exceed 10 crores")
+        @Digits(integer = 9, fraction = 2, message = "Principal must have at most two decimal places")
+        BigDecimal> principals;
+}
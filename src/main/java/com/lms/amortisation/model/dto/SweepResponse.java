@@ -0,0 +1,53 @@
+package com.lms.amortisation.model.dto;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for a what-if EMI sweep
+ *
+ * The grid is returned as flat primitive arrays in minor units (paise)
+ * rather than one object per cell. The cell for rates[i], tenures[j] and
+ * principals[k] is at index (i × tenures.length + j) × principals.length + k.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepResponse {
+
+    /**
+     * Annual interest rates of the rate axis
+     */
+    private List<BigDecimal> rates;
+
+    /**
+     * Tenures in months of the tenure axis
+     */
+    private int[] tenures;
+
+    /**
+     * Principals of the principal axis
+     */
+    private List<BigDecimal> principals;
+
+    /**
+     * Reducing balance EMI per cell in minor units, as /calculate would return it
+     */
+    private long[] emi;
+
+    /**
+     * EMI × tenure - principal per cell in minor units (a generated
+     * schedule's last installment absorbs rounding, so its total interest
+     * can differ by a few paise)
+     */
+    private long[] totalInterest;
+}
@@ -0,0 +1,77 @@
+package com.lms.amortisation.model.entity;
+
+// ** import persistence
+import jakarta.persistence.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One persisted installment of a loan schedule (LMS.EMI_SCHEDULE)
+ *
+ * Schedules are written in bulk by {@link com.lms.amortisation.repository.EmiScheduleWriter},
+ * which bypasses the persistence context; this mapping serves reads.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "EMI_SCHEDULE", schema = "LMS")
+@IdClass(EmiScheduleEntry.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmiScheduleEntry {
+
+    @Id
+    @Column(name = "LOAN_ID", length = 20)
+    private String loanId;
+
+    @Id
+    @Column(name = "INSTALLMENT_NUMBER")
+    private Integer installmentNumber;
+
+    @Column(name = "DUE_DATE", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "OPENING_BALANCE", precision = 15, scale = 2, nullable = false)
+    private BigDecimal openingBalance;
+
+    @Column(name = "EMI", precision = 15, scale = 2, nullable = false)
+    private BigDecimal emi;
+
+    @Column(name = "PRINCIPAL", precision = 15, scale = 2, nullable = false)
+    private BigDecimal principal;
+
+    @Column(name = "INTEREST", precision = 15, scale = 2, nullable = false)
+    private BigDecimal interest;
+
+    @Column(name = "CLOSING_BALANCE", precision = 15, scale = 2, nullable = false)
+    private BigDecimal closingBalance;
+
+    @Column(name = "CUMULATIVE_PRINCIPAL", precision = 15, scale = 2)
+    private BigDecimal cumulativePrincipal;
+
+    @Column(name = "CUMULATIVE_INTEREST", precision = 15, scale = 2)
+    private BigDecimal cumulativeInterest;
+
+    /**
+     * Composite key: loan and installment number
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private String loanId;
+
+        private Integer installmentNumber;
+    }
+}
@@ -0,0 +1,71 @@
+package com.lms.amortisation.model.entity;
+
+// ** import persistence
+import jakarta.persistence.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Loan master record (LMS.LOANS)
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "LOANS", schema = "LMS")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Loan {
+
+    @Id
+    @Column(name = "LOAN_ID", length = 20)
+    private String loanId;
+
+    @Column(name = "CUSTOMER_ID", nullable = false)
+    private String customerId;
+
+    @Column(name = "PRODUCT_ID", nullable = false)
+    private String productId;
+
+    @Column(name = "PRINCIPAL_AMOUNT", precision = 15, scale = 2, nullable = false)
+    private BigDecimal principalAmount;
+
+    @Column(name = "INTEREST_RATE", precision = 5, scale = 2, nullable = false)
+    private BigDecimal interestRate;
+
+    @Column(name = "TENURE_MONTHS", nullable = false)
+    private Integer tenureMonths;
+
+    @Column(name = "DISBURSEMENT_DATE", nullable = false)
+    private LocalDate disbursementDate;
+
+    @Column(name = "MATURITY_DATE", nullable = false)
+    private LocalDate maturityDate;
+
+    @Column(name = "EMI_AMOUNT", precision = 15, scale = 2)
+    private BigDecimal emiAmount;
+
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "CREATED_DATE", nullable = false)
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    /**
+     * Product configuration (amortisation method, product type)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PRODUCT_ID", insertable = false, updatable = false)
+    private ProductConfig productConfig;
+}
@@ -0,0 +1,63 @@
+package com.lms.amortisation.model.entity;
+
+// ** import persistence
+import jakarta.persistence.*;
+
+// ** import utils
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * Loan product configuration (LMS.PRODUCT_CONFIG)
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "PRODUCT_CONFIG", schema = "LMS")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductConfig {
+
+    @Id
+    @Column(name = "PRODUCT_ID", length = 20)
+    private String productId;
+
+    @Column(name = "PRODUCT_NAME", length = 100, nullable = false)
+    private String productName;
+
+    /**
+     * {@link com.lms.amortisation.model.enums.ProductType} name
+     */
+    @Column(name = "PRODUCT_TYPE", length = 50, nullable = false)
+    private String productType;
+
+    /**
+     * {@link com.lms.amortisation.model.enums.AmortisationMethod} name
+     */
+    @Column(name = "AMORTISATION_METHOD", length = 50, nullable = false)
+    private String amortisationMethod;
+
+    @Column(name = "MIN_PRINCIPAL", precision = 15, scale = 2)
+    private BigDecimal minPrincipal;
+
+    @Column(name = "MAX_PRINCIPAL", precision = 15, scale = 2)
+    private BigDecimal maxPrincipal;
+
+    @Column(name = "MIN_TENURE")
+    private Integer minTenure;
+
+    @Column(name = "MAX_TENURE")
+    private Integer maxTenure;
+
+    @Column(name = "DEFAULT_RATE", precision = 5, scale = 2)
+    private BigDecimal defaultRate;
+
+    @Column(name = "ACTIVE", nullable = false)
+    private Boolean active;
+}
@@ -0,0 +1,44 @@
+package com.lms.amortisation.model.enums;
+
+/**
+ * Day count conventions for interest accrued between due dates
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public enum DayCountConvention {
+
+    /**
+     * Actual days over a fixed 365-day year
+     * Standard for Indian retail lending
+     */
+    ACT_365("Actual/365 Fixed", "Interest = Outstanding × Rate × Days / 365"),
+
+    /**
+     * Actual days over the actual year length (ISDA)
+     * Days falling in a leap year accrue over 366
+     */
+    ACT_ACT("Actual/Actual", "Interest = Outstanding × Rate × (Days in year 1 / Length 1 + Days in year 2 / Length 2)"),
+
+    /**
+     * 30-day months over a 360-day year (30E/360)
+     * Day 31 counts as day 30
+     */
+    THIRTY_360("30/360", "Interest = Outstanding × Rate × Days360 / 360");
+
+    private final String displayName;
+    private final String formula;
+
+    DayCountConvention(String displayName, String formula) {
+        this.displayName = displayName;
+        this.formula = formula;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getFormula() {
+        return formula;
+    }
+}
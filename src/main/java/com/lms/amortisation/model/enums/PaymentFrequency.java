@@ -0,0 +1,97 @@
+package com.lms.amortisation.model.enums;
+
+/**
+ * Installment frequencies
+ *
+ * Calendar frequencies step a whole number of months from the start date
+ * (clamped to the month end like {@link java.time.LocalDate#plusMonths});
+ * the others step a fixed number of days.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public enum PaymentFrequency {
+
+    /**
+     * Every 7 days from the start date
+     */
+    WEEKLY("Weekly", 0, 7, 52),
+
+    /**
+     * Every 14 days from the start date
+     */
+    FORTNIGHTLY("Fortnightly", 0, 14, 26),
+
+    /**
+     * Same day each month as the start date
+     */
+    MONTHLY("Monthly", 1, 0, 12),
+
+    /**
+     * Same day every third month as the start date
+     */
+    QUARTERLY("Quarterly", 3, 0, 4),
+
+    /**
+     * Same day every sixth month as the start date
+     */
+    HALF_YEARLY("Half-yearly", 6, 0, 2);
+
+    private final String displayName;
+    private final int months;
+    private final int days;
+    private final int periodsPerYear;
+
+    PaymentFrequency(String displayName, int months, int days, int periodsPerYear) {
+        this.displayName = displayName;
+        this.months = months;
+        this.days = days;
+        this.periodsPerYear = periodsPerYear;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Months between installments, or 0 for a fixed-day frequency
+     */
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * Days between installments, or 0 for a calendar frequency
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Installments per year, the divisor of the annual rate
+     */
+    public int getPeriodsPerYear() {
+        return periodsPerYear;
+    }
+
+    public boolean isCalendar() {
+        return months > 0;
+    }
+
+    /**
+     * Installments in a tenure of whole months
+     *
+     * Calendar frequencies need a tenure that is a multiple of their months;
+     * fixed-day frequencies round tenure × periods per year / 12 half up
+     * (a 360 month weekly loan has 1560 installments).
+     *
+     * @param tenureMonths Tenure in months
+     * @return Installment count, or 0 if the tenure is not a whole number of installments
+     */
+    public int installments(int tenureMonths) {
+        if (isCalendar()) {
+            return tenureMonths % months == 0 ? tenureMonths / months : 0;
+        }
+        return (tenureMonths * periodsPerYear * 2 + 12) / 24;
+    }
+}
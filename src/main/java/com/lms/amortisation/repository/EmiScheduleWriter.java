@@ -0,0 +1,39 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+
+// ** import utils
+import java.util.List;
+
+/**
+ * Bulk writer for LMS.EMI_SCHEDULE
+ *
+ * Writes schedule rows straight from calculator output with plain JDBC,
+ * without JPA entities or a persistence context. Implementations run on
+ * the connection of the caller's transaction, so a rollback leaves the
+ * previous schedules in place.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public interface EmiScheduleWriter {
+
+    /**
+     * Replace the stored schedules of the given loans
+     *
+     * Existing rows of every loan are deleted before the new rows are
+     * inserted.
+     *
+     * @param schedules Schedules with loan ID set
+     * @return Number of installment rows inserted
+     */
+    int replaceSchedules(List<? extends EMISchedule> schedules);
+
+    /**
+     * Get the name of this writer
+     *
+     * @return Writer name (e.g., "oracle-array", "jdbc-batch")
+     */
+    String getWriterName();
+}
@@ -0,0 +1,145 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+
+// ** import core packages
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Portable EMI_SCHEDULE writer using multi-row INSERT statements in JDBC batches
+ *
+ * Each statement inserts {@link #ROWS_PER_STATEMENT} rows
+ * (INSERT ... VALUES (...), (...), ...) and statements are sent in JDBC
+ * batches of about batchRows rows, so a 360 row schedule costs a single
+ * round trip instead of 360 entity inserts. Runs on H2, PostgreSQL and
+ * other databases with multi-row VALUES; Oracle uses
+ * {@link OracleArrayEmiScheduleWriter}.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class JdbcBatchEmiScheduleWriter implements EmiScheduleWriter {
+
+    /**
+     * Rows per INSERT statement (10 parameters each)
+     */
+    static final int ROWS_PER_STATEMENT = 50;
+
+    private static final String DELETE_SQL = "DELETE FROM LMS.EMI_SCHEDULE WHERE LOAN_ID = ?";
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO LMS.EMI_SCHEDULE (LOAN_ID, INSTALLMENT_NUMBER, DUE_DATE, OPENING_BALANCE, EMI, " +
+        "PRINCIPAL, INTEREST, CLOSING_BALANCE, CUMULATIVE_PRINCIPAL, CUMULATIVE_INTEREST) VALUES ";
+
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_SCHEDULE_ROWS = 360;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchRows;
+    private final String multiRowInsertSql = insertSql(ROWS_PER_STATEMENT);
+    private final String singleRowInsertSql = insertSql(1);
+
+    public JdbcBatchEmiScheduleWriter(JdbcTemplate jdbcTemplate, int batchRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchRows = Math.max(ROWS_PER_STATEMENT, batchRows);
+    }
+
+    @Override
+    public int replaceSchedules(List<? extends EMISchedule> schedules) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, schedules, schedules.size(),
+            (ps, schedule) -> ps.setString(1, schedule.getLoanId()));
+
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement multiRow = connection.prepareStatement(multiRowInsertSql);
+                 PreparedStatement singleRow = connection.prepareStatement(singleRowInsertSql)) {
+
+                ScheduleRowBuffer rows = new ScheduleRowBuffer(batchRows + MAX_SCHEDULE_ROWS);
+                int inserted = 0;
+
+                for (EMISchedule schedule : schedules) {
+                    rows.add(schedule);
+                    if (rows.size >= batchRows) {
+                        inserted += writeStatements(rows, multiRow);
+                    }
+                }
+                inserted += writeStatements(rows, multiRow);
+
+                // Fewer rows than one multi-row statement remain
+                for (int i = 0; i < rows.size; i++) {
+                    bindRow(singleRow, 0, rows, i);
+                    singleRow.addBatch();
+                }
+                if (rows.size > 0) {
+                    singleRow.executeBatch();
+                    inserted += rows.size;
+                }
+                return inserted;
+            }
+        });
+    }
+
+    @Override
+    public String getWriterName() {
+        return "jdbc-batch";
+    }
+
+    /**
+     * Send the buffered rows as full multi-row statements in one batch,
+     * keeping any remainder in the buffer
+     */
+    private static int writeStatements(ScheduleRowBuffer rows, PreparedStatement multiRow) throws SQLException {
+        int statements = rows.size / ROWS_PER_STATEMENT;
+        if (statements == 0) {
+            return 0;
+        }
+
+        for (int statement = 0; statement < statements; statement++) {
+            int first = statement * ROWS_PER_STATEMENT;
+            for (int row = 0; row < ROWS_PER_STATEMENT; row++) {
+                bindRow(multiRow, row * 10, rows, first + row);
+            }
+            multiRow.addBatch();
+        }
+        multiRow.executeBatch();
+
+        int written = statements * ROWS_PER_STATEMENT;
+        rows.discard(written);
+        return written;
+    }
+
+    private static void bindRow(PreparedStatement ps, int offset, ScheduleRowBuffer rows, int i) throws SQLException {
+        ps.setString(offset + 1, rows.loanIds[i]);
+        ps.setInt(offset + 2, rows.installmentNumbers[i]);
+        ps.setObject(offset + 3, LocalDate.ofEpochDay(rows.dueDates[i]));
+        ps.setBigDecimal(offset + 4, amount(rows.openingBalances[i]));
+        ps.setBigDecimal(offset + 5, amount(rows.emis[i]));
+        ps.setBigDecimal(offset + 6, amount(rows.principals[i]));
+        ps.setBigDecimal(offset + 7, amount(rows.interests[i]));
+        ps.setBigDecimal(offset + 8, amount(rows.closingBalances[i]));
+        ps.setBigDecimal(offset + 9, amount(rows.cumulativePrincipals[i]));
+        ps.setBigDecimal(offset + 10, amount(rows.cumulativeInterests[i]));
+    }
+
+    private static BigDecimal amount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+
+    private static String insertSql(int rows) {
+        StringJoiner values = new StringJoiner(", ", INSERT_PREFIX, "");
+        for (int i = 0; i < rows; i++) {
+            values.add(ROW_PLACEHOLDERS);
+        }
+        return values.toString();
+    }
+}
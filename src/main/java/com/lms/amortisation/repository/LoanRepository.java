@@ -0,0 +1,32 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.entity.Loan;
+
+// ** import core packages
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// ** import utils
+import java.util.Optional;
+
+/**
+ * Repository for loan master records
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Repository
+public interface LoanRepository extends JpaRepository<Loan, String> {
+
+    /**
+     * Find loan by ID with product config
+     *
+     * @param loanId Loan identifier
+     * @return Loan with its product configuration loaded
+     */
+    @Query("SELECT l FROM Loan l JOIN FETCH l.productConfig WHERE l.loanId = :loanId")
+    Optional<Loan> findByIdWithProductConfig(@Param("loanId") String loanId);
+}
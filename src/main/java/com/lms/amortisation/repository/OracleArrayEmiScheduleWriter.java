@@ -0,0 +1,145 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+
+// ** import core packages
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// ** import database
+import oracle.jdbc.OracleConnection;
+
+// ** import utils
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Oracle EMI_SCHEDULE writer using array binding
+ *
+ * Buffered rows are bound as one Oracle collection per column and
+ * inserted by a FORALL in an anonymous PL/SQL block, so thousands of rows
+ * cost one round trip and one statement execution. Amounts travel as
+ * minor units and due dates as epoch days (NUMBER collections bound
+ * straight from the primitive arrays) and are converted inside the block.
+ *
+ * Needs the collection types in db/oracle/emi-schedule-array-types.sql.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class OracleArrayEmiScheduleWriter implements EmiScheduleWriter {
+
+    static final String VARCHAR_TABLE = "LMS.EMI_VARCHAR_TAB";
+    static final String NUMBER_TABLE = "LMS.EMI_NUMBER_TAB";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM LMS.EMI_SCHEDULE WHERE LOAN_ID IN (SELECT COLUMN_VALUE FROM TABLE(?))";
+
+    private static final String INSERT_SQL =
+        "DECLARE " +
+        "  loan_ids LMS.EMI_VARCHAR_TAB := ?; " +
+        "  installment_numbers LMS.EMI_NUMBER_TAB := ?; " +
+        "  due_days LMS.EMI_NUMBER_TAB := ?; " +
+        "  opening_balances LMS.EMI_NUMBER_TAB := ?; " +
+        "  emis LMS.EMI_NUMBER_TAB := ?; " +
+        "  principals LMS.EMI_NUMBER_TAB := ?; " +
+        "  interests LMS.EMI_NUMBER_TAB := ?; " +
+        "  closing_balances LMS.EMI_NUMBER_TAB := ?; " +
+        "  cumulative_principals LMS.EMI_NUMBER_TAB := ?; " +
+        "  cumulative_interests LMS.EMI_NUMBER_TAB := ?; " +
+        "BEGIN " +
+        "  FORALL i IN 1 .. loan_ids.COUNT " +
+        "    INSERT INTO LMS.EMI_SCHEDULE (LOAN_ID, INSTALLMENT_NUMBER, DUE_DATE, OPENING_BALANCE, EMI, " +
+        "      PRINCIPAL, INTEREST, CLOSING_BALANCE, CUMULATIVE_PRINCIPAL, CUMULATIVE_INTEREST) " +
+        "    VALUES (loan_ids(i), installment_numbers(i), DATE '1970-01-01' + due_days(i), " +
+        "      opening_balances(i) / 100, emis(i) / 100, principals(i) / 100, interests(i) / 100, " +
+        "      closing_balances(i) / 100, cumulative_principals(i) / 100, cumulative_interests(i) / 100); " +
+        "END;";
+
+    private static final int MAX_SCHEDULE_ROWS = 360;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int arrayRows;
+
+    public OracleArrayEmiScheduleWriter(JdbcTemplate jdbcTemplate, int arrayRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.arrayRows = Math.max(1, arrayRows);
+    }
+
+    @Override
+    public int replaceSchedules(List<? extends EMISchedule> schedules) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            OracleConnection oracle = connection.unwrap(OracleConnection.class);
+
+            String[] loanIds = schedules.stream().map(EMISchedule::getLoanId).toArray(String[]::new);
+            try (PreparedStatement delete = connection.prepareStatement(DELETE_SQL)) {
+                Array loanIdArray = oracle.createOracleArray(VARCHAR_TABLE, loanIds);
+                try {
+                    delete.setArray(1, loanIdArray);
+                    delete.executeUpdate();
+                } finally {
+                    loanIdArray.free();
+                }
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                ScheduleRowBuffer rows = new ScheduleRowBuffer(arrayRows + MAX_SCHEDULE_ROWS);
+                int inserted = 0;
+
+                for (EMISchedule schedule : schedules) {
+                    rows.add(schedule);
+                    if (rows.size >= arrayRows) {
+                        inserted += execute(oracle, insert, rows);
+                    }
+                }
+                if (rows.size > 0) {
+                    inserted += execute(oracle, insert, rows);
+                }
+                return inserted;
+            }
+        });
+    }
+
+    @Override
+    public String getWriterName() {
+        return "oracle-array";
+    }
+
+    /**
+     * Bind the buffered rows as column arrays, run the FORALL insert and clear the buffer
+     */
+    private static int execute(OracleConnection oracle, PreparedStatement insert, ScheduleRowBuffer rows)
+        throws SQLException {
+        int size = rows.size;
+        Array[] columns = {
+            oracle.createOracleArray(VARCHAR_TABLE, Arrays.copyOf(rows.loanIds, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.installmentNumbers, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.dueDates, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.openingBalances, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.emis, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.principals, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.interests, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.closingBalances, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.cumulativePrincipals, size)),
+            oracle.createOracleArray(NUMBER_TABLE, Arrays.copyOf(rows.cumulativeInterests, size))
+        };
+
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                insert.setArray(i + 1, columns[i]);
+            }
+            insert.execute();
+        } finally {
+            for (Array column : columns) {
+                column.free();
+            }
+        }
+
+        rows.clear();
+        return size;
+    }
+}
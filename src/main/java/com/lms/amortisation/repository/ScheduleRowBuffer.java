@@ -0,0 +1,152 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.service.calculator.FixedPointMath;
+
+// ** import utils
+import java.util.Arrays;
+
+/**
+ * Reusable columnar buffer of EMI_SCHEDULE rows for one write
+ *
+ * Schedules produced in columnar form are copied array to array without
+ * creating an Installment per row; other schedules are converted row by
+ * row. Amounts are held as minor units (scale 2) and due dates as epoch
+ * days, which is what both writers bind.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+final class ScheduleRowBuffer {
+
+    String[] loanIds;
+    int[] installmentNumbers;
+    int[] dueDates;
+    long[] openingBalances;
+    long[] emis;
+    long[] principals;
+    long[] interests;
+    long[] closingBalances;
+    long[] cumulativePrincipals;
+    long[] cumulativeInterests;
+    int size;
+
+    ScheduleRowBuffer(int capacity) {
+        loanIds = new String[capacity];
+        installmentNumbers = new int[capacity];
+        dueDates = new int[capacity];
+        openingBalances = new long[capacity];
+        emis = new long[capacity];
+        principals = new long[capacity];
+        interests = new long[capacity];
+        closingBalances = new long[capacity];
+        cumulativePrincipals = new long[capacity];
+        cumulativeInterests = new long[capacity];
+    }
+
+    /**
+     * Append every installment of a schedule
+     *
+     * @param schedule Schedule with loan ID set
+     * @throws ArithmeticException if an amount has sub-paisa digits
+     */
+    void add(EMISchedule schedule) {
+        String loanId = schedule.getLoanId();
+        int rows = schedule.getInstallmentCount();
+        ensureCapacity(size + rows);
+
+        ScheduleColumns columns = schedule.getColumns();
+        if (columns != null) {
+            for (int i = 0; i < rows; i++) {
+                add(loanId, i + 1, columns.getDueDate(i),
+                    columns.getOpeningBalance(i), columns.getEmi(i),
+                    columns.getPrincipal(i), columns.getInterest(i), columns.getClosingBalance(i),
+                    columns.getCumulativePrincipal(i), columns.getCumulativeInterest(i));
+            }
+            return;
+        }
+
+        for (Installment installment : schedule.getSchedule()) {
+            add(loanId, installment.getInstallmentNumber(), (int) installment.getDueDate().toEpochDay(),
+                FixedPointMath.toMinorUnits(installment.getOpeningBalance()),
+                FixedPointMath.toMinorUnits(installment.getEmi()),
+                FixedPointMath.toMinorUnits(installment.getPrincipal()),
+                FixedPointMath.toMinorUnits(installment.getInterest()),
+                FixedPointMath.toMinorUnits(installment.getClosingBalance()),
+                FixedPointMath.toMinorUnits(installment.getCumulativePrincipal()),
+                FixedPointMath.toMinorUnits(installment.getCumulativeInterest()));
+        }
+    }
+
+    /**
+     * Drop the first rows, moving the rest to the front
+     *
+     * @param rows Number of leading rows already written
+     */
+    void discard(int rows) {
+        int remaining = size - rows;
+        System.arraycopy(loanIds, rows, loanIds, 0, remaining);
+        System.arraycopy(installmentNumbers, rows, installmentNumbers, 0, remaining);
+        System.arraycopy(dueDates, rows, dueDates, 0, remaining);
+        System.arraycopy(openingBalances, rows, openingBalances, 0, remaining);
+        System.arraycopy(emis, rows, emis, 0, remaining);
+        System.arraycopy(principals, rows, principals, 0, remaining);
+        System.arraycopy(interests, rows, interests, 0, remaining);
+        System.arraycopy(closingBalances, rows, closingBalances, 0, remaining);
+        System.arraycopy(cumulativePrincipals, rows, cumulativePrincipals, 0, remaining);
+        System.arraycopy(cumulativeInterests, rows, cumulativeInterests, 0, remaining);
+        Arrays.fill(loanIds, remaining, size, null);
+        size = remaining;
+    }
+
+    void clear() {
+        // ** drop loan ID references so a pooled buffer does not pin them
+        Arrays.fill(loanIds, 0, size, null);
+        size = 0;
+    }
+
+    private void add(
+        String loanId,
+        int installmentNumber,
+        int dueDate,
+        long openingBalance,
+        long emi,
+        long principal,
+        long interest,
+        long closingBalance,
+        long cumulativePrincipal,
+        long cumulativeInterest
+    ) {
+        int index = size++;
+        loanIds[index] = loanId;
+        installmentNumbers[index] = installmentNumber;
+        dueDates[index] = dueDate;
+        openingBalances[index] = openingBalance;
+        emis[index] = emi;
+        principals[index] = principal;
+        interests[index] = interest;
+        closingBalances[index] = closingBalance;
+        cumulativePrincipals[index] = cumulativePrincipal;
+        cumulativeInterests[index] = cumulativeInterest;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= loanIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, loanIds.length * 2);
+        loanIds = Arrays.copyOf(loanIds, capacity);
+        installmentNumbers = Arrays.copyOf(installmentNumbers, capacity);
+        dueDates = Arrays.copyOf(dueDates, capacity);
+        openingBalances = Arrays.copyOf(openingBalances, capacity);
+        emis = Arrays.copyOf(emis, capacity);
+        principals = Arrays.copyOf(principals, capacity);
+        interests = Arrays.copyOf(interests, capacity);
+        closingBalances = Arrays.copyOf(closingBalances, capacity);
+        cumulativePrincipals = Arrays.copyOf(cumulativePrincipals, capacity);
+        cumulativeInterests = Arrays.copyOf(cumulativeInterests, capacity);
+    }
+}
@@ -0,0 +1,413 @@
+package com.lms.amortisation.service;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.config.CacheConfig;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.OutstandingBalance;
+import com.lms.amortisation.model.dto.RecalculationRequest;
+import com.lms.amortisation.model.entity.Loan;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.repository.LoanRepository;
+import com.lms.amortisation.service.audit.AuditLog;
+import com.lms.amortisation.service.calculator.AmortisationCalculator;
+import com.lms.amortisation.service.calculator.CalculatorRegistry;
+import com.lms.amortisation.service.calculator.IncrementalCalculator;
+import com.lms.amortisation.service.calculator.RandomAccessCalculator;
+import com.lms.amortisation.service.calculator.ScheduleCheckpoints;
+import com.lms.amortisation.service.cache.CalculationFingerprint;
+import com.lms.amortisation.service.metrics.CalculationProfile;
+import com.lms.amortisation.service.metrics.CalculationProfile.Phase;
+import com.lms.amortisation.service.snapshot.ScheduleSnapshotStore;
+import com.lms.amortisation.util.SingleFlight;
+
+// ** import core packages
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Amortisation service
+ *
+ * Entry point for calculations and loan-of-record lookups:
+ * - Ad-hoc calculations are dispatched to the calculator for the requested
+ *   method through {@link CalculatorRegistry}. Their schedules are cached
+ *   by {@link CalculationFingerprint}, so requests for different loans with
+ *   identical parameters share one result, and concurrent identical
+ *   calculations are coalesced into one
+ * - Schedules of existing loans are served from the local snapshot when
+ *   enabled ({@link ScheduleSnapshotStore}), then the schedules cache, or
+ *   recalculated from the loan's terms in LMS.LOANS and cached
+ * - Single installments and outstanding balances use cached checkpoints
+ *   where the loan's calculator supports random access
+ * - Rate resets, prepayments and holidays regenerate only the tail of a
+ *   schedule where the calculator supports it ({@link IncrementalCalculator})
+ * - Every served calculation's audit trail is queued to the {@link AuditLog}
+ *   when compliance auditing is enabled
+ *
+ * Cache failures are logged and treated as misses so that a Redis outage
+ * degrades latency rather than availability.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class AmortisationService {
+
+    private final CalculatorRegistry calculatorRegistry;
+    private final LoanRepository loanRepository;
+    private final CacheManager cacheManager;
+    private final ScheduleSnapshotStore snapshotStore;
+    private final AuditLog auditLog;
+    private final boolean parameterKeyed;
+    private final String fingerprintSettings;
+    private final SingleFlight<String, EMISchedule> calculations = new SingleFlight<>();
+
+    public AmortisationService(
+        CalculatorRegistry calculatorRegistry,
+        LoanRepository loanRepository,
+        CacheManager cacheManager,
+        AmortisationProperties properties,
+        MeterRegistry meterRegistry,
+        ObjectProvider<ScheduleSnapshotStore> snapshotStore,
+        ObjectProvider<AuditLog> auditLog
+    ) {
+        this.calculatorRegistry = calculatorRegistry;
+        this.loanRepository = loanRepository;
+        this.cacheManager = cacheManager;
+        this.snapshotStore = snapshotStore.getIfAvailable();
+        this.auditLog = auditLog.getIfAvailable();
+        this.parameterKeyed = properties.getCache().isParameterKeyed();
+        this.fingerprintSettings = CalculationFingerprint.settings(properties);
+
+        FunctionCounter.builder("amortisation.calculate.coalesced", calculations, SingleFlight::getCoalescedCount)
+            .description("Calculations served by joining an identical calculation already in flight")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Calculate EMI schedule for a loan
+     *
+     * @param request Calculation request with loan parameters
+     * @return Complete EMI schedule (cached flag set when served from cache)
+     * @throws CalculationException if no calculator supports the method or calculation fails
+     */
+    public EMISchedule calculate(CalculationRequest request) {
+        CalculationProfile.describe(request);
+        AmortisationCalculator calculator = calculatorRegistry.get(request.getAmortisationMethod());
+        CalculationProfile.mark();
+        if (!parameterKeyed) {
+            return audit(request, calculator.calculate(request));
+        }
+
+        String fingerprint = CalculationFingerprint.of(request, fingerprintSettings);
+        EMISchedule shared = cacheGet(CacheConfig.SCHEDULE_QUOTES, fingerprint, EMISchedule.class);
+        CalculationProfile.lap(Phase.CACHE);
+        if (shared != null) {
+            log.debug("Parameter-keyed cache hit for loanId: {}", request.getLoanId());
+            return audit(request, forRequest(calculator, shared, request, true));
+        }
+
+        shared = calculations.execute(fingerprint, () -> {
+            EMISchedule calculated = calculator.calculate(request);
+            CalculationProfile.mark();
+            cachePut(CacheConfig.SCHEDULE_QUOTES, fingerprint, calculated);
+            CalculationProfile.lap(Phase.CACHE);
+            return calculated;
+        });
+        return audit(request, forRequest(calculator, shared, request, false));
+    }
+
+    /**
+     * Calculate EMI schedule, handing each installment to a sink as it is produced
+     *
+     * A schedule already cached for identical parameters is replayed to the
+     * sink; otherwise rows are streamed as they are calculated and not cached.
+     *
+     * @param request Calculation request with loan parameters
+     * @param rowSink Receives installments in order
+     * @return Schedule summary without the installment list
+     * @throws CalculationException if no calculator supports the method or calculation fails
+     */
+    public EMISchedule calculate(CalculationRequest request, Consumer<Installment> rowSink) {
+        AmortisationCalculator calculator = calculatorRegistry.get(request.getAmortisationMethod());
+        if (parameterKeyed) {
+            EMISchedule shared = cacheGet(
+                CacheConfig.SCHEDULE_QUOTES, CalculationFingerprint.of(request, fingerprintSettings), EMISchedule.class);
+            if (shared != null) {
+                shared.getSchedule().forEach(rowSink);
+                return audit(request, forRequest(calculator, shared, request, true).toBuilder()
+                    .schedule(null)
+                    .columns(null)
+                    .streamedInstallmentCount(shared.getInstallmentCount())
+                    .build());
+            }
+        }
+        return audit(request, calculator.calculate(request, rowSink));
+    }
+
+    /**
+     * Regenerate the tail of an existing schedule after a rate reset,
+     * part-prepayment or payment holiday
+     *
+     * @param request Loan terms, existing schedule and event
+     * @return Schedule with installments before the event unchanged
+     * @throws CalculationException if the method does not support recalculation or the event does not fit
+     */
+    public EMISchedule recalculate(RecalculationRequest request) {
+        CalculationRequest loan = request.getLoan();
+        AmortisationCalculator calculator = calculatorRegistry.get(loan.getAmortisationMethod());
+        if (!(calculator instanceof IncrementalCalculator incremental)) {
+            throw new CalculationException(
+                "Recalculation not supported for method: " + loan.getAmortisationMethod(), "UNSUPPORTED_METHOD");
+        }
+        return audit(loan, incremental.recalculate(loan, request.getSchedule(), request.getEvent()));
+    }
+
+    /**
+     * Queue a served schedule's audit trail to the audit log, if enabled
+     *
+     * @param request Request the schedule was served for
+     * @param schedule Served schedule
+     * @return The schedule
+     */
+    private EMISchedule audit(CalculationRequest request, EMISchedule schedule) {
+        if (auditLog != null) {
+            auditLog.append(request.getLoanId(), request.getRequestedBy(), schedule.getAuditTrail());
+        }
+        return schedule;
+    }
+
+    /**
+     * Get the schedule of an existing loan
+     *
+     * @param loanId Loan identifier
+     * @return EMI schedule (cached flag set when served from cache), or null if the loan does not exist
+     */
+    public EMISchedule getSchedule(String loanId) {
+        if (snapshotStore != null) {
+            EMISchedule snapshot = snapshotStore.find(loanId);
+            if (snapshot != null) {
+                log.debug("Schedule snapshot hit for loanId: {}", loanId);
+                snapshot.setCached(true);
+                return snapshot;
+            }
+        }
+
+        EMISchedule cached = cacheGet(CacheConfig.SCHEDULES, loanId, EMISchedule.class);
+        if (cached != null) {
+            log.debug("Schedule cache hit for loanId: {}", loanId);
+            // Near-cached instances are shared: flag a shallow copy
+            return cached.toBuilder().cached(true).build();
+        }
+
+        CalculationRequest terms = loadTerms(loanId);
+        if (terms == null) {
+            return null;
+        }
+
+        EMISchedule schedule = calculate(terms);
+        cachePut(CacheConfig.SCHEDULES, loanId, schedule);
+        return schedule;
+    }
+
+    /**
+     * Get a single installment of an existing loan
+     *
+     * @param loanId Loan identifier
+     * @param installmentNumber Installment number (1 to tenure)
+     * @return The installment, or null if the loan or installment does not exist
+     */
+    public Installment getInstallment(String loanId, int installmentNumber) {
+        ScheduleCheckpoints checkpoints = getCheckpoints(loanId);
+
+        if (checkpoints != null) {
+            if (installmentNumber < 1 || installmentNumber > checkpoints.getTenure()) {
+                return null;
+            }
+            return randomAccess(checkpoints).locateInstallment(checkpoints, installmentNumber);
+        }
+
+        // Calculator without random access (or loan outside its range): use the full schedule
+        EMISchedule schedule = getSchedule(loanId);
+        if (schedule == null || installmentNumber < 1 || installmentNumber > schedule.getInstallmentCount()) {
+            return null;
+        }
+        return schedule.getSchedule().get(installmentNumber - 1);
+    }
+
+    /**
+     * Get the outstanding balance of an existing loan at a date
+     *
+     * @param loanId Loan identifier
+     * @param asOf Valuation date
+     * @return Outstanding balance after installments due on or before asOf, or null if the loan does not exist
+     */
+    public OutstandingBalance getOutstanding(String loanId, LocalDate asOf) {
+        ScheduleCheckpoints checkpoints = getCheckpoints(loanId);
+
+        OutstandingBalance outstanding;
+        if (checkpoints != null) {
+            outstanding = randomAccess(checkpoints).locateOutstanding(checkpoints, asOf);
+        } else {
+            EMISchedule schedule = getSchedule(loanId);
+            if (schedule == null) {
+                return null;
+            }
+            outstanding = outstandingFromSchedule(schedule.getSchedule(), asOf);
+        }
+
+        outstanding.setLoanId(loanId);
+        return outstanding;
+    }
+
+    /**
+     * Checkpoints for an existing loan, from cache or built from its terms
+     *
+     * @return Checkpoints, or null if the loan does not exist or its
+     *         calculator cannot build them
+     */
+    private ScheduleCheckpoints getCheckpoints(String loanId) {
+        ScheduleCheckpoints cached = cacheGet(CacheConfig.SCHEDULE_CHECKPOINTS, loanId, ScheduleCheckpoints.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        CalculationRequest terms = loadTerms(loanId);
+        if (terms == null) {
+            return null;
+        }
+
+        AmortisationCalculator calculator = calculatorRegistry.get(terms.getAmortisationMethod());
+        if (!(calculator instanceof RandomAccessCalculator randomAccess)) {
+            return null;
+        }
+
+        ScheduleCheckpoints checkpoints = randomAccess.buildCheckpoints(terms);
+        if (checkpoints != null) {
+            cachePut(CacheConfig.SCHEDULE_CHECKPOINTS, loanId, checkpoints);
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Label a shared schedule with the requesting loan
+     *
+     * The schedule may have been calculated for another loan whose request
+     * spelled its numbers differently, so the audit trail is restated from
+     * this request. Shared instances may be held by the near cache or by
+     * concurrent callers, so they are never modified: the copy shares the
+     * read-only installment data.
+     */
+    private static EMISchedule forRequest(
+        AmortisationCalculator calculator, EMISchedule shared, CalculationRequest request, boolean cached
+    ) {
+        return shared.toBuilder()
+            .loanId(request.getLoanId())
+            .auditTrail(calculator.auditTrail(request, shared))
+            .cached(cached)
+            .build();
+    }
+
+    private RandomAccessCalculator randomAccess(ScheduleCheckpoints checkpoints) {
+        return (RandomAccessCalculator) calculatorRegistry.get(checkpoints.getMethod());
+    }
+
+    /**
+     * Outstanding balance by scanning a materialised schedule
+     */
+    private static OutstandingBalance outstandingFromSchedule(List<Installment> schedule, LocalDate asOf) {
+        Installment lastDue = null;
+        int installmentsDue = 0;
+        for (Installment installment : schedule) {
+            if (installment.getDueDate().isAfter(asOf)) {
+                break;
+            }
+            lastDue = installment;
+            installmentsDue++;
+        }
+
+        OutstandingBalance.OutstandingBalanceBuilder balance = OutstandingBalance.builder()
+            .asOf(asOf)
+            .installmentsDue(installmentsDue);
+
+        if (lastDue == null) {
+            return balance
+                .outstandingBalance(schedule.get(0).getOpeningBalance())
+                .cumulativePrincipal(BigDecimal.ZERO.setScale(2))
+                .cumulativeInterest(BigDecimal.ZERO.setScale(2))
+                .build();
+        }
+
+        return balance
+            .outstandingBalance(lastDue.getClosingBalance())
+            .cumulativePrincipal(lastDue.getCumulativePrincipal())
+            .cumulativeInterest(lastDue.getCumulativeInterest())
+            .build();
+    }
+
+    /**
+     * Load an existing loan's terms as a calculation request
+     *
+     * @return Calculation request, or null if the loan does not exist
+     */
+    private CalculationRequest loadTerms(String loanId) {
+        Loan loan = loanRepository.findByIdWithProductConfig(loanId).orElse(null);
+        if (loan == null) {
+            log.debug("Loan not found: {}", loanId);
+            return null;
+        }
+
+        try {
+            return CalculationRequest.builder()
+                .loanId(loan.getLoanId())
+                .principal(loan.getPrincipalAmount())
+                .interestRate(loan.getInterestRate())
+                .tenure(loan.getTenureMonths())
+                .productType(ProductType.valueOf(loan.getProductConfig().getProductType()))
+                .amortisationMethod(AmortisationMethod.valueOf(loan.getProductConfig().getAmortisationMethod()))
+                .startDate(loan.getDisbursementDate())
+                .build();
+
+        } catch (IllegalArgumentException e) {
+            throw new CalculationException(
+                "Unsupported product configuration for loanId: " + loanId, "INVALID_PRODUCT_CONFIG", e);
+        }
+    }
+
+    private <T> T cacheGet(String cacheName, String key, Class<T> type) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            return cache != null ? cache.get(key, type) : null;
+        } catch (RuntimeException e) {
+            log.warn("Cache {} read failed for key {}: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void cachePut(String cacheName, String key, Object value) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.put(key, value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cache {} write failed for key {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.lms.amortisation.service;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.BulkCalculationResponse;
+import com.lms.amortisation.model.dto.BulkCalculationResult;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+
+// ** import core packages
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import validation
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// ** import utils
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Service for calculating many loans in one call
+ *
+ * Each request is validated on its own, valid requests are calculated in
+ * parallel on the calculation executor, and every item gets a result or
+ * an error in input order. One bad request never fails the batch.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class BulkCalculationService {
+
+    private static final String VALIDATION_FAILED = "VALIDATION_FAILED";
+    private static final String CALCULATION_FAILED = "CALCULATION_FAILED";
+    private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+
+    private final AmortisationService amortisationService;
+    private final Validator validator;
+    private final Executor calculationExecutor;
+    private final int maxItems;
+    private final int streamWindow;
+
+    public BulkCalculationService(
+        AmortisationService amortisationService,
+        Validator validator,
+        @Qualifier("calculationExecutor") Executor calculationExecutor,
+        AmortisationProperties properties
+    ) {
+        this.amortisationService = amortisationService;
+        this.validator = validator;
+        this.calculationExecutor = calculationExecutor;
+        this.maxItems = properties.getBulk().getMaxItems();
+        this.streamWindow = Math.max(1, properties.getBulk().getStreamWindow());
+    }
+
+    /**
+     * Calculate a batch of requests
+     *
+     * @param requests Calculation requests (1 to max-items)
+     * @return Per-request results in input order
+     */
+    public BulkCalculationResponse calculate(List<CalculationRequest> requests) {
+        int total = requests.size();
+        List<CompletableFuture<BulkCalculationResult>> pending = new ArrayList<>(total);
+
+        for (int i = 0; i < total; i++) {
+            pending.add(submit(i, requests.get(i)));
+        }
+
+        List<BulkCalculationResult> results = new ArrayList<>(total);
+        for (CompletableFuture<BulkCalculationResult> result : pending) {
+            results.add(result.join());
+        }
+
+        int succeeded = (int) results.stream().filter(BulkCalculationResult::isSuccess).count();
+        log.info("Bulk calculation completed: {} requests, {} succeeded, {} failed",
+            total, succeeded, total - succeeded);
+
+        return BulkCalculationResponse.builder()
+            .total(total)
+            .succeeded(succeeded)
+            .failed(total - succeeded)
+            .results(results)
+            .build();
+    }
+
+    /**
+     * Calculate a batch of requests, handing each result to a sink in input order
+     *
+     * At most stream-window calculations are in flight or waiting to be
+     * written at any time, so a slow sink (client) throttles calculation
+     * and memory stays bounded regardless of batch size.
+     *
+     * @param requests Calculation requests (1 to max-items)
+     * @param resultSink Receives results in input order
+     */
+    public void stream(List<CalculationRequest> requests, Consumer<BulkCalculationResult> resultSink) {
+        int total = requests.size();
+        Deque<CompletableFuture<BulkCalculationResult>> inFlight = new ArrayDeque<>(streamWindow);
+        int succeeded = 0;
+
+        try {
+            for (int i = 0; i < total; i++) {
+                if (inFlight.size() == streamWindow) {
+                    succeeded += deliver(inFlight.poll(), resultSink);
+                }
+                inFlight.add(submit(i, requests.get(i)));
+            }
+            while (!inFlight.isEmpty()) {
+                succeeded += deliver(inFlight.poll(), resultSink);
+            }
+        } finally {
+            // Sink failed (e.g. client gone): skip calculations not yet started
+            inFlight.forEach(result -> result.cancel(false));
+        }
+
+        log.info("Bulk calculation streamed: {} requests, {} succeeded, {} failed",
+            total, succeeded, total - succeeded);
+    }
+
+    /**
+     * Maximum number of requests accepted in one call
+     *
+     * @return Configured limit
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Validate a request and schedule its calculation
+     *
+     * @return Future result; already complete for invalid requests
+     */
+    private CompletableFuture<BulkCalculationResult> submit(int index, CalculationRequest request) {
+        String violations = validate(request);
+        if (violations != null) {
+            return CompletableFuture.completedFuture(failure(index, request, VALIDATION_FAILED, violations));
+        }
+        return CompletableFuture.supplyAsync(() -> calculateOne(index, request), calculationExecutor);
+    }
+
+    /**
+     * Wait for a result and pass it to the sink
+     *
+     * @return 1 if the result was a success, otherwise 0
+     */
+    private static int deliver(
+        CompletableFuture<BulkCalculationResult> pending,
+        Consumer<BulkCalculationResult> resultSink
+    ) {
+        BulkCalculationResult result = pending.join();
+        resultSink.accept(result);
+        return result.isSuccess() ? 1 : 0;
+    }
+
+    /**
+     * Calculate one request, turning failures into an error result
+     */
+    private BulkCalculationResult calculateOne(int index, CalculationRequest request) {
+        try {
+            EMISchedule schedule = amortisationService.calculate(request);
+            return BulkCalculationResult.builder()
+                .index(index)
+                .loanId(request.getLoanId())
+                .success(true)
+                .schedule(schedule)
+                .build();
+
+        } catch (CalculationException e) {
+            log.debug("Bulk item {} failed for loanId: {}", index, request.getLoanId(), e);
+            String errorCode = e.getErrorCode() != null ? e.getErrorCode() : CALCULATION_FAILED;
+            return failure(index, request, errorCode, e.getMessage());
+
+        } catch (Exception e) {
+            log.error("Bulk item {} failed unexpectedly for loanId: {}", index, request.getLoanId(), e);
+            return failure(index, request, INTERNAL_ERROR, "Unexpected error during calculation");
+        }
+    }
+
+    /**
+     * Bean-validate a request
+     *
+     * @return Violations as "field: message" pairs, or null if valid
+     */
+    private String validate(CalculationRequest request) {
+        if (request == null) {
+            return "request: must not be null";
+        }
+
+        Set<ConstraintViolation<CalculationRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private static BulkCalculationResult failure(
+        int index,
+        CalculationRequest request,
+        String errorCode,
+        String errorMessage
+    ) {
+        return BulkCalculationResult.builder()
+            .index(index)
+            .loanId(request != null ? request.getLoanId() : null)
+            .success(false)
+            .errorCode(errorCode)
+            .errorMessage(errorMessage)
+            .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.lms.amortisation.service;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.SweepRequest;
+import com.lms.amortisation.model.dto.SweepResponse;
+import com.lms.amortisation.service.calculator.CalculationRules;
+import com.lms.amortisation.service.calculator.EmiSweep;
+import com.lms.amortisation.service.calculator.FixedPointMath;
+
+// ** import core packages
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Service for what-if EMI sweeps over rate × tenure × principal grids
+ *
+ * Only summary figures are produced, never schedules. Each rate row is
+ * filled by {@link EmiSweep} in one incremental pass over the tenures, and
+ * rows are split across a dedicated fork/join pool so a large sweep uses
+ * every core without queueing behind bulk calculations.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class EmiSweepService {
+
+    // ** Cells per fork/join leaf; a row of 360 tenures × 10 principals is one leaf
+    private static final int LEAF_CELLS = 4096;
+
+    private final ForkJoinPool pool;
+    private final int maxCells;
+
+    public EmiSweepService(AmortisationProperties properties) {
+        AmortisationProperties.Sweep sweep = properties.getSweep();
+        int parallelism = sweep.getParallelism() > 0
+            ? sweep.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.maxCells = sweep.getMaxCells();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Number of grid cells a sweep request describes
+     *
+     * @param request Sweep request
+     * @return Cell count, 0 when an axis is empty
+     */
+    public long countCells(SweepRequest request) {
+        if (request.getRateTo().compareTo(request.getRateFrom()) < 0
+            || request.getTenureTo() < request.getTenureFrom()) {
+            return 0;
+        }
+
+        long rates = request.getRateTo()
+            .subtract(request.getRateFrom())
+            .divide(request.getRateStep(), 0, RoundingMode.DOWN)
+            .min(BigDecimal.valueOf(maxCells))
+            .longValue() + 1;
+        long tenures = (request.getTenureTo() - request.getTenureFrom()) / request.getTenureStep() + 1;
+        return rates * tenures * request.getPrincipals().size();
+    }
+
+    /**
+     * Maximum cells accepted in one sweep
+     *
+     * @return Configured cell limit
+     */
+    public int getMaxCells() {
+        return maxCells;
+    }
+
+    /**
+     * Calculate the EMI and total interest of every cell in a sweep
+     *
+     * @param request Sweep request with 1 to max-cells cells
+     * @return Axes and flat cell arrays
+     */
+    public SweepResponse sweep(SweepRequest request) {
+        List<BigDecimal> rates = new ArrayList<>();
+        for (BigDecimal rate = request.getRateFrom();
+             rate.compareTo(request.getRateTo()) <= 0;
+             rate = rate.add(request.getRateStep())) {
+            rates.add(rate);
+        }
+
+        int tenureCount = (request.getTenureTo() - request.getTenureFrom()) / request.getTenureStep() + 1;
+        int[] tenures = new int[tenureCount];
+        for (int i = 0; i < tenureCount; i++) {
+            tenures[i] = request.getTenureFrom() + i * request.getTenureStep();
+        }
+
+        long[] principals = request.getPrincipals().stream()
+            .mapToLong(FixedPointMath::toMinorUnits)
+            .toArray();
+
+        BigDecimal[] monthlyRates = rates.stream()
+            .map(CalculationRules::monthlyRate)
+            .toArray(BigDecimal[]::new);
+
+        int rowCells = tenureCount * principals.length;
+        long[] emis = new long[monthlyRates.length * rowCells];
+        long[] totalInterests = new long[emis.length];
+
+        RowTask task = new RowTask(
+            monthlyRates, tenures, principals, emis, totalInterests,
+            Math.max(1, LEAF_CELLS / rowCells), 0, monthlyRates.length);
+        pool.invoke(task);
+
+        log.debug("Sweep of {} cells finished; {} cells needed the exact formula", emis.length, task.exactCells);
+
+        return SweepResponse.builder()
+            .rates(rates)
+            .tenures(tenures)
+            .principals(request.getPrincipals())
+            .emi(emis)
+            .totalInterest(totalInterests)
+            .build();
+    }
+
+    /**
+     * Fills rate rows [from, to), halving the range until it fits a leaf
+     */
+    private static final class RowTask extends RecursiveAction {
+
+        private final BigDecimal[] monthlyRates;
+        private final int[] tenures;
+        private final long[] principals;
+        private final long[] emis;
+        private final long[] totalInterests;
+        private final int leafRows;
+        private final int from;
+        private final int to;
+        private int exactCells;
+
+        RowTask(
+            BigDecimal[] monthlyRates,
+            int[] tenures,
+            long[] principals,
+            long[] emis,
+            long[] totalInterests,
+            int leafRows,
+            int from,
+            int to
+        ) {
+            this.monthlyRates = monthlyRates;
+            this.tenures = tenures;
+            this.principals = principals;
+            this.emis = emis;
+            this.totalInterests = totalInterests;
+            this.leafRows = leafRows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafRows) {
+                int rowCells = tenures.length * principals.length;
+                for (int row = from; row < to; row++) {
+                    exactCells += EmiSweep.fillRow(
+                        monthlyRates[row], tenures, principals, emis, totalInterests, row * rowCells);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            RowTask left = new RowTask(monthlyRates, tenures, principals, emis, totalInterests, leafRows, from, mid);
+            RowTask right = new RowTask(monthlyRates, tenures, principals, emis, totalInterests, leafRows, mid, to);
+            invokeAll(left, right);
+            exactCells = left.exactCells + right.exactCells;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.lms.amortisation.service.audit;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.AuditTrail;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only compliance log of served calculations
+ *
+ * Request threads only enqueue the loan id, requester and the unrendered
+ * {@link AuditTrail}; a single writer thread drains the queue in batches,
+ * renders each trail to one line and appends it to the log file. Written
+ * lines are forced to disk at least every fsync-interval, so a crash loses
+ * at most that window, and on shutdown the queue is drained and forced
+ * before the file is closed.
+ *
+ * The queue is bounded: when the writer falls behind by queue-capacity
+ * records, callers wait rather than dropping records. A batch the file
+ * rejects (disk full, I/O error) is kept and retried every fsync-interval
+ * from the first unwritten byte, and the queue backs up behind it; if the
+ * file is still failing at shutdown the batch is spilled to a sibling
+ * ".spill" file. Records appended after close are rejected and counted
+ * as failed.
+ *
+ * The path must be absolute, on a volume that outlives the pod: startup
+ * fails rather than writing compliance records into the container's
+ * working directory, where a restart would discard them.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "app.amortisation.compliance",
+    name = "audit-enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class AuditLog {
+
+    private final Path path;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long fsyncIntervalNanos;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter spilled;
+
+    // ** appends hold the read lock while enqueueing, so close() never
+    // ** leaves a record in a queue the writer has stopped draining
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean stopping;
+    private volatile boolean closed;
+
+    public AuditLog(AmortisationProperties properties, MeterRegistry meterRegistry) {
+        AmortisationProperties.AuditLog settings = properties.getCompliance().getAuditLog();
+        this.path = Path.of(settings.getPath());
+        if (!path.isAbsolute()) {
+            throw new IllegalStateException("app.amortisation.compliance.audit-log.path must be an absolute path "
+                + "on a durable volume (AUDIT_LOG_PATH), got: '" + settings.getPath() + "'");
+        }
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        this.batchSize = settings.getBatchSize();
+        this.fsyncIntervalNanos = settings.getFsyncInterval().toNanos();
+        this.written = Counter.builder("amortisation.audit.records")
+            .description("Audit records appended to the audit log")
+            .tag("result", "written")
+            .register(meterRegistry);
+        this.failed = Counter.builder("amortisation.audit.records")
+            .description("Audit records appended to the audit log")
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.spilled = Counter.builder("amortisation.audit.records")
+            .description("Audit records appended to the audit log")
+            .tag("result", "spilled")
+            .register(meterRegistry);
+        Gauge.builder("amortisation.audit.queue", queue, BlockingQueue::size)
+            .description("Audit records waiting for the writer")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer = Thread.ofPlatform().name("audit-log").daemon().start(this::run);
+        log.info("Audit log appending to {} (fsync every {})", path, Duration.ofNanos(fsyncIntervalNanos));
+    }
+
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        // ** from here a failing file is spilled rather than retried, so
+        // ** appends waiting on a full queue finish and release the lock
+        stopping = true;
+        closing.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        writer.join();
+        channel.close();
+    }
+
+    /**
+     * Queue a calculation's audit trail for the log
+     *
+     * @param loanId Loan identifier
+     * @param requestedBy User who requested the calculation, may be null
+     * @param trail Audit trail, rendered by the writer thread
+     */
+    public void append(String loanId, String requestedBy, AuditTrail trail) {
+        if (trail == null) {
+            return;
+        }
+        Entry entry = new Entry(System.currentTimeMillis(), loanId, requestedBy, trail);
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                failed.increment();
+                log.warn("Audit log closed; rejected audit record for loanId: {}", loanId);
+                return;
+            }
+            if (!queue.offer(entry)) {
+                queue.put(entry);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+            log.warn("Interrupted while queueing audit record for loanId: {}", loanId);
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        StringBuilder text = new StringBuilder(batchSize * 256);
+        ByteBuffer pending = null;
+        int pendingRecords = 0;
+        long lastForce = System.nanoTime();
+        boolean dirty = false;
+
+        while (!closed || !queue.isEmpty() || pending != null) {
+            try {
+                if (pending == null) {
+                    Entry first = queue.poll(fsyncIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, batchSize - 1);
+                        pending = render(batch, text);
+                        pendingRecords = batch.size();
+                    }
+                }
+                if (pending != null) {
+                    // ** a retried batch resumes after the bytes that already reached the file
+                    while (pending.hasRemaining()) {
+                        channel.write(pending);
+                    }
+                    written.increment(pendingRecords);
+                    pending = null;
+                    dirty = true;
+                }
+                if (dirty && (System.nanoTime() - lastForce >= fsyncIntervalNanos || closed)) {
+                    channel.force(false);
+                    lastForce = System.nanoTime();
+                    dirty = false;
+                }
+            } catch (InterruptedException e) {
+                // ** keep draining; close() stops the loop once the queue is empty
+            } catch (UncheckedIOException e) {
+                failed.increment(batch.size());
+                log.error("Could not render {} audit records: {}", batch.size(), e.getMessage());
+            } catch (IOException e) {
+                if (pending == null) {
+                    // ** force failed; dirty is still set, so it is retried
+                    log.error("Could not force audit log {}: {}", path, e.getMessage());
+                } else if (stopping) {
+                    spill(pending, pendingRecords);
+                    pending = null;
+                } else {
+                    log.error("Could not append {} audit records to {}, retrying in {}: {}",
+                        pendingRecords, path, Duration.ofNanos(fsyncIntervalNanos), e.getMessage());
+                    LockSupport.parkNanos(fsyncIntervalNanos);
+                }
+            } finally {
+                batch.clear();
+                text.setLength(0);
+            }
+        }
+
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            log.error("Could not force audit log {}: {}", path, e.getMessage());
+        }
+    }
+
+    private ByteBuffer render(List<Entry> batch, StringBuilder text) {
+        for (Entry entry : batch) {
+            text.append(Instant.ofEpochMilli(entry.timestamp()))
+                .append(" | loanId=").append(entry.loanId())
+                .append(" | requestedBy=").append(entry.requestedBy())
+                .append(" | ").append(entry.trail().render())
+                .append('\n');
+        }
+        return ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Save a batch the log file would not take at shutdown
+     */
+    private void spill(ByteBuffer pending, int records) {
+        Path spill = path.resolveSibling(path.getFileName() + ".spill");
+        try (FileChannel out = FileChannel.open(spill,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (pending.hasRemaining()) {
+                out.write(pending);
+            }
+            out.force(false);
+            spilled.increment(records);
+            log.error("Audit log {} still failing at shutdown; spilled {} audit records to {}", path, records, spill);
+        } catch (IOException e) {
+            failed.increment(records);
+            log.error("Could not append or spill {} audit records: {}", records, e.getMessage());
+        }
+    }
+
+    private record Entry(long timestamp, String loanId, String requestedBy, AuditTrail trail) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.config.BatchConfig;
+import com.lms.amortisation.model.dto.BatchJobStatus;
+
+// ** import core packages
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.time.LocalDate;
+
+/**
+ * Launches the month-end recalculation job and reports its progress
+ *
+ * Jobs are launched in the background, so submit returns as soon as the
+ * execution is recorded. Submitting a run date whose last execution failed
+ * or was stopped restarts it from its checkpoints.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class BatchStatusService {
+
+    private static final String WORKER_STEP_PREFIX = "monthEndWorkerStep:";
+
+    private final Job monthEndJob;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher launcher;
+
+    public BatchStatusService(
+        @Qualifier(BatchConfig.MONTH_END_JOB) Job monthEndJob,
+        JobRepository jobRepository,
+        JobExplorer jobExplorer
+    ) throws Exception {
+        this.monthEndJob = monthEndJob;
+        this.jobExplorer = jobExplorer;
+
+        // Private launcher: Boot's JobLauncher runs jobs on the calling thread
+        this.launcher = new TaskExecutorJobLauncher();
+        this.launcher.setJobRepository(jobRepository);
+        this.launcher.setTaskExecutor(new SimpleAsyncTaskExecutor("batch-launch-"));
+        this.launcher.afterPropertiesSet();
+    }
+
+    /**
+     * Start or restart the month-end run for a date
+     *
+     * @param runDate Run date identifying the job instance
+     * @return Status of the launched execution
+     * @throws JobInstanceAlreadyCompleteException if the run date already completed
+     * @throws JobExecutionAlreadyRunningException if the run date is in progress
+     */
+    public BatchJobStatus submitMonthEnd(LocalDate runDate)
+        throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException,
+               JobRestartException, JobParametersInvalidException {
+        JobParameters parameters = new JobParametersBuilder()
+            .addLocalDate(BatchConfig.RUN_DATE, runDate)
+            .toJobParameters();
+
+        JobExecution execution = launcher.run(monthEndJob, parameters);
+        log.info("Submitted {} for runDate {} (executionId {})", monthEndJob.getName(), runDate, execution.getId());
+        return toStatus(execution);
+    }
+
+    /**
+     * Get the status of a job execution
+     *
+     * @param executionId Job execution ID
+     * @return Execution status with aggregated partition counts, or null if unknown
+     */
+    public BatchJobStatus getStatus(long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        return execution != null ? toStatus(execution) : null;
+    }
+
+    private static BatchJobStatus toStatus(JobExecution execution) {
+        long read = 0;
+        long written = 0;
+        long skipped = 0;
+        int partitions = 0;
+        int completed = 0;
+
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (!step.getStepName().startsWith(WORKER_STEP_PREFIX)) {
+                continue;
+            }
+            partitions++;
+            if (step.getStatus() == BatchStatus.COMPLETED) {
+                completed++;
+            }
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            skipped += step.getSkipCount();
+        }
+
+        return BatchJobStatus.builder()
+            .executionId(execution.getId())
+            .jobName(execution.getJobInstance().getJobName())
+            .runDate(execution.getJobParameters().getLocalDate(BatchConfig.RUN_DATE))
+            .status(execution.getStatus().name())
+            .startTime(execution.getStartTime())
+            .endTime(execution.getEndTime())
+            .loansRead(read)
+            .schedulesWritten(written)
+            .loansSkipped(skipped)
+            .partitionsCompleted(completed)
+            .partitions(partitions)
+            .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.lms.amortisation.service.batch;
+
+// ** import core packages
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits the active loan book into contiguous loan-id ranges
+ *
+ * Loan IDs are strings, so ranges are cut with NTILE over the sorted IDs
+ * rather than by arithmetic on the key: every partition gets the same
+ * number of loans (to within one) whatever the ID format. Each partition's
+ * execution context holds its inclusive bounds, {@link #MIN_LOAN_ID} and
+ * {@link #MAX_LOAN_ID}, and is persisted by the job repository, so a
+ * restarted job reprocesses exactly the ranges that did not complete.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class LoanIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_LOAN_ID = "minLoanId";
+    public static final String MAX_LOAN_ID = "maxLoanId";
+    public static final String LOAN_COUNT = "loanCount";
+
+    private static final String RANGES_SQL =
+        "SELECT MIN(LOAN_ID) AS MIN_LOAN_ID, MAX(LOAN_ID) AS MAX_LOAN_ID, COUNT(*) AS LOAN_COUNT " +
+        "FROM (SELECT LOAN_ID, NTILE(?) OVER (ORDER BY LOAN_ID) AS BUCKET " +
+        "      FROM LMS.LOANS WHERE STATUS = ?) " +
+        "GROUP BY BUCKET ORDER BY BUCKET";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String status;
+
+    public LoanIdRangePartitioner(JdbcTemplate jdbcTemplate, String status) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.status = status;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        jdbcTemplate.query(RANGES_SQL, rs -> {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(MIN_LOAN_ID, rs.getString("MIN_LOAN_ID"));
+            context.putString(MAX_LOAN_ID, rs.getString("MAX_LOAN_ID"));
+            context.putLong(LOAN_COUNT, rs.getLong("LOAN_COUNT"));
+            partitions.put("loans-" + partitions.size(), context);
+        }, gridSize, status);
+
+        log.info("Partitioned {} loans into {} loan-id ranges",
+            partitions.values().stream().mapToLong(context -> context.getLong(LOAN_COUNT)).sum(),
+            partitions.size());
+        return partitions;
+    }
+}
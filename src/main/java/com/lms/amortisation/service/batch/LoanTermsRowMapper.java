@@ -0,0 +1,57 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+
+// ** import core packages
+import org.springframework.jdbc.core.RowMapper;
+
+// ** import utils
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Maps a LOANS ⋈ PRODUCT_CONFIG row to the terms the calculators take
+ *
+ * Mirrors the terms AmortisationService builds from the Loan entity, but
+ * straight from the cursor so the batch never hydrates JPA entities.
+ * Unknown product types or methods map to null and are rejected by the
+ * calculator registry, which the step counts as a skip.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class LoanTermsRowMapper implements RowMapper<CalculationRequest> {
+
+    /**
+     * Columns the mapper reads; the reader's query must select all of them
+     */
+    public static final String COLUMNS =
+        "l.LOAN_ID, l.PRINCIPAL_AMOUNT, l.INTEREST_RATE, l.TENURE_MONTHS, l.DISBURSEMENT_DATE, " +
+        "p.PRODUCT_TYPE, p.AMORTISATION_METHOD";
+
+    @Override
+    public CalculationRequest mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return CalculationRequest.builder()
+            .loanId(rs.getString("LOAN_ID"))
+            .principal(rs.getBigDecimal("PRINCIPAL_AMOUNT"))
+            .interestRate(rs.getBigDecimal("INTEREST_RATE"))
+            .tenure(rs.getInt("TENURE_MONTHS"))
+            .startDate(rs.getObject("DISBURSEMENT_DATE", LocalDate.class))
+            .productType(enumOrNull(ProductType.class, rs.getString("PRODUCT_TYPE")))
+            .amortisationMethod(enumOrNull(AmortisationMethod.class, rs.getString("AMORTISATION_METHOD")))
+            .requestedBy("month-end-batch")
+            .build();
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String name) {
+        try {
+            return name != null ? Enum.valueOf(type, name) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.config.CacheConfig;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.repository.EmiScheduleWriter;
+
+// ** import core packages
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes recalculated schedules and refreshes each loan's EMI
+ *
+ * Schedule rows go through the bulk {@link EmiScheduleWriter} (array
+ * binding on Oracle, multi-row JDBC batches elsewhere), then LOANS.EMI_AMOUNT
+ * is updated in one JDBC batch. All statements run in the chunk
+ * transaction, so a failed or retried chunk leaves the previous schedules
+ * in place.
+ *
+ * Once the chunk commits, each written loan is evicted from the schedule
+ * and checkpoint caches. Eviction goes through {@link com.lms.amortisation.service.cache.TwoTierCache},
+ * so it clears Redis and is broadcast to every pod's near tier; evicting
+ * after commit keeps a concurrent read from caching the replaced rows again.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class ScheduleItemWriter implements ItemWriter<EMISchedule> {
+
+    private static final String UPDATE_LOAN_SQL =
+        "UPDATE LMS.LOANS SET EMI_AMOUNT = ?, MODIFIED_DATE = ? WHERE LOAN_ID = ?";
+
+    private static final List<String> EVICTED_CACHES = List.of(CacheConfig.SCHEDULES, CacheConfig.SCHEDULE_CHECKPOINTS);
+
+    private final EmiScheduleWriter scheduleWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final LocalDate runDate;
+
+    public ScheduleItemWriter(
+        EmiScheduleWriter scheduleWriter,
+        JdbcTemplate jdbcTemplate,
+        CacheManager cacheManager,
+        LocalDate runDate
+    ) {
+        this.scheduleWriter = scheduleWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.runDate = runDate;
+    }
+
+    @Override
+    public void write(Chunk<? extends EMISchedule> chunk) {
+        List<? extends EMISchedule> schedules = chunk.getItems();
+
+        scheduleWriter.replaceSchedules(schedules);
+
+        Date modifiedDate = Date.valueOf(runDate);
+        jdbcTemplate.batchUpdate(UPDATE_LOAN_SQL, schedules, schedules.size(), (ps, schedule) -> {
+            ps.setBigDecimal(1, schedule.getEmi());
+            ps.setDate(2, modifiedDate);
+            ps.setString(3, schedule.getLoanId());
+        });
+
+        List<String> loanIds = schedules.stream().map(EMISchedule::getLoanId).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(loanIds);
+                }
+            });
+        } else {
+            evict(loanIds);
+        }
+    }
+
+    /**
+     * Drop cached schedules and checkpoints of the written loans
+     */
+    private void evict(List<String> loanIds) {
+        for (String cacheName : EVICTED_CACHES) {
+            try {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache == null) {
+                    continue;
+                }
+                for (String loanId : loanIds) {
+                    cache.evict(loanId);
+                }
+            } catch (RuntimeException e) {
+                // ** the database is already committed; stale entries expire with the TTL
+                log.warn("Cache {} eviction failed for {} loans: {}", cacheName, loanIds.size(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.service.cache.EMIScheduleRedisSerializer;
+
+// ** import core packages
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// ** import utils
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends a partition's calculated schedules to its snapshot part file
+ *
+ * Runs in the worker step after {@link ScheduleItemWriter}, so the
+ * snapshot is built from the schedules the month-end run already
+ * calculated instead of a second pass over the book. Each schedule is a
+ * length-prefixed record in the binary cache encoding; the part files of
+ * a run are merged into the snapshot by {@link ScheduleSnapshotTasklet}.
+ *
+ * The file follows the chunk transaction: records are forced to disk
+ * before the chunk commits, a rolled-back chunk is truncated away, and the
+ * committed length is saved in the step execution context so a restarted
+ * partition truncates to it and resumes after its last committed chunk.
+ * Not thread-safe; one instance per partition (step scope).
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class ScheduleSnapshotPartWriter implements ItemStreamWriter<EMISchedule> {
+
+    static final String POSITION_KEY = "snapshotPart.position";
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    // ** part files only ever hold binary values, so no legacy format is read
+    private final EMIScheduleRedisSerializer serializer = new EMIScheduleRedisSerializer(null);
+
+    private final Path partFile;
+    private FileChannel channel;
+
+    public ScheduleSnapshotPartWriter(Path partFile) {
+        this.partFile = partFile;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            Files.createDirectories(partFile.toAbsolutePath().getParent());
+            channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            long position = executionContext.containsKey(POSITION_KEY) ? executionContext.getLong(POSITION_KEY) : 0;
+            if (channel.size() < position) {
+                throw new ItemStreamException("Snapshot part " + partFile + " is shorter than its committed length "
+                    + position + "; delete it and rerun the partition");
+            }
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            throw new ItemStreamException("Could not open snapshot part " + partFile, e);
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends EMISchedule> chunk) throws IOException {
+        long start = channel.position();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        rollbackTo(start);
+                    }
+                }
+            });
+        }
+
+        for (EMISchedule schedule : chunk.getItems()) {
+            byte[] record = serializer.serialize(schedule);
+            ByteBuffer length = ByteBuffer.allocate(LENGTH_BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(record.length);
+            writeFully(length.flip());
+            writeFully(ByteBuffer.wrap(record));
+        }
+
+        // ** the committed length below must never run ahead of the data on disk
+        channel.force(false);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            executionContext.putLong(POSITION_KEY, channel.position());
+        } catch (IOException e) {
+            throw new ItemStreamException("Could not read position of snapshot part " + partFile, e);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Could not close snapshot part " + partFile, e);
+        }
+    }
+
+    /**
+     * Read every record of a part file in order
+     *
+     * @param partFile Part file written by this writer
+     * @param consumer Receives each schedule
+     * @throws IOException if the file cannot be read or ends inside a record
+     */
+    public static void read(Path partFile, ScheduleConsumer consumer) throws IOException {
+        EMIScheduleRedisSerializer serializer = new EMIScheduleRedisSerializer(null);
+        try (FileChannel in = FileChannel.open(partFile, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(LENGTH_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (readFully(in, length.clear())) {
+                ByteBuffer record = ByteBuffer.allocate(length.flip().getInt());
+                if (!readFully(in, record)) {
+                    throw new IOException("Truncated record in snapshot part " + partFile);
+                }
+                consumer.accept(serializer.deserialize(record.array()));
+            }
+        }
+    }
+
+    private void rollbackTo(long start) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll back snapshot part " + partFile, e);
+        }
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * @return False if the channel was already at its end, true once the buffer is full
+     */
+    private static boolean readFully(FileChannel in, ByteBuffer target) throws IOException {
+        while (target.hasRemaining()) {
+            if (in.read(target) < 0) {
+                if (target.position() == 0) {
+                    return false;
+                }
+                throw new IOException("Truncated snapshot part");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives schedules read back from a part file
+     */
+    @FunctionalInterface
+    public interface ScheduleConsumer {
+
+        void accept(EMISchedule schedule) throws IOException;
+    }
+}
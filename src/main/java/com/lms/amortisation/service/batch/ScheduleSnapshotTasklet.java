@@ -0,0 +1,105 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.service.snapshot.ScheduleSnapshotStore;
+import com.lms.amortisation.service.snapshot.ScheduleSnapshotWriter;
+
+// ** import core packages
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.util.FileSystemUtils;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the local schedule snapshot after the month-end recalculation
+ *
+ * Merges the part files the worker partitions wrote alongside the
+ * database ({@link ScheduleSnapshotPartWriter}) into a new snapshot file,
+ * so no loan is calculated twice, then publishes the file, remaps it in
+ * this process and removes the parts. Other pods sharing the snapshot
+ * volume pick it up on their next reload check. A failure leaves the
+ * previous snapshot and the parts in place, so a restart only repeats
+ * the merge.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class ScheduleSnapshotTasklet implements Tasklet {
+
+    static final String PART_SUFFIX = ".part";
+
+    private final ScheduleSnapshotStore store;
+    private final String runDateParameter;
+
+    /**
+     * @param store Snapshot store to publish to
+     * @param runDateParameter Job parameter holding the run date
+     */
+    public ScheduleSnapshotTasklet(ScheduleSnapshotStore store, String runDateParameter) {
+        this.store = store;
+        this.runDateParameter = runDateParameter;
+    }
+
+    /**
+     * Part file of one worker partition
+     *
+     * @param partsDirectory Parts directory of the run
+     * @param partitionName Worker step execution name
+     * @return Part file path
+     */
+    public static Path partFile(Path partsDirectory, String partitionName) {
+        return partsDirectory.resolve(partitionName.replace(':', '-') + PART_SUFFIX);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        LocalDate runDate = chunkContext.getStepContext().getStepExecution()
+            .getJobParameters().getLocalDate(runDateParameter);
+        Path partsDirectory = store.partsDirectory(runDate);
+        int[] skipped = new int[1];
+
+        try (ScheduleSnapshotWriter writer = store.newWriter()) {
+            for (Path part : parts(partsDirectory)) {
+                ScheduleSnapshotPartWriter.read(part, schedule -> {
+                    contribution.incrementReadCount();
+                    if (writer.append(schedule)) {
+                        contribution.incrementWriteCount(1);
+                    } else {
+                        skipped[0]++;
+                    }
+                });
+            }
+
+            writer.commit();
+            log.info("Schedule snapshot written: {} loans, {} installments, {} loans left to the regular path",
+                writer.getLoanCount(), writer.getRowCount(), skipped[0]);
+        }
+
+        store.reload();
+        FileSystemUtils.deleteRecursively(partsDirectory);
+        return RepeatStatus.FINISHED;
+    }
+
+    private static List<Path> parts(Path partsDirectory) throws IOException {
+        if (!Files.isDirectory(partsDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(partsDirectory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(PART_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical fingerprint of the parameters that determine a schedule
+ *
+ * Two requests get the same fingerprint exactly when they must produce the
+ * same schedule, whatever loan or user they are for:
+ * - Included: principal, interest rate, tenure, product type, amortisation
+ *   method, start date, frequency and options, plus the configured defaults
+ *   that apply when options are unset ({@link #settings})
+ * - Excluded: loan ID and requester, which are labels on the result
+ * - Numbers are compared by value (500000 and 500000.00 match), except
+ *   that a principal with more than two decimal places keeps its scale,
+ *   which the reducing balance schedule carries into its last installment.
+ *   The audit trail echoes numbers as written, so callers restate a shared
+ *   result's trail from their own request
+ * - Option maps are compared independent of key order
+ *
+ * The canonical form is hashed with SHA-256 so keys stay short whatever the
+ * options hold. Bump {@link #VERSION} whenever the canonical form or the
+ * calculators' output changes, so stale shared entries are never reused.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class CalculationFingerprint {
+
+    static final String VERSION = "v5";
+
+    private static final char SEPARATOR = '|';
+
+    private CalculationFingerprint() {
+    }
+
+    /**
+     * Canonical form of the configuration that changes calculated schedules
+     *
+     * Requests that leave an option unset get the configured default, and
+     * holiday calendars move due dates, so changing any of these must not
+     * serve results calculated under the old values. Computed once at
+     * startup and passed to {@link #of}.
+     *
+     * @param properties Amortisation settings
+     * @return Default holiday calendar, holiday calendar definitions,
+     *         daily reducing day count and step EMI defaults
+     */
+    public static String settings(AmortisationProperties properties) {
+        AmortisationProperties.Calculation calculation = properties.getCalculation();
+        Map<String, Object> calendars = new LinkedHashMap<>();
+        properties.getCalendars().forEach((name, calendar) ->
+            calendars.put(name, Map.of("weekendDays", calendar.getWeekendDays(), "holidays", calendar.getHolidays())));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("holidayCalendar", calculation.getHolidayCalendar());
+        settings.put("calendars", calendars);
+        settings.put("dayCount", calculation.getDailyReducing().getDayCount());
+        settings.put("stepPercent", calculation.getStepEmi().getStepPercent());
+        settings.put("stepMonths", calculation.getStepEmi().getStepMonths());
+        settings.put("stepRounding", calculation.getStepEmi().getStepRounding());
+
+        StringBuilder canonical = new StringBuilder(256);
+        appendCanonical(canonical, settings);
+        return canonical.toString();
+    }
+
+    /**
+     * Fingerprint a calculation request
+     *
+     * @param request Calculation request with loan parameters
+     * @param settings Configuration the request is calculated under, from {@link #settings}
+     * @return Cache key of the form "v5:" followed by 64 hex digits
+     */
+    public static String of(CalculationRequest request, String settings) {
+        StringBuilder canonical = new StringBuilder(128 + settings.length())
+            .append(VERSION).append(SEPARATOR)
+            .append(request.getAmortisationMethod()).append(SEPARATOR)
+            .append(request.getProductType()).append(SEPARATOR)
+            .append(canonicalPrincipal(request.getPrincipal())).append(SEPARATOR)
+            .append(canonicalNumber(request.getInterestRate())).append(SEPARATOR)
+            .append(request.getTenure()).append(SEPARATOR)
+            .append(request.getStartDate()).append(SEPARATOR)
+            .append(request.getFrequency() != null ? request.getFrequency().toUpperCase(Locale.ROOT) : null).append(SEPARATOR);
+        appendCanonical(canonical, request.getOptions());
+        canonical.append(SEPARATOR).append(settings);
+
+        return VERSION + ":" + HexFormat.of().formatHex(sha256(canonical.toString()));
+    }
+
+    /**
+     * Principal by value, with the scale kept past two decimal places
+     */
+    private static String canonicalPrincipal(BigDecimal principal) {
+        if (principal == null || principal.scale() <= 2) {
+            return canonicalNumber(principal);
+        }
+        return canonicalNumber(principal) + "@" + principal.scale();
+    }
+
+    /**
+     * Number by value: trailing zeros and exponent notation removed
+     */
+    private static String canonicalNumber(Object number) {
+        if (number == null) {
+            return "null";
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = ((Number) number).doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return number.toString();
+            }
+        }
+        BigDecimal value = number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+        return value.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Append a JSON-shaped value with sorted map keys
+     */
+    private static void appendCanonical(StringBuilder out, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, entry) -> sorted.put(String.valueOf(key), entry));
+            out.append('{');
+            sorted.forEach((key, entry) -> {
+                appendString(out, key);
+                out.append(':');
+                appendCanonical(out, entry);
+                out.append(',');
+            });
+            out.append('}');
+        } else if (value instanceof Collection<?> items) {
+            out.append('[');
+            for (Object item : items) {
+                appendCanonical(out, item);
+                out.append(',');
+            }
+            out.append(']');
+        } else if (value instanceof Number number) {
+            out.append(canonicalNumber(number));
+        } else if (value instanceof String text) {
+            appendString(out, text);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static void appendString(StringBuilder out, String text) {
+        // ** length prefix keeps strings containing separators unambiguous
+        out.append('"').append(text.length()).append(':').append(text).append('"');
+    }
+
+    private static byte[] sha256(String canonical) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
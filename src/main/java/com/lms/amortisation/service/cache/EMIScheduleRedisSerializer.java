@@ -0,0 +1,517 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+
+// ** import core packages
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary Redis encoding of cached EMI schedules
+ *
+ * Layout (version 1):
+ * - Header: magic byte, schema version (varint)
+ * - Summary: request/loan IDs, calculatedAt, EMI and totals, audit trail,
+ *   calculation method, cached flag
+ * - Rows in one of two forms:
+ *   - Columnar: amounts as minor units and due dates as epoch days, each
+ *     delta-encoded against the value the previous row predicts (opening =
+ *     previous closing, cumulative = previous cumulative + component) and
+ *     written as zig-zag varints. A regular schedule row takes about 10
+ *     bytes instead of ~300 bytes of JSON.
+ *   - Generic: every Installment field written as-is, for schedules that do
+ *     not fit the columnar identities (payment data, other scales).
+ *
+ * Columnar rows decode straight into {@link ScheduleColumns}, so a cache
+ * hit allocates a few primitive arrays rather than an Installment graph.
+ * Values that do not start with the magic byte (JSON written before this
+ * encoding was introduced) are handed to the legacy serializer, so existing
+ * entries stay readable until they expire.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class EMIScheduleRedisSerializer implements RedisSerializer<EMISchedule> {
+
+    /**
+     * First byte of every binary value; never the first byte of JSON or UTF-8 text
+     */
+    static final byte MAGIC = (byte) 0xA7;
+
+    /**
+     * Schema version written by this serializer
+     */
+    static final int VERSION = 1;
+
+    private static final int NO_ROWS = 0;
+    private static final int COLUMNAR_ROWS = 1;
+    private static final int GENERIC_ROWS = 2;
+
+    private static final int DECIMAL_NULL = 0;
+    private static final int DECIMAL_LONG = 1;
+    private static final int DECIMAL_BIG = 2;
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int SUMMARY_BYTES = 128;
+    private static final int COLUMNAR_ROW_BYTES = 12;
+
+    private final RedisSerializer<EMISchedule> legacy;
+
+    /**
+     * @param legacy Serializer for values written in the previous (JSON) format
+     */
+    public EMIScheduleRedisSerializer(RedisSerializer<EMISchedule> legacy) {
+        this.legacy = legacy;
+    }
+
+    @Override
+    public byte[] serialize(EMISchedule schedule) throws SerializationException {
+        if (schedule == null) {
+            return new byte[0];
+        }
+
+        ScheduleColumns columns = schedule.getColumns() != null
+            ? schedule.getColumns()
+            : toColumns(schedule.getSchedule());
+
+        Output out = new Output(SUMMARY_BYTES + schedule.getInstallmentCount() * COLUMNAR_ROW_BYTES);
+        out.writeByte(MAGIC);
+        out.writeVarLong(VERSION);
+        out.writeString(schedule.getRequestId());
+        out.writeString(schedule.getLoanId());
+        out.writeInstant(schedule.getCalculatedAt());
+        out.writeDecimal(schedule.getEmi());
+        out.writeDecimal(schedule.getTotalInterest());
+        out.writeDecimal(schedule.getTotalPayment());
+        out.writeString(schedule.getAuditTrail() != null ? schedule.getAuditTrail().render() : null);
+        out.writeString(schedule.getCalculationMethod());
+        out.writeByte(schedule.isCached() ? 1 : 0);
+
+        if (columns != null) {
+            out.writeByte(COLUMNAR_ROWS);
+            writeColumns(out, columns);
+        } else if (schedule.getSchedule() != null) {
+            out.writeByte(GENERIC_ROWS);
+            writeInstallments(out, schedule.getSchedule());
+        } else {
+            out.writeByte(NO_ROWS);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public EMISchedule deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacy.deserialize(bytes);
+        }
+
+        try {
+            Input in = new Input(bytes);
+            in.readByte();
+            long version = in.readVarLong();
+            if (version != VERSION) {
+                throw new SerializationException("Unsupported schedule encoding version: " + version);
+            }
+
+            EMISchedule schedule = EMISchedule.builder()
+                .requestId(in.readString())
+                .loanId(in.readString())
+                .calculatedAt(in.readInstant())
+                .emi(in.readDecimal())
+                .totalInterest(in.readDecimal())
+                .totalPayment(in.readDecimal())
+                .auditTrail(AuditTrail.rendered(in.readString()))
+                .calculationMethod(in.readString())
+                .cached(in.readByte() != 0)
+                .build();
+
+            int rows = in.readByte();
+            switch (rows) {
+                case COLUMNAR_ROWS -> schedule.setColumns(readColumns(in));
+                case GENERIC_ROWS -> schedule.setSchedule(readInstallments(in));
+                case NO_ROWS -> { }
+                default -> throw new SerializationException("Unknown schedule row encoding: " + rows);
+            }
+            return schedule;
+
+        } catch (IndexOutOfBoundsException | ArithmeticException e) {
+            throw new SerializationException("Truncated or corrupt schedule value", e);
+        }
+    }
+
+    /**
+     * Convert an installment list to columns if every row fits the columnar identities
+     *
+     * @return Columns holding the same values, or null if any row needs the generic form
+     */
+    private static ScheduleColumns toColumns(List<Installment> installments) {
+        if (installments == null) {
+            return null;
+        }
+
+        ScheduleColumns columns = new ScheduleColumns(installments.size());
+        for (int i = 0; i < installments.size(); i++) {
+            Installment row = installments.get(i);
+            if (row.getInstallmentNumber() == null || row.getInstallmentNumber() != i + 1
+                || row.getDueDate() == null
+                || row.getPaymentStatus() != null
+                || row.getPaymentDate() != null
+                || row.getAmountPaid() != null) {
+                return null;
+            }
+
+            Long openingBalance = minorUnits(row.getOpeningBalance());
+            Long emi = minorUnits(row.getEmi());
+            Long principal = minorUnits(row.getPrincipal());
+            Long interest = minorUnits(row.getInterest());
+            Long closingBalance = minorUnits(row.getClosingBalance());
+            Long cumulativePrincipal = minorUnits(row.getCumulativePrincipal());
+            Long cumulativeInterest = minorUnits(row.getCumulativeInterest());
+            if (openingBalance == null || emi == null || principal == null || interest == null
+                || closingBalance == null || cumulativePrincipal == null || cumulativeInterest == null
+                || closingBalance != openingBalance - principal) {
+                return null;
+            }
+
+            long epochDay = row.getDueDate().toEpochDay();
+            if (epochDay != (int) epochDay) {
+                return null;
+            }
+
+            columns.add((int) epochDay, openingBalance, emi, principal, interest,
+                cumulativePrincipal, cumulativeInterest);
+        }
+        return columns;
+    }
+
+    /**
+     * Amount in minor units, if it is exactly representable as scale-2 long
+     *
+     * @return Minor units, or null if the scale differs or the value is too large
+     */
+    private static Long minorUnits(BigDecimal amount) {
+        if (amount == null || amount.scale() != AMOUNT_SCALE) {
+            return null;
+        }
+        BigInteger unscaled = amount.unscaledValue();
+        return unscaled.bitLength() < Long.SIZE ? unscaled.longValue() : null;
+    }
+
+    /**
+     * Delta-encode columns
+     *
+     * Differences use wrapping long arithmetic, which the decoder reverses
+     * exactly, so no value range is excluded.
+     */
+    private static void writeColumns(Output out, ScheduleColumns columns) {
+        int size = columns.size();
+        out.writeVarLong(size);
+
+        long previousDate = 0;
+        long previousClosing = 0;
+        long previousEmi = 0;
+        long previousPrincipal = 0;
+        long previousInterest = 0;
+        long previousCumulativePrincipal = 0;
+        long previousCumulativeInterest = 0;
+
+        for (int i = 0; i < size; i++) {
+            long dueDate = columns.getDueDate(i);
+            long openingBalance = columns.getOpeningBalance(i);
+            long emi = columns.getEmi(i);
+            long principal = columns.getPrincipal(i);
+            long interest = columns.getInterest(i);
+            long cumulativePrincipal = columns.getCumulativePrincipal(i);
+            long cumulativeInterest = columns.getCumulativeInterest(i);
+
+            out.writeSignedVarLong(dueDate - previousDate);
+            out.writeSignedVarLong(openingBalance - previousClosing);
+            out.writeSignedVarLong(emi - previousEmi);
+            out.writeSignedVarLong(principal - previousPrincipal);
+            out.writeSignedVarLong(interest - previousInterest);
+            out.writeSignedVarLong(cumulativePrincipal - (previousCumulativePrincipal + principal));
+            out.writeSignedVarLong(cumulativeInterest - (previousCumulativeInterest + interest));
+
+            previousDate = dueDate;
+            previousClosing = openingBalance - principal;
+            previousEmi = emi;
+            previousPrincipal = principal;
+            previousInterest = interest;
+            previousCumulativePrincipal = cumulativePrincipal;
+            previousCumulativeInterest = cumulativeInterest;
+        }
+    }
+
+    private static ScheduleColumns readColumns(Input in) {
+        int size = in.readLength();
+        ScheduleColumns columns = new ScheduleColumns(size);
+
+        long dueDate = 0;
+        long closingBalance = 0;
+        long emi = 0;
+        long principal = 0;
+        long interest = 0;
+        long cumulativePrincipal = 0;
+        long cumulativeInterest = 0;
+
+        for (int i = 0; i < size; i++) {
+            dueDate += in.readSignedVarLong();
+            long openingBalance = closingBalance + in.readSignedVarLong();
+            emi += in.readSignedVarLong();
+            principal += in.readSignedVarLong();
+            interest += in.readSignedVarLong();
+            cumulativePrincipal += principal + in.readSignedVarLong();
+            cumulativeInterest += interest + in.readSignedVarLong();
+            closingBalance = openingBalance - principal;
+
+            columns.add(Math.toIntExact(dueDate), openingBalance, emi, principal, interest,
+                cumulativePrincipal, cumulativeInterest);
+        }
+        return columns;
+    }
+
+    private static void writeInstallments(Output out, List<Installment> installments) {
+        out.writeVarLong(installments.size());
+        for (Installment row : installments) {
+            out.writeVarLong(row.getInstallmentNumber() != null ? row.getInstallmentNumber() + 1L : 0);
+            out.writeDate(row.getDueDate());
+            out.writeDecimal(row.getOpeningBalance());
+            out.writeDecimal(row.getEmi());
+            out.writeDecimal(row.getPrincipal());
+            out.writeDecimal(row.getInterest());
+            out.writeDecimal(row.getClosingBalance());
+            out.writeDecimal(row.getCumulativePrincipal());
+            out.writeDecimal(row.getCumulativeInterest());
+            out.writeString(row.getPaymentStatus());
+            out.writeDate(row.getPaymentDate());
+            out.writeDecimal(row.getAmountPaid());
+        }
+    }
+
+    private static List<Installment> readInstallments(Input in) {
+        int size = in.readLength();
+        List<Installment> installments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long number = in.readVarLong();
+            installments.add(Installment.builder()
+                .installmentNumber(number != 0 ? Math.toIntExact(number - 1) : null)
+                .dueDate(in.readDate())
+                .openingBalance(in.readDecimal())
+                .emi(in.readDecimal())
+                .principal(in.readDecimal())
+                .interest(in.readDecimal())
+                .closingBalance(in.readDecimal())
+                .cumulativePrincipal(in.readDecimal())
+                .cumulativeInterest(in.readDecimal())
+                .paymentStatus(in.readString())
+                .paymentDate(in.readDate())
+                .amountPaid(in.readDecimal())
+                .build());
+        }
+        return installments;
+    }
+
+    /**
+     * Growable byte buffer with varint writers
+     */
+    private static final class Output {
+
+        private byte[] buffer;
+        private int position;
+
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            if (position == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            if (position + bytes.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes.length));
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        // ** Nullable values: length + 1, or 0 for null
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            writeBytes(bytes);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeByte(DECIMAL_NULL);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                writeByte(DECIMAL_LONG);
+                writeSignedVarLong(value.scale());
+                writeSignedVarLong(unscaled.longValue());
+            } else {
+                byte[] bytes = unscaled.toByteArray();
+                writeByte(DECIMAL_BIG);
+                writeSignedVarLong(value.scale());
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        void writeDate(LocalDate value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            writeSignedVarLong(value.toEpochDay());
+        }
+
+        void writeInstant(Instant value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            writeSignedVarLong(value.getEpochSecond());
+            writeVarLong(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Cursor over an encoded value; reads past the end throw IndexOutOfBoundsException
+     */
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint in schedule value");
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Element or byte count, bounded by the bytes left so corrupt input
+         * cannot trigger a huge allocation
+         */
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new SerializationException("Invalid length in schedule value: " + length);
+            }
+            return (int) length;
+        }
+
+        byte[] readBytes(int length) {
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            if (length - 1 > buffer.length - position) {
+                throw new SerializationException("Invalid string length in schedule value: " + (length - 1));
+            }
+            int size = (int) (length - 1);
+            String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            int tag = readByte();
+            return switch (tag) {
+                case DECIMAL_NULL -> null;
+                case DECIMAL_LONG -> {
+                    int scale = Math.toIntExact(readSignedVarLong());
+                    yield BigDecimal.valueOf(readSignedVarLong(), scale);
+                }
+                case DECIMAL_BIG -> {
+                    int scale = Math.toIntExact(readSignedVarLong());
+                    yield new BigDecimal(new BigInteger(readBytes(readLength())), scale);
+                }
+                default -> throw new SerializationException("Unknown decimal encoding in schedule value: " + tag);
+            };
+        }
+
+        LocalDate readDate() {
+            return readByte() != 0 ? LocalDate.ofEpochDay(readSignedVarLong()) : null;
+        }
+
+        Instant readInstant() {
+            if (readByte() == 0) {
+                return null;
+            }
+            long seconds = readSignedVarLong();
+            return Instant.ofEpochSecond(seconds, readVarLong());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.service.calculator.ScheduleCheckpoints;
+
+// ** import utils
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Approximate retained heap of near-cached values, in bytes
+ *
+ * Estimates, not measurements: they only need to be proportional so the
+ * near cache's byte budget tracks schedule size (a 360 row schedule weighs
+ * roughly 30 times a 12 row one).
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+final class EntryWeigher implements Weigher<NearCacheKey, Object> {
+
+    // ** Installment: object header, 8 BigDecimals (~40 bytes each when the
+    // ** unscaled value fits a long), a LocalDate and an Integer
+    private static final int INSTALLMENT_BYTES = 480;
+    // ** ScheduleColumns row: one int and six longs across parallel arrays
+    private static final int COLUMN_ROW_BYTES = 52;
+    private static final int SCHEDULE_BYTES = 1024;
+    private static final int CHECKPOINTS_BYTES = 160;
+    private static final int CHECKPOINT_ROW_BYTES = 24;
+    private static final int DEFAULT_BYTES = 256;
+
+    @Override
+    public int weigh(NearCacheKey key, Object value) {
+        if (value instanceof EMISchedule schedule) {
+            int rowBytes = schedule.getColumns() != null ? COLUMN_ROW_BYTES : INSTALLMENT_BYTES;
+            return SCHEDULE_BYTES + schedule.getInstallmentCount() * rowBytes;
+        }
+        if (value instanceof ScheduleCheckpoints checkpoints) {
+            int rows = (checkpoints.getTenure() + ScheduleCheckpoints.INTERVAL - 1) / ScheduleCheckpoints.INTERVAL;
+            return CHECKPOINTS_BYTES + rows * CHECKPOINT_ROW_BYTES;
+        }
+        return DEFAULT_BYTES;
+    }
+}
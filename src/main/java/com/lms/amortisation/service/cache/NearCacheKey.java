@@ -0,0 +1,10 @@
+package com.lms.amortisation.service.cache;
+
+/**
+ * Key of the shared near cache: cache name plus the cache's own key
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+record NearCacheKey(String cacheName, Object key) {
+}
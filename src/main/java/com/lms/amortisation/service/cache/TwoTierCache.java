@@ -0,0 +1,183 @@
+package com.lms.amortisation.service.cache;
+
+// ** import core packages
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+// ** import utils
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with an in-process near tier in front of a remote (Redis) cache
+ *
+ * Reads try the near tier first and fall back to the remote tier,
+ * populating the near tier on a remote hit. Writes and evictions go to
+ * both tiers and are broadcast so other pods drop their near copy.
+ *
+ * Near-cached values are shared object instances: callers must treat
+ * them as read-only.
+ *
+ * Metrics per cache and tier (near, redis):
+ * amortisation.cache.gets{result=hit|miss} and amortisation.cache.hit.ratio.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<NearCacheKey, Object> near;
+    private final TwoTierCacheManager manager;
+    private final Counter nearHits;
+    private final Counter nearMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TwoTierCache(
+        Cache remote,
+        com.github.benmanes.caffeine.cache.Cache<NearCacheKey, Object> near,
+        TwoTierCacheManager manager,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = remote.getName();
+        this.remote = remote;
+        this.near = near;
+        this.manager = manager;
+        this.nearHits = gets(meterRegistry, "near", "hit");
+        this.nearMisses = gets(meterRegistry, "near", "miss");
+        this.remoteHits = gets(meterRegistry, "redis", "hit");
+        this.remoteMisses = gets(meterRegistry, "redis", "miss");
+        hitRatio(meterRegistry, "near", nearHits, nearMisses);
+        hitRatio(meterRegistry, "redis", remoteHits, remoteMisses);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = near.getIfPresent(nearKey(key));
+        if (value != null) {
+            nearHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        nearMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            near.put(nearKey(key), wrapper.get());
+        } else {
+            remoteMisses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object value = near.getIfPresent(nearKey(key));
+        if (value != null && (type == null || type.isInstance(value))) {
+            nearHits.increment();
+            return (T) value;
+        }
+        nearMisses.increment();
+
+        T remoteValue = remote.get(key, type);
+        if (remoteValue != null) {
+            remoteHits.increment();
+            near.put(nearKey(key), remoteValue);
+        } else {
+            remoteMisses.increment();
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = near.getIfPresent(nearKey(key));
+        if (value != null) {
+            nearHits.increment();
+            return (T) value;
+        }
+        nearMisses.increment();
+
+        T loaded = remote.get(key, valueLoader);
+        if (loaded != null) {
+            near.put(nearKey(key), loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            near.put(nearKey(key), value);
+        }
+        manager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        near.invalidate(nearKey(key));
+        manager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        evictLocal(null);
+        manager.publishInvalidation(name, null);
+    }
+
+    /**
+     * Drop near-tier entries of this cache only (no remote call, no broadcast)
+     *
+     * @param key Key to drop, or null for every entry of this cache
+     */
+    void evictLocal(Object key) {
+        if (key != null) {
+            near.invalidate(nearKey(key));
+        } else {
+            near.asMap().keySet().removeIf(nearKey -> nearKey.cacheName().equals(name));
+        }
+    }
+
+    private NearCacheKey nearKey(Object key) {
+        return new NearCacheKey(name, key);
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("amortisation.cache.gets")
+            .description("Cache lookups per tier")
+            .tag("cache", name)
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private void hitRatio(MeterRegistry meterRegistry, String tier, Counter hits, Counter misses) {
+        Gauge.builder("amortisation.cache.hit.ratio", () -> {
+                double total = hits.count() + misses.count();
+                return total == 0 ? 0 : hits.count() / total;
+            })
+            .description("Fraction of lookups answered by this tier")
+            .tag("cache", name)
+            .tag("tier", tier)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.lms.amortisation.service.cache;
+
+// ** import core packages
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager adding a near (Caffeine) tier to selected remote caches
+ *
+ * All near-cached entries share one heap budget, weighed in estimated
+ * bytes, and expire after the calculation-result TTL. When an entry is
+ * written or evicted on one pod, a message on {@link #INVALIDATION_CHANNEL}
+ * makes every other pod drop its near copy; the Redis tier is shared and
+ * needs no invalidation. Caches not listed stay Redis-only.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "amortisation:cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR_ALL = "";
+
+    private final CacheManager remote;
+    private final Set<String> nearCacheNames;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final com.github.benmanes.caffeine.cache.Cache<NearCacheKey, Object> near;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public TwoTierCacheManager(
+        CacheManager remote,
+        Set<String> nearCacheNames,
+        long maxWeightBytes,
+        Duration ttl,
+        StringRedisTemplate redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.remote = remote;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.near = Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(new EntryWeigher())
+            .expireAfterWrite(ttl)
+            .build();
+
+        Gauge.builder("amortisation.cache.near.size", near, c -> c.estimatedSize())
+            .description("Entries held in the near cache")
+            .register(meterRegistry);
+        Gauge.builder("amortisation.cache.near.weight", near,
+                c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+            .description("Estimated bytes held in the near cache")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /**
+     * Tell other pods to drop their near copy of an entry
+     *
+     * @param cacheName Cache name
+     * @param key Entry key, or null for the whole cache
+     */
+    void publishInvalidation(String cacheName, Object key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : CLEAR_ALL);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            // Other pods' near copies expire with the TTL at the latest
+            log.warn("Failed to publish near cache invalidation for {}:{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Handle an invalidation broadcast by another pod
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        if (caches.get(parts[1]) instanceof TwoTierCache cache) {
+            cache.evictLocal(CLEAR_ALL.equals(parts[2]) ? null : parts[2]);
+            log.debug("Near cache invalidated {}:{}", parts[1], parts[2]);
+        }
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null || !nearCacheNames.contains(name)) {
+            return remoteCache;
+        }
+        return new TwoTierCache(remoteCache, near, this, meterRegistry);
+    }
+}
@@ -1,8 +1,13 @@
 package com.lms.amortisation.service.calculator;
 
 // ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
 import com.lms.amortisation.model.dto.CalculationRequest;
 import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+
+// ** import utils
+import java.util.function.Consumer;
 
 /**
  * Strategy interface for different amortisation calculation methods
@@ -33,6 +38,67 @@ public interface AmortisationCalculator {
      */
     EMISchedule calculate(CalculationRequest request);
 
+    /**
+     * Calculate a schedule, handing each installment to a sink as it is produced
+     *
+     * The returned summary carries the EMI and totals but no installment
+     * list, so callers can stream large schedules without holding them.
+     * The default implementation calculates the full schedule first;
+     * calculators that can produce rows incrementally should override it.
+     *
+     * @param request Calculation request with loan parameters
+     * @param rowSink Receives installments in order
+     * @return Schedule summary without the installment list
+     * @throws com.lms.amortisation.exception.CalculationException if calculation fails
+     */
+    default EMISchedule calculate(CalculationRequest request, Consumer<Installment> rowSink) {
+        EMISchedule schedule = calculate(request);
+        schedule.getSchedule().forEach(rowSink);
+        schedule.setStreamedInstallmentCount(schedule.getInstallmentCount());
+        schedule.setSchedule(null);
+        schedule.setColumns(null);
+        return schedule;
+    }
+
+    /**
+     * Calculate a schedule, handing each row to a sink as primitives
+     *
+     * For aggregation over many loans: rows are never materialised as
+     * Installment objects by calculators that override this, and the
+     * returned summary carries no installments. The default implementation
+     * calculates the full schedule first and replays it.
+     *
+     * @param request Calculation request with loan parameters
+     * @param rowSink Receives rows in order, amounts in minor units
+     * @return Schedule summary without the installment list
+     * @throws com.lms.amortisation.exception.CalculationException if calculation fails
+     */
+    default EMISchedule calculateRows(CalculationRequest request, ScheduleKernel.RowSink rowSink) {
+        EMISchedule schedule = calculate(request);
+        if (schedule.getColumns() != null) {
+            ScheduleKernel.replay(schedule.getColumns(), rowSink);
+        } else {
+            ScheduleKernel.replay(schedule.getSchedule(), rowSink);
+        }
+        schedule.setStreamedInstallmentCount(schedule.getInstallmentCount());
+        schedule.setSchedule(null);
+        schedule.setColumns(null);
+        return schedule;
+    }
+
+    /**
+     * Audit trail of a schedule, restated with a request's own values
+     *
+     * Requests with the same {@link com.lms.amortisation.service.cache.CalculationFingerprint}
+     * share one calculated schedule, but may spell their numbers differently
+     * (500000 and 500000.00); the audit trail must echo each caller's request.
+     *
+     * @param request Request the schedule is served for
+     * @param schedule Schedule calculated for an equivalent request
+     * @return Audit trail as calculating the schedule for this request would record it
+     */
+    AuditTrail auditTrail(CalculationRequest request, EMISchedule schedule);
+
     /**
      * Check if this calculator supports the given amortisation method
      *
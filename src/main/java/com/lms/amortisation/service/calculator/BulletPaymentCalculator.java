@@ -0,0 +1,70 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import java.math.BigDecimal;
+
+/**
+ * Bullet Payment Amortisation Calculator
+ *
+ * Interest-only installments with the whole principal repaid at maturity:
+ * - Each installment pays P × r (rounded to the paisa), where r is the
+ *   periodic rate (annual rate / installments per year / 100) as in the
+ *   reducing balance method
+ * - The last installment adds the full principal
+ *
+ * The reported EMI is the periodic interest payment.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class BulletPaymentCalculator extends KernelScheduleCalculator {
+
+    private static final AuditTrail.Template PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Rate={}%, Monthly Rate={}, n={}");
+    private static final AuditTrail.Template PERIODIC_PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Rate={}%, Frequency={}, Periodic Rate={}, n={}");
+
+    public BulletPaymentCalculator(DueDateCalendar dueDateCalendar) {
+        super(AmortisationMethod.BULLET_PAYMENT, dueDateCalendar);
+    }
+
+    @Override
+    protected Plan plan(CalculationRequest request, long principal, Term term) {
+        long rate = FixedPointMath.toRateUnits(term.periodicRate());
+        long periodicInterest = FixedPointMath.applyRate(principal, rate);
+
+        PeriodRule rule = new PeriodRule() {
+            @Override
+            public long interest(int installment, long openingBalance) {
+                return periodicInterest;
+            }
+
+            @Override
+            public long principal(int installment, long openingBalance, long interest) {
+                return 0;
+            }
+        };
+
+        return Plan.of(periodicInterest, rule);
+    }
+
+    @Override
+    protected AuditParameters auditParameters(CalculationRequest request, Term term, BigDecimal totalInterest) {
+        return term.isMonthly()
+            ? new AuditParameters(PARAMETERS,
+                request.getPrincipal(), request.getInterestRate(), term.periodicRate(), term.installments())
+            : new AuditParameters(PERIODIC_PARAMETERS, request.getPrincipal(),
+                request.getInterestRate(), term.frequency(), term.periodicRate(), term.installments());
+    }
+}
@@ -0,0 +1,85 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Request validation and rate derivation shared by every engine
+ *
+ * The reducing balance engines, the kernel calculators and the EMI sweep
+ * all derive rates here, so a periodic rate (and therefore every EMI and
+ * fixed-point rate unit) is the same whichever path produced it.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class CalculationRules {
+
+    /**
+     * Scale of derived rates; exactly the fixed-point rate scale
+     */
+    public static final int DECIMAL_PRECISION = 15;
+    public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+    public static final int MAX_TENURE_MONTHS = 360;
+
+    private CalculationRules() {
+    }
+
+    /**
+     * Validate calculation request
+     *
+     * @param request Calculation request
+     * @throws CalculationException if validation fails
+     */
+    public static void validate(CalculationRequest request) {
+        if (request.getPrincipal() == null || request.getPrincipal().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new CalculationException("Principal must be greater than zero");
+        }
+
+        if (request.getInterestRate() == null || request.getInterestRate().compareTo(BigDecimal.ZERO) < 0) {
+            throw new CalculationException("Interest rate must be non-negative");
+        }
+
+        if (request.getTenure() == null || request.getTenure() <= 0) {
+            throw new CalculationException("Tenure must be greater than zero");
+        }
+
+        if (request.getTenure() > MAX_TENURE_MONTHS) {
+            throw new CalculationException("Tenure cannot exceed " + MAX_TENURE_MONTHS + " months");
+        }
+
+        if (request.getStartDate() == null) {
+            throw new CalculationException("Start date is required");
+        }
+    }
+
+    /**
+     * Calculate monthly interest rate from annual rate
+     *
+     * @param annualRate Annual interest rate (e.g., 8.5 for 8.5%)
+     * @return Monthly interest rate as decimal (e.g., 0.00708333 for 8.5% annual)
+     */
+    public static BigDecimal monthlyRate(BigDecimal annualRate) {
+        return periodicRate(annualRate, PaymentFrequency.MONTHLY);
+    }
+
+    /**
+     * Calculate the interest rate of one installment period from annual rate
+     *
+     * @param annualRate Annual interest rate (e.g., 8.5 for 8.5%)
+     * @param frequency Installment frequency
+     * @return Periodic interest rate as decimal (e.g., 0.00163461 for 8.5% weekly)
+     */
+    public static BigDecimal periodicRate(BigDecimal annualRate, PaymentFrequency frequency) {
+        return annualRate
+            .divide(BigDecimal.valueOf(frequency.getPeriodsPerYear()), DECIMAL_PRECISION, ROUNDING_MODE)
+            .divide(BigDecimal.valueOf(100), DECIMAL_PRECISION, ROUNDING_MODE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of calculators by amortisation method
+ *
+ * Calculators are matched to methods once at startup via
+ * {@link AmortisationCalculator#supports(String)}; request dispatch is then
+ * a single EnumMap lookup with no string comparison.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class CalculatorRegistry {
+
+    private final Map<AmortisationMethod, AmortisationCalculator> calculators;
+
+    public CalculatorRegistry(List<AmortisationCalculator> available) {
+        Map<AmortisationMethod, AmortisationCalculator> registry = new EnumMap<>(AmortisationMethod.class);
+
+        for (AmortisationMethod method : AmortisationMethod.values()) {
+            for (AmortisationCalculator calculator : available) {
+                if (!calculator.supports(method.name())) {
+                    continue;
+                }
+                AmortisationCalculator existing = registry.putIfAbsent(method, calculator);
+                if (existing != null) {
+                    throw new IllegalStateException(String.format(
+                        "Multiple calculators support %s: %s and %s",
+                        method, existing.getClass().getName(), calculator.getClass().getName()));
+                }
+            }
+        }
+
+        this.calculators = Collections.unmodifiableMap(registry);
+        log.info("Registered calculators: {}", calculators.keySet());
+    }
+
+    /**
+     * Get the calculator for a method
+     *
+     * @param method Amortisation method
+     * @return Calculator for the method
+     * @throws CalculationException if no calculator supports the method
+     */
+    public AmortisationCalculator get(AmortisationMethod method) {
+        AmortisationCalculator calculator = method != null ? calculators.get(method) : null;
+        if (calculator == null) {
+            throw new CalculationException("No calculator found for method: " + method, "UNSUPPORTED_METHOD");
+        }
+        return calculator;
+    }
+
+    /**
+     * Get all supported calculation methods
+     *
+     * @return Methods with a registered calculator
+     */
+    public Set<AmortisationMethod> getSupportedMethods() {
+        return calculators.keySet();
+    }
+}
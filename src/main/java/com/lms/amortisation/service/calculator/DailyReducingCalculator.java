@@ -0,0 +1,135 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.DayCountConvention;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Daily Reducing Balance Amortisation Calculator
+ *
+ * Interest accrues daily on the outstanding balance between due dates:
+ *
+ * Formula: Interest = Outstanding × R × Day factor
+ * Where:
+ *   R = Annual rate (annual rate / 100)
+ *   Day factor = accrual days / year basis under the day count convention
+ *
+ * The installment is the reducing balance EMI for the monthly rate; each
+ * installment's split follows the actual accrual of its period, and the
+ * last installment repays the remaining balance with its interest.
+ *
+ * Due dates and day counts come from a shared {@link DayCountTable} for
+ * the loan's start date, convention and holiday calendar, so the row loop
+ * does no date arithmetic. Requests choose the convention and calendar
+ * with the dayCount (ACT_365, ACT_ACT, THIRTY_360) and holidayCalendar
+ * options; app.amortisation.calculation.daily-reducing.day-count and
+ * app.amortisation.calculation.holiday-calendar set the defaults.
+ * The tables hold monthly due dates, so only monthly installments are
+ * supported.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class DailyReducingCalculator extends KernelScheduleCalculator {
+
+    static final String DAY_COUNT_OPTION = "dayCount";
+
+    private static final AuditTrail.Template PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Rate={}%, Day Count={}, Holiday Calendar={}, n={}");
+
+    private final EmiFactorCache emiFactorCache;
+    private final DayCountTables dayCountTables;
+    private final DayCountConvention defaultDayCount;
+
+    public DailyReducingCalculator(
+        EmiFactorCache emiFactorCache,
+        DayCountTables dayCountTables,
+        DueDateCalendar dueDateCalendar,
+        AmortisationProperties properties
+    ) {
+        super(AmortisationMethod.DAILY_REDUCING, dueDateCalendar);
+        this.emiFactorCache = emiFactorCache;
+        this.dayCountTables = dayCountTables;
+        this.defaultDayCount = properties.getCalculation().getDailyReducing().getDayCount();
+    }
+
+    @Override
+    protected boolean supportsFrequency(PaymentFrequency frequency) {
+        return frequency == PaymentFrequency.MONTHLY;
+    }
+
+    @Override
+    protected Plan plan(CalculationRequest request, long principal, Term term) {
+        DayCountConvention convention = dayCount(option(request, DAY_COUNT_OPTION));
+        HolidayCalendar calendar = dueDateCalendar.holidayCalendar(request);
+        DayCountTable table = dayCountTables.get(request.getStartDate(), convention, calendar);
+
+        int tenure = request.getTenure();
+        long annualRate = FixedPointMath.toRateUnits(
+            request.getInterestRate().movePointLeft(2).setScale(FixedPointMath.RATE_SCALE, ROUNDING_MODE));
+        long emi = FixedPointMath.toMinorUnits(calculateEMI(request.getPrincipal(), term.periodicRate(), tenure));
+
+        PeriodRule rule = new PeriodRule() {
+            @Override
+            public long interest(int installment, long openingBalance) {
+                return FixedPointMath.applyRate(openingBalance, table.periodRate(installment, annualRate));
+            }
+
+            @Override
+            public long principal(int installment, long openingBalance, long interest) {
+                return emi - interest;
+            }
+        };
+
+        return new Plan(emi, rule, table.dueDates());
+    }
+
+    @Override
+    protected AuditParameters auditParameters(CalculationRequest request, Term term, BigDecimal totalInterest) {
+        return new AuditParameters(PARAMETERS, request.getPrincipal(), request.getInterestRate(),
+            dayCount(option(request, DAY_COUNT_OPTION)), dueDateCalendar.holidayCalendar(request).getName(),
+            request.getTenure());
+    }
+
+    /**
+     * Reducing balance EMI for the monthly rate
+     */
+    private BigDecimal calculateEMI(BigDecimal principal, BigDecimal monthlyRate, int tenure) {
+        if (monthlyRate.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(tenure), FixedPointMath.MINOR_UNIT_SCALE, ROUNDING_MODE);
+        }
+        return emiFactorCache.calculateEMI(principal, monthlyRate, tenure);
+    }
+
+    private DayCountConvention dayCount(String name) {
+        if (name == null) {
+            return defaultDayCount;
+        }
+        try {
+            return DayCountConvention.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CalculationException("Unknown day count convention: " + name, "INVALID_DAY_COUNT");
+        }
+    }
+
+    private static String option(CalculationRequest request, String key) {
+        Object value = request.getOptions() != null ? request.getOptions().get(key) : null;
+        return value != null ? value.toString() : null;
+    }
+}
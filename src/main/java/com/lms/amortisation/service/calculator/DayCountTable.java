@@ -0,0 +1,150 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.enums.DayCountConvention;
+
+// ** import utils
+import java.time.LocalDate;
+
+/**
+ * Precomputed due dates and accrual day counts for a run of monthly periods
+ *
+ * Built once per (start date, day count convention, holiday calendar) for
+ * the maximum tenure and shared by every loan with that key, so a daily
+ * reducing schedule reads its dates and day counts from int[] arrays
+ * instead of doing LocalDate and ChronoUnit arithmetic per row. The due
+ * dates are the ones {@link com.lms.amortisation.service.calendar.DueDateCalendar}
+ * gives every other method, so a loan falls due on the same days whatever
+ * its method.
+ *
+ * Period i runs from due date i-1 (the start date for i = 1) to due date
+ * i, both after holiday adjustment. Its accrual is held as up to two
+ * (days, year basis) pairs: the second pair is only used by ACT/ACT for
+ * periods spanning a year end. Immutable.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class DayCountTable {
+
+    private final DayCountConvention convention;
+    private final int[] dueDates;
+    private final int[] firstDays;
+    private final int[] firstBasis;
+    private final int[] secondDays;
+    private final int[] secondBasis;
+
+    private DayCountTable(DayCountConvention convention, int[] dueDates) {
+        int periods = dueDates.length - 1;
+        this.convention = convention;
+        this.dueDates = dueDates;
+        this.firstDays = new int[periods + 1];
+        this.firstBasis = new int[periods + 1];
+        this.secondDays = new int[periods + 1];
+        this.secondBasis = new int[periods + 1];
+    }
+
+    /**
+     * Build the table over a loan's due dates
+     *
+     * @param dueDates Adjusted due dates as epoch days indexed by installment number
+     *                 (index 0 is the start date, where accrual starts); kept, not copied
+     * @param convention Day count convention
+     * @return Table covering installments 1 to dueDates.length - 1
+     */
+    public static DayCountTable build(int[] dueDates, DayCountConvention convention) {
+        DayCountTable table = new DayCountTable(convention, dueDates);
+        for (int i = 1; i < dueDates.length; i++) {
+            table.accrual(i, dueDates[i - 1], dueDates[i]);
+        }
+        return table;
+    }
+
+    /**
+     * Periodic rate for an installment
+     *
+     * The exact product annual rate × day factor, rounded half up to the
+     * 10^-15 rate units {@link FixedPointMath#applyRate} takes.
+     *
+     * @param installment Installment number
+     * @param annualRateUnits Annual rate as a decimal fraction in rate units (8.5% is 0.085 × 10^15)
+     * @return Rate for the period in rate units
+     */
+    public long periodRate(int installment, long annualRateUnits) {
+        long basisA = firstBasis[installment];
+        long basisB = secondBasis[installment];
+
+        long partA = annualRateUnits * firstDays[installment];
+        long partB = annualRateUnits * secondDays[installment];
+        long rate = partA / basisA + partB / basisB;
+
+        // ** remainders r_a / basis_a + r_b / basis_b over a common denominator
+        long denominator = basisA * basisB;
+        long fraction = (partA % basisA) * basisB + (partB % basisB) * basisA;
+        rate += fraction / denominator;
+        if (2 * (fraction % denominator) >= denominator) {
+            rate++;
+        }
+        return rate;
+    }
+
+    /**
+     * Adjusted due dates as epoch days, indexed by installment number
+     * (index 0 is the start date); callers must not modify the array
+     */
+    int[] dueDates() {
+        return dueDates;
+    }
+
+    /**
+     * Accrual days of an installment's period under the table's convention
+     *
+     * @param installment Installment number
+     * @return Day count (30/360 days for THIRTY_360)
+     */
+    public int getDays(int installment) {
+        return firstDays[installment] + secondDays[installment];
+    }
+
+    public int getPeriods() {
+        return dueDates.length - 1;
+    }
+
+    public DayCountConvention getConvention() {
+        return convention;
+    }
+
+    private void accrual(int installment, int from, int to) {
+        secondDays[installment] = 0;
+        switch (convention) {
+            case ACT_365 -> {
+                firstDays[installment] = to - from;
+                firstBasis[installment] = 365;
+                secondBasis[installment] = 365;
+            }
+            case THIRTY_360 -> {
+                LocalDate start = LocalDate.ofEpochDay(from);
+                LocalDate end = LocalDate.ofEpochDay(to);
+                firstDays[installment] = 360 * (end.getYear() - start.getYear())
+                    + 30 * (end.getMonthValue() - start.getMonthValue())
+                    + Math.min(end.getDayOfMonth(), 30) - Math.min(start.getDayOfMonth(), 30);
+                firstBasis[installment] = 360;
+                secondBasis[installment] = 360;
+            }
+            case ACT_ACT -> {
+                LocalDate start = LocalDate.ofEpochDay(from);
+                LocalDate end = LocalDate.ofEpochDay(to);
+                firstBasis[installment] = start.lengthOfYear();
+                secondBasis[installment] = end.lengthOfYear();
+                if (start.getYear() == end.getYear()) {
+                    firstDays[installment] = to - from;
+                } else {
+                    // Monthly periods cross at most one year end
+                    int yearEnd = (int) LocalDate.of(end.getYear(), 1, 1).toEpochDay();
+                    firstDays[installment] = yearEnd - from;
+                    secondDays[installment] = to - yearEnd;
+                }
+            }
+        }
+    }
+}
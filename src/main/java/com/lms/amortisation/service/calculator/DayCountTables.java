@@ -0,0 +1,92 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.enums.DayCountConvention;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+
+/**
+ * Shared cache of {@link DayCountTable}s
+ *
+ * Disbursements cluster on a few start dates, so a bounded set of tables
+ * covers most of the book. Each table spans the maximum tenure and serves
+ * every loan with the same start date, convention and calendar whatever
+ * its tenure or rate.
+ *
+ * Misses build the table outside the cache's lock (a concurrent miss may
+ * build it twice, which is harmless) so virtual threads are never pinned
+ * while a table is computed.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class DayCountTables {
+
+    private final DueDateCalendar dueDateCalendar;
+    private final Cache<TableKey, DayCountTable> tables;
+    private final Counter hits;
+    private final Counter misses;
+
+    public DayCountTables(
+        AmortisationProperties properties,
+        DueDateCalendar dueDateCalendar,
+        MeterRegistry meterRegistry
+    ) {
+        this.dueDateCalendar = dueDateCalendar;
+        this.tables = Caffeine.newBuilder()
+            .maximumSize(properties.getCalculation().getDailyReducing().getTableCacheSize())
+            .build();
+        this.hits = Counter.builder("amortisation.day.count.tables")
+            .description("Day-count table lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("amortisation.day.count.tables")
+            .description("Day-count table lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("amortisation.day.count.tables.size", tables, Cache::estimatedSize)
+            .description("Day-count tables currently cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the table for a start date
+     *
+     * @param startDate Loan start date
+     * @param convention Day count convention
+     * @param calendar Holiday calendar for due dates
+     * @return Table covering the maximum tenure
+     */
+    public DayCountTable get(LocalDate startDate, DayCountConvention convention, HolidayCalendar calendar) {
+        TableKey key = new TableKey(startDate, convention, calendar.getName());
+        DayCountTable table = tables.getIfPresent(key);
+        if (table != null) {
+            hits.increment();
+            return table;
+        }
+
+        misses.increment();
+        int[] dueDates = dueDateCalendar.dueDates(
+            startDate, PaymentFrequency.MONTHLY, calendar, CalculationRules.MAX_TENURE_MONTHS);
+        table = DayCountTable.build(dueDates, convention);
+        tables.put(key, table);
+        return table;
+    }
+
+    private record TableKey(LocalDate startDate, DayCountConvention convention, String calendar) {
+    }
+}
@@ -0,0 +1,239 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of reducing balance annuity factors keyed by (monthly rate, tenure)
+ *
+ * The EMI formula P × r × (1+r)^n / ((1+r)^n - 1) factors into P × f(r, n).
+ * Computing (1+r)^n exactly is the expensive part of every calculation
+ * (a 15-digit base raised to n has 15 × n digits), yet traffic uses a small
+ * set of product rates and standard tenures. This cache keeps f(r, n) to
+ * 50 significant digits so an EMI becomes one multiply and one rounding.
+ *
+ * Results stay identical to the exact formula: the cached product is only
+ * used when it is provably on the same side of the half-paisa rounding
+ * boundary as the exact value; otherwise the exact formula is evaluated.
+ *
+ * Bounded by app.amortisation.calculation.emi-factor-cache.max-size with
+ * least-recently-used eviction. Guarded by a ReentrantLock rather than
+ * synchronized so virtual threads are never pinned to their carrier here.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class EmiFactorCache {
+
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    private static final MathContext FACTOR_CONTEXT = new MathContext(50, ROUNDING_MODE);
+
+    // ** Factor error is below 1e-40 relative; the product P × f for any
+    // ** supported principal is therefore accurate far inside this margin
+    private static final BigDecimal TIE_MARGIN = new BigDecimal("1E-20");
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private final Map<FactorKey, BigDecimal> factors;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<AmortisationProperties.RateCard> rateCards;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public EmiFactorCache(AmortisationProperties properties, MeterRegistry meterRegistry) {
+        AmortisationProperties.EmiFactorCache config = properties.getCalculation().getEmiFactorCache();
+        int maxSize = config.getMaxSize();
+
+        this.rateCards = config.getRateCards();
+        this.hits = Counter.builder("amortisation.emi.factor.cache")
+            .description("EMI factor cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("amortisation.emi.factor.cache")
+            .description("EMI factor cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("amortisation.emi.factor.cache.evictions")
+            .description("EMI factors evicted to stay within max-size")
+            .register(meterRegistry);
+
+        this.factors = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FactorKey, BigDecimal> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("amortisation.emi.factor.cache.size", this, EmiFactorCache::size)
+            .description("EMI factors currently cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Calculate EMI for a non-zero monthly rate
+     *
+     * @param principal Loan principal amount
+     * @param monthlyRate Monthly interest rate (as decimal, non-zero)
+     * @param tenure Number of months
+     * @return Monthly EMI amount rounded to 2 decimal places
+     */
+    public BigDecimal calculateEMI(BigDecimal principal, BigDecimal monthlyRate, int tenure) {
+        FactorKey key = FactorKey.of(monthlyRate, tenure);
+        if (key == null) {
+            return exactEMI(principal, monthlyRate, tenure);
+        }
+
+        BigDecimal factor = lookup(key);
+        if (factor == null) {
+            misses.increment();
+            factor = annuityFactor(monthlyRate, tenure);
+            store(key, factor);
+        } else {
+            hits.increment();
+        }
+
+        BigDecimal approximate = principal.multiply(factor);
+        if (isNearRoundingBoundary(approximate)) {
+            return exactEMI(principal, monthlyRate, tenure);
+        }
+        return approximate.setScale(2, ROUNDING_MODE);
+    }
+
+    /**
+     * Precompute the factor for a (monthly rate, tenure) pair
+     *
+     * @param monthlyRate Monthly interest rate (as decimal)
+     * @param tenure Number of months
+     */
+    public void precompute(BigDecimal monthlyRate, int tenure) {
+        FactorKey key = FactorKey.of(monthlyRate, tenure);
+        if (key != null && monthlyRate.signum() > 0 && lookup(key) == null) {
+            store(key, annuityFactor(monthlyRate, tenure));
+        }
+    }
+
+    /**
+     * Rate cards configured for startup precomputation
+     *
+     * @return Configured rate cards
+     */
+    public List<AmortisationProperties.RateCard> getRateCards() {
+        return rateCards;
+    }
+
+    /**
+     * Number of cached factors
+     *
+     * @return Current cache size
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return factors.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Exact EMI using reducing balance formula
+     *
+     * Formula: EMI = P × r × (1+r)^n / ((1+r)^n - 1)
+     *
+     * @param principal Loan principal amount
+     * @param monthlyRate Monthly interest rate (as decimal, non-zero)
+     * @param tenure Number of months
+     * @return Monthly EMI amount
+     */
+    static BigDecimal exactEMI(BigDecimal principal, BigDecimal monthlyRate, int tenure) {
+        // Calculate (1 + r)^n
+        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
+        BigDecimal onePlusRatePowerN = onePlusRate.pow(tenure);
+
+        // Calculate numerator: P × r × (1+r)^n
+        BigDecimal numerator = principal
+            .multiply(monthlyRate)
+            .multiply(onePlusRatePowerN);
+
+        // Calculate denominator: (1+r)^n - 1
+        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+
+        // Calculate EMI
+        return numerator.divide(denominator, 2, ROUNDING_MODE);
+    }
+
+    /**
+     * Annuity factor r × (1+r)^n / ((1+r)^n - 1) to 50 significant digits
+     */
+    private static BigDecimal annuityFactor(BigDecimal monthlyRate, int tenure) {
+        BigDecimal onePlusRatePowerN = BigDecimal.ONE.add(monthlyRate).pow(tenure, FACTOR_CONTEXT);
+        return monthlyRate
+            .multiply(onePlusRatePowerN, FACTOR_CONTEXT)
+            .divide(onePlusRatePowerN.subtract(BigDecimal.ONE, FACTOR_CONTEXT), FACTOR_CONTEXT);
+    }
+
+    /**
+     * Check whether a value lies too close to a half-paisa boundary for the
+     * approximate factor to be trusted with HALF_UP rounding
+     */
+    private static boolean isNearRoundingBoundary(BigDecimal amount) {
+        BigDecimal paise = amount.movePointRight(2);
+        BigDecimal fraction = paise.subtract(new BigDecimal(paise.toBigInteger())).abs();
+        return fraction.subtract(HALF).abs().compareTo(TIE_MARGIN) < 0;
+    }
+
+    private BigDecimal lookup(FactorKey key) {
+        // Access-ordered map: get() reorders entries, so reads take the lock too
+        lock.lock();
+        try {
+            return factors.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(FactorKey key, BigDecimal factor) {
+        lock.lock();
+        try {
+            factors.put(key, factor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cache key: monthly rate in 10^-15 units and tenure in months
+     */
+    private record FactorKey(long rate, int tenure) {
+
+        static FactorKey of(BigDecimal monthlyRate, int tenure) {
+            if (monthlyRate.scale() > FixedPointMath.RATE_SCALE || monthlyRate.precision() - monthlyRate.scale() > 3) {
+                // Not a rate CalculationRules produces; don't cache it
+                return null;
+            }
+            return new FactorKey(FixedPointMath.toRateUnits(monthlyRate), tenure);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import utils
+import java.math.BigDecimal;
+
+/**
+ * Reducing balance EMIs for one monthly rate across many tenures and principals
+ *
+ * A sweep row walks the tenures in ascending order and carries the growth
+ * g(n) = (1+r)^n - 1 from one tenure to the next with the recurrence
+ * g(n+1) = g(n) + r + r × g(n), so a row of tenures costs one pass up to
+ * the longest tenure instead of one power per cell. Keeping (1+r)^n - 1
+ * rather than (1+r)^n avoids the cancellation in the denominator for small
+ * r × n, and the annuity factor becomes r + r / g(n).
+ *
+ * Each EMI is the factor times the principal in double precision, rounded
+ * half-up to the paisa. When the product lies too close to a half-paisa
+ * boundary for the double to decide the rounding, the exact BigDecimal
+ * formula is evaluated instead, so every cell equals the EMI that
+ * {@code /calculate} would return for the same terms.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class EmiSweep {
+
+    // ** Rounding error grows by at most a few ulps per tenure step (about
+    // ** 1.6e-13 after 360 steps); observed error stays near 1e-15
+    private static final double RELATIVE_MARGIN = 1e-12;
+    private static final double ABSOLUTE_MARGIN = 1e-6;
+
+    private EmiSweep() {
+    }
+
+    /**
+     * Fill one rate row of a sweep
+     *
+     * Cells are written at offset + tenureIndex × principals.length + principalIndex.
+     *
+     * @param monthlyRate Monthly interest rate (as decimal, 15 places)
+     * @param tenures Tenures in months, strictly ascending
+     * @param principals Principals in minor units
+     * @param emis EMI output in minor units
+     * @param totalInterests EMI × tenure - principal output in minor units
+     * @param offset First cell of the row
+     * @return Cells that needed the exact formula
+     */
+    public static int fillRow(
+        BigDecimal monthlyRate,
+        int[] tenures,
+        long[] principals,
+        long[] emis,
+        long[] totalInterests,
+        int offset
+    ) {
+        if (monthlyRate.signum() == 0) {
+            fillZeroRateRow(tenures, principals, emis, totalInterests, offset);
+            return 0;
+        }
+
+        double rate = monthlyRate.doubleValue();
+        double growth = 0.0;
+        int months = 0;
+        int exact = 0;
+        int cell = offset;
+
+        for (int tenure : tenures) {
+            while (months < tenure) {
+                growth += rate + rate * growth;
+                months++;
+            }
+            double factor = rate + rate / growth;
+
+            for (long principal : principals) {
+                double amount = principal * factor;
+                double floor = Math.floor(amount);
+                double distance = Math.abs(amount - floor - 0.5);
+
+                long emi;
+                if (distance < amount * RELATIVE_MARGIN + ABSOLUTE_MARGIN) {
+                    emi = FixedPointMath.toMinorUnits(
+                        EmiFactorCache.exactEMI(FixedPointMath.toAmount(principal), monthlyRate, tenure));
+                    exact++;
+                } else {
+                    emi = (long) floor + (amount - floor > 0.5 ? 1 : 0);
+                }
+
+                emis[cell] = emi;
+                totalInterests[cell] = emi * tenure - principal;
+                cell++;
+            }
+        }
+        return exact;
+    }
+
+    /**
+     * Zero-rate row: EMI = P / n rounded half-up to the paisa
+     */
+    private static void fillZeroRateRow(
+        int[] tenures,
+        long[] principals,
+        long[] emis,
+        long[] totalInterests,
+        int offset
+    ) {
+        int cell = offset;
+        for (int tenure : tenures) {
+            for (long principal : principals) {
+                long emi = (2 * principal + tenure) / (2L * tenure);
+                emis[cell] = emi;
+                totalInterests[cell] = emi * tenure - principal;
+                cell++;
+            }
+        }
+    }
+}
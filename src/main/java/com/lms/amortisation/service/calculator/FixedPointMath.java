@@ -0,0 +1,132 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import utils
+import java.math.BigDecimal;
+
+/**
+ * Scaled-long arithmetic for the fixed-point calculation engine
+ *
+ * Amounts are held as minor units (paise) at scale 2 and rates as units of
+ * 10^-15, which is exactly the scale {@link CalculationRules} derives rates
+ * at. Every operation reproduces the result of the equivalent BigDecimal
+ * expression with HALF_UP rounding, so schedules computed here are
+ * bit-identical to the BigDecimal reference path.
+ *
+ * Operands are bounded (see {@link #supports}) so that every intermediate
+ * product fits in a signed 64-bit long without overflow checks in the loop.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class FixedPointMath {
+
+    /**
+     * Scale of amounts held as minor units
+     */
+    public static final int MINOR_UNIT_SCALE = 2;
+
+    /**
+     * Scale of rates held as rate units
+     */
+    public static final int RATE_SCALE = 15;
+
+    // ** 10^15, 10^8 and 10^7 split the amount × rate product into two
+    // ** partial products that each stay below 2^63
+    private static final long RATE_ONE = 1_000_000_000_000_000L;
+    private static final long RATE_HALF = RATE_ONE / 2;
+    private static final long RATE_SPLIT = 10_000_000L;
+    private static final long HIGH_DIVISOR = RATE_ONE / RATE_SPLIT;
+
+    // ** 10^11 minor units (10^9 rupees) and 10^14 rate units (10% per period)
+    private static final long MAX_MINOR_UNITS = 100_000_000_000L;
+    private static final long MAX_RATE_UNITS = 100_000_000_000_000L;
+
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(MAX_MINOR_UNITS, MINOR_UNIT_SCALE);
+    private static final BigDecimal MAX_RATE = BigDecimal.valueOf(MAX_RATE_UNITS, RATE_SCALE);
+
+    private FixedPointMath() {
+    }
+
+    /**
+     * Check whether a calculation can run on scaled longs without changing its result
+     *
+     * The principal must not carry sub-paisa digits (its scale drives the
+     * scale of BigDecimal outputs) and both operands must be inside the
+     * overflow-safe range. Everything CalculationRequest validation accepts
+     * qualifies as long as the principal has at most two decimal places.
+     *
+     * @param principal Loan principal
+     * @param periodicRate Periodic interest rate as produced by {@link CalculationRules#periodicRate}
+     * @return true if the fixed-point path yields identical results
+     */
+    public static boolean supports(BigDecimal principal, BigDecimal periodicRate) {
+        return principal.scale() <= MINOR_UNIT_SCALE
+            && principal.abs().compareTo(MAX_AMOUNT) < 0
+            && periodicRate.scale() <= RATE_SCALE
+            && periodicRate.signum() >= 0
+            && periodicRate.compareTo(MAX_RATE) < 0;
+    }
+
+    /**
+     * Convert an amount to minor units
+     *
+     * @param amount Amount with at most two decimal places
+     * @return Amount in minor units
+     * @throws ArithmeticException if the amount has sub-paisa digits or overflows
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert a periodic rate to rate units
+     *
+     * @param rate Rate with at most fifteen decimal places
+     * @return Rate in units of 10^-15
+     * @throws ArithmeticException if the rate has more than fifteen decimal places
+     */
+    public static long toRateUnits(BigDecimal rate) {
+        return rate.setScale(RATE_SCALE).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert minor units back to an amount at scale 2
+     *
+     * @param minorUnits Amount in minor units
+     * @return Amount with scale 2
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * Apply a periodic rate to an amount
+     *
+     * Equivalent to amount.multiply(rate).setScale(2, HALF_UP) for operands
+     * inside the range accepted by {@link #supports}.
+     *
+     * @param amount Amount in minor units
+     * @param rate Rate in rate units
+     * @return Rounded product in minor units
+     */
+    public static long applyRate(long amount, long rate) {
+        long magnitude = Math.abs(amount);
+
+        // amount × rate = high × 10^7 + low
+        long high = magnitude * (rate / RATE_SPLIT);
+        long low = magnitude * (rate % RATE_SPLIT);
+
+        // Divide by 10^15 without forming the full product
+        long quotient = high / HIGH_DIVISOR;
+        long remainder = (high % HIGH_DIVISOR) * RATE_SPLIT + low;
+        quotient += remainder / RATE_ONE;
+        remainder %= RATE_ONE;
+
+        if (remainder >= RATE_HALF) {
+            quotient++;
+        }
+
+        // HALF_UP rounds away from zero, so negative amounts mirror positive ones
+        return amount < 0 ? -quotient : quotient;
+    }
+}
@@ -0,0 +1,179 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-point Reducing Balance Amortisation Calculator
+ *
+ * Same method, formula and rounding as {@link ReducingBalanceCalculator},
+ * but the per-installment loop runs on scaled longs (paise and 10^-15 rate
+ * units) via {@link FixedPointMath} instead of allocating a chain of
+ * BigDecimal intermediates per month, and writes rows straight into
+ * {@link ScheduleColumns} through {@link ScheduleKernel}; Installment
+ * objects only exist while a caller iterates the schedule. Results are
+ * bit-identical to the BigDecimal engine; requests outside the fixed-point
+ * range (sub-paisa principals) fall back to it transparently.
+ *
+ * Enabled with app.amortisation.calculation.engine=fixed-point.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "app.amortisation.calculation",
+    name = "engine",
+    havingValue = "fixed-point"
+)
+public class FixedPointReducingBalanceCalculator extends ReducingBalanceCalculator {
+
+    public FixedPointReducingBalanceCalculator(EmiFactorCache emiFactorCache, DueDateCalendar dueDateCalendar) {
+        super(emiFactorCache, dueDateCalendar);
+    }
+
+    /**
+     * Generate the schedule in columnar form into the result builder
+     *
+     * @param builder Result builder to receive the schedule
+     * @param principal Loan principal
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @return Total interest over the schedule
+     */
+    @Override
+    protected BigDecimal populateSchedule(
+        EMISchedule.EMIScheduleBuilder builder,
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates
+    ) {
+        if (!FixedPointMath.supports(principal, periodicRate)) {
+            log.debug("Principal {} outside fixed-point range, using BigDecimal engine", principal);
+            return super.populateSchedule(builder, principal, emi, periodicRate, installments, dueDates);
+        }
+
+        ScheduleColumns columns = generateColumns(principal, emi, periodicRate, installments, dueDates);
+        builder.columns(columns);
+        return FixedPointMath.toAmount(columns.getCumulativeInterest(columns.size() - 1));
+    }
+
+    /**
+     * Generate complete installment schedule on scaled longs
+     *
+     * @param principal Loan principal
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @return Lazily materialised view over the columnar schedule
+     */
+    @Override
+    protected List<Installment> generateSchedule(
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates
+    ) {
+        if (!FixedPointMath.supports(principal, periodicRate)) {
+            return super.generateSchedule(principal, emi, periodicRate, installments, dueDates);
+        }
+        return generateColumns(principal, emi, periodicRate, installments, dueDates).asInstallments();
+    }
+
+    /**
+     * Produce the installment schedule row by row from the columnar form
+     *
+     * @param principal Loan principal
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @param rowSink Receives each installment in order
+     * @return Total interest over the schedule
+     */
+    @Override
+    protected BigDecimal emitSchedule(
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates,
+        Consumer<Installment> rowSink
+    ) {
+        if (!FixedPointMath.supports(principal, periodicRate)) {
+            return super.emitSchedule(principal, emi, periodicRate, installments, dueDates, rowSink);
+        }
+
+        ScheduleColumns columns = generateColumns(principal, emi, periodicRate, installments, dueDates);
+        for (int i = 0; i < columns.size(); i++) {
+            rowSink.accept(columns.toInstallment(i));
+        }
+        return FixedPointMath.toAmount(columns.getCumulativeInterest(columns.size() - 1));
+    }
+
+    /**
+     * Produce a run of installments on scaled longs
+     *
+     * Used when a schedule tail is regenerated; rows are materialised one
+     * at a time as they are handed to the sink.
+     *
+     * @param openingBalance Balance outstanding before the first installment
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param firstInstallment Number of the first installment produced
+     * @param lastInstallment Number of the last installment (balance is zero after it)
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @param cumulativePrincipal Principal paid before the first installment
+     * @param cumulativeInterest Interest paid before the first installment
+     * @param rowSink Receives each installment in order
+     * @return Cumulative interest after the last installment
+     */
+    @Override
+    protected BigDecimal emitRows(
+        BigDecimal openingBalance,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int firstInstallment,
+        int lastInstallment,
+        int[] dueDates,
+        BigDecimal cumulativePrincipal,
+        BigDecimal cumulativeInterest,
+        Consumer<Installment> rowSink
+    ) {
+        if (!FixedPointMath.supports(openingBalance, periodicRate)
+            || cumulativePrincipal.scale() > FixedPointMath.MINOR_UNIT_SCALE
+            || cumulativeInterest.scale() > FixedPointMath.MINOR_UNIT_SCALE) {
+            return super.emitRows(openingBalance, emi, periodicRate, firstInstallment, lastInstallment,
+                dueDates, cumulativePrincipal, cumulativeInterest, rowSink);
+        }
+
+        PeriodRule rule = reducingBalance(FixedPointMath.toMinorUnits(emi), FixedPointMath.toRateUnits(periodicRate));
+        long totalInterest = ScheduleKernel.emit(
+            FixedPointMath.toMinorUnits(openingBalance), firstInstallment, lastInstallment, dueDates,
+            FixedPointMath.toMinorUnits(cumulativePrincipal), FixedPointMath.toMinorUnits(cumulativeInterest),
+            rule, ScheduleKernel.toInstallments(rowSink)
+        );
+        return FixedPointMath.toAmount(totalInterest);
+    }
+}
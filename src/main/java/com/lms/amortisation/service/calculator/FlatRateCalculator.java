@@ -0,0 +1,93 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import java.math.BigDecimal;
+
+/**
+ * Flat Rate Amortisation Calculator
+ *
+ * Interest is charged on the original principal for the whole tenure:
+ *
+ * Formula: EMI = (P + (P × R × t / 12)) / n
+ * Where:
+ *   P = Principal loan amount
+ *   R = Annual flat rate (annual rate / 100)
+ *   t = Tenure in months
+ *   n = Number of installments (t for monthly loans)
+ *
+ * Total interest (rounded to the paisa) is spread evenly over the
+ * installments by cumulative rounding, so installment i carries
+ * round(I × i / n) - round(I × (i - 1) / n): no installment is charged
+ * negative interest and the installments sum to exactly I. Every
+ * installment is the EMI except the last, which repays the remaining
+ * principal and may differ from it by a few paise.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class FlatRateCalculator extends KernelScheduleCalculator {
+
+    private static final AuditTrail.Template PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Flat Rate={}%, n={}, Total Interest={}");
+    private static final AuditTrail.Template PERIODIC_PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Flat Rate={}%, Frequency={}, n={}, Total Interest={}");
+
+    public FlatRateCalculator(DueDateCalendar dueDateCalendar) {
+        super(AmortisationMethod.FLAT_RATE, dueDateCalendar);
+    }
+
+    @Override
+    protected Plan plan(CalculationRequest request, long principal, Term term) {
+        BigDecimal annualRate = request.getInterestRate();
+        int tenure = request.getTenure();
+        int installments = term.installments();
+
+        long totalInterest = FixedPointMath.toMinorUnits(request.getPrincipal()
+            .multiply(annualRate)
+            .multiply(BigDecimal.valueOf(tenure))
+            .divide(BigDecimal.valueOf(1200), FixedPointMath.MINOR_UNIT_SCALE, ROUNDING_MODE));
+        long emi = roundedQuotient(principal + totalInterest, installments);
+
+        PeriodRule rule = new PeriodRule() {
+            @Override
+            public long interest(int installment, long openingBalance) {
+                return roundedQuotient(totalInterest * installment, installments)
+                    - roundedQuotient(totalInterest * (installment - 1), installments);
+            }
+
+            @Override
+            public long principal(int installment, long openingBalance, long interest) {
+                return emi - interest;
+            }
+        };
+
+        return Plan.of(emi, rule);
+    }
+
+    @Override
+    protected AuditParameters auditParameters(CalculationRequest request, Term term, BigDecimal totalInterest) {
+        return term.isMonthly()
+            ? new AuditParameters(PARAMETERS,
+                request.getPrincipal(), request.getInterestRate(), term.installments(), totalInterest)
+            : new AuditParameters(PERIODIC_PARAMETERS, request.getPrincipal(), request.getInterestRate(),
+                term.frequency(), term.installments(), totalInterest);
+    }
+
+    /**
+     * Non-negative quotient rounded half up
+     */
+    private static long roundedQuotient(long dividend, long divisor) {
+        return (2 * dividend + divisor) / (2 * divisor);
+    }
+}
@@ -0,0 +1,36 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleEvent;
+
+// ** import utils
+import java.util.List;
+
+/**
+ * Optional capability for calculators that can regenerate part of a schedule
+ *
+ * Applies a rate reset, part-prepayment or payment holiday at installment k
+ * of an existing schedule: installments 1..k-1 are kept as they are and
+ * only the tail is regenerated, starting from the closing balance of
+ * installment k-1 and using the same per-row rounding as
+ * {@link AmortisationCalculator#calculate}.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public interface IncrementalCalculator {
+
+    /**
+     * Regenerate a schedule from the installment an event takes effect
+     *
+     * @param loan Original loan terms (rate in effect before the event)
+     * @param existing Existing installments; at least 1..k-1 are required
+     * @param event Event taking effect at installment k
+     * @return Schedule holding the untouched installments followed by the regenerated tail
+     * @throws com.lms.amortisation.exception.CalculationException if the event does not fit the schedule
+     */
+    EMISchedule recalculate(CalculationRequest loan, List<Installment> existing, ScheduleEvent event);
+}
@@ -0,0 +1,247 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calculator.ScheduleKernel.RowSink;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.metrics.CalculationProfile;
+import com.lms.amortisation.service.metrics.CalculationProfile.Phase;
+
+// ** import core packages
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Base for calculators whose schedules are produced by {@link ScheduleKernel}
+ *
+ * Handles validation, conversion to minor units, schedule generation
+ * (columnar for full results, row by row for streaming) and the result and
+ * audit trail; a method only describes its EMI and how each installment
+ * splits into principal and interest ({@link Plan}), and the parameters its
+ * audit trail records ({@link #auditParameters}). Unless the plan has its
+ * own, due dates are read from the shared {@link DueDateCalendar}.
+ *
+ * Tenure is in months whatever the frequency: a request's {@link Term} holds
+ * its installment count and the annual rate divided by the installments per
+ * year. Methods that only define monthly schedules say so through
+ * {@link #supportsFrequency}.
+ *
+ * Amounts are held in minor units throughout, so principals must have at
+ * most two decimal places.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+public abstract class KernelScheduleCalculator implements AmortisationCalculator {
+
+    protected static final RoundingMode ROUNDING_MODE = CalculationRules.ROUNDING_MODE;
+
+    private final AmortisationMethod method;
+    protected final DueDateCalendar dueDateCalendar;
+
+    protected KernelScheduleCalculator(AmortisationMethod method, DueDateCalendar dueDateCalendar) {
+        this.method = method;
+        this.dueDateCalendar = dueDateCalendar;
+    }
+
+    @Override
+    public EMISchedule calculate(CalculationRequest request) {
+        return runCalculation(request, null);
+    }
+
+    @Override
+    public EMISchedule calculate(CalculationRequest request, Consumer<Installment> rowSink) {
+        return runCalculation(request, ScheduleKernel.toInstallments(rowSink));
+    }
+
+    @Override
+    public EMISchedule calculateRows(CalculationRequest request, RowSink rowSink) {
+        return runCalculation(request, rowSink);
+    }
+
+    /**
+     * Describe the schedule of a loan
+     *
+     * @param request Validated calculation request
+     * @param principal Principal in minor units
+     * @param term Frequency, installment count and periodic rate
+     * @return EMI, period rule and due dates
+     */
+    protected abstract Plan plan(CalculationRequest request, long principal, Term term);
+
+    /**
+     * Describe the audit trail parameters of a loan's schedule
+     *
+     * Built from the request and the calculated totals only, so that a
+     * result shared between equivalent requests can be restated with each
+     * request's own values ({@link #auditTrail(CalculationRequest, EMISchedule)}).
+     *
+     * @param request Validated calculation request
+     * @param term Frequency, installment count and periodic rate
+     * @param totalInterest Total interest of the schedule
+     * @return Parameter template and values, rendered only when the trail is read
+     */
+    protected abstract AuditParameters auditParameters(CalculationRequest request, Term term, BigDecimal totalInterest);
+
+    /**
+     * Whether the method defines schedules at a frequency
+     *
+     * @param frequency Installment frequency
+     * @return true by default
+     */
+    protected boolean supportsFrequency(PaymentFrequency frequency) {
+        return true;
+    }
+
+    /**
+     * Generate the schedule into columns, or into the sink when one is given
+     */
+    private EMISchedule runCalculation(CalculationRequest request, RowSink rowSink) {
+        log.debug("Starting {} calculation for loanId: {}", method, request.getLoanId());
+
+        try {
+            CalculationRules.validate(request);
+
+            PaymentFrequency frequency = dueDateCalendar.frequency(request);
+            if (!supportsFrequency(frequency)) {
+                throw new CalculationException(method + " does not support "
+                    + frequency.getDisplayName().toLowerCase(Locale.ROOT) + " installments",
+                    "UNSUPPORTED_FREQUENCY");
+            }
+            Term term = term(request, frequency);
+            int installments = term.installments();
+            if (!FixedPointMath.supports(request.getPrincipal(), term.periodicRate())) {
+                throw new CalculationException("Principal must have at most two decimal places");
+            }
+            CalculationProfile.lap(Phase.VALIDATE);
+
+            long principal = FixedPointMath.toMinorUnits(request.getPrincipal());
+            Plan plan = plan(request, principal, term);
+            CalculationProfile.lap(Phase.EMI);
+
+            EMISchedule.EMIScheduleBuilder schedule = EMISchedule.builder();
+            long totalInterest;
+            int[] dueDates = plan.dueDates() != null
+                ? plan.dueDates()
+                : dueDateCalendar.dueDates(request.getStartDate(), frequency,
+                    dueDateCalendar.holidayCalendar(request), installments);
+            if (rowSink == null) {
+                ScheduleColumns columns = ScheduleKernel.columns(principal, installments, dueDates, plan.rule());
+                schedule.columns(columns);
+                totalInterest = columns.getCumulativeInterest(columns.size() - 1);
+            } else {
+                schedule.streamedInstallmentCount(installments);
+                totalInterest = ScheduleKernel.emit(principal, 1, installments, dueDates, 0, 0, plan.rule(), rowSink);
+            }
+            CalculationProfile.lap(Phase.SCHEDULE);
+
+            BigDecimal emi = FixedPointMath.toAmount(plan.emi());
+            BigDecimal interest = FixedPointMath.toAmount(totalInterest);
+
+            log.debug("Calculation completed for loanId: {}. EMI: {}, Total Interest: {}",
+                request.getLoanId(), emi, interest);
+
+            return schedule
+                .loanId(request.getLoanId())
+                .emi(emi)
+                .totalInterest(interest)
+                .totalPayment(FixedPointMath.toAmount(principal + totalInterest))
+                .auditTrail(auditTrail(request, term, emi, interest))
+                .calculationMethod(method.name())
+                .build();
+
+        } catch (UncheckedIOException | CalculationException e) {
+            // Sink failures are not calculation errors; validation messages are kept as they are
+            throw e;
+
+        } catch (Exception e) {
+            log.error("Calculation failed for loanId: {}", request.getLoanId(), e);
+            throw new CalculationException("Failed to calculate amortisation schedule", e);
+        }
+    }
+
+    @Override
+    public AuditTrail auditTrail(CalculationRequest request, EMISchedule schedule) {
+        Term term = term(request, dueDateCalendar.frequency(request));
+        return auditTrail(request, term, schedule.getEmi(), schedule.getTotalInterest());
+    }
+
+    private AuditTrail auditTrail(CalculationRequest request, Term term, BigDecimal emi, BigDecimal totalInterest) {
+        AuditParameters parameters = auditParameters(request, term, totalInterest);
+        return AuditTrail.of(method, parameters.template(), emi, parameters.values());
+    }
+
+    private Term term(CalculationRequest request, PaymentFrequency frequency) {
+        return new Term(
+            frequency,
+            dueDateCalendar.installments(frequency, request.getTenure()),
+            CalculationRules.periodicRate(request.getInterestRate(), frequency)
+        );
+    }
+
+    @Override
+    public boolean supports(String method) {
+        return this.method.name().equalsIgnoreCase(method);
+    }
+
+    @Override
+    public String getCalculatorName() {
+        return method.name();
+    }
+
+    /**
+     * Installment terms of a request
+     *
+     * @param frequency Installment frequency
+     * @param installments Number of installments in the tenure
+     * @param periodicRate Interest rate of one installment period
+     */
+    protected record Term(PaymentFrequency frequency, int installments, BigDecimal periodicRate) {
+
+        public boolean isMonthly() {
+            return frequency == PaymentFrequency.MONTHLY;
+        }
+    }
+
+    /**
+     * What a method contributes to a schedule
+     *
+     * @param emi Headline installment amount in minor units
+     * @param rule Principal and interest split of each installment
+     * @param dueDates Due dates as epoch days indexed by installment number,
+     *                 or null for the request's dates from the {@link DueDateCalendar}
+     */
+    protected record Plan(long emi, PeriodRule rule, int[] dueDates) {
+
+        /**
+         * Plan with the request's due dates from the {@link DueDateCalendar}
+         */
+        public static Plan of(long emi, PeriodRule rule) {
+            return new Plan(emi, rule, null);
+        }
+    }
+
+    /**
+     * Audit trail parameters of a schedule
+     *
+     * @param template Parameter template
+     * @param values Parameter values, rendered only when the trail is read
+     */
+    protected record AuditParameters(AuditTrail.Template template, Object... values) {
+    }
+}
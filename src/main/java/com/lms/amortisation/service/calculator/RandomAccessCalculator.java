@@ -0,0 +1,55 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.OutstandingBalance;
+
+// ** import utils
+import java.time.LocalDate;
+
+/**
+ * Optional capability for calculators that can answer point queries
+ *
+ * Lets callers fetch a single installment or the outstanding balance at a
+ * date without generating and shipping the full schedule. Results must be
+ * identical to the corresponding row of {@link AmortisationCalculator#calculate}.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public interface RandomAccessCalculator {
+
+    /**
+     * Build the lookup structure for a loan
+     *
+     * The result is small and immutable, so callers are expected to cache
+     * it per loan and reuse it across lookups.
+     *
+     * @param request Calculation request with loan parameters
+     * @return Checkpoints for the loan, or null if the loan is outside the
+     *         range this calculator can index (callers then fall back to
+     *         the full schedule)
+     * @throws com.lms.amortisation.exception.CalculationException if the request is invalid
+     */
+    ScheduleCheckpoints buildCheckpoints(CalculationRequest request);
+
+    /**
+     * Rebuild a single installment
+     *
+     * @param checkpoints Checkpoints from {@link #buildCheckpoints}
+     * @param installmentNumber Installment number (1 to tenure)
+     * @return The installment, identical to the full schedule's row
+     * @throws com.lms.amortisation.exception.CalculationException if the number is out of range
+     */
+    Installment locateInstallment(ScheduleCheckpoints checkpoints, int installmentNumber);
+
+    /**
+     * Outstanding principal after every installment due on or before a date
+     *
+     * @param checkpoints Checkpoints from {@link #buildCheckpoints}
+     * @param asOf Valuation date
+     * @return Outstanding balance and amounts paid to date
+     */
+    OutstandingBalance locateOutstanding(ScheduleCheckpoints checkpoints, LocalDate asOf);
+}
@@ -1,22 +1,39 @@
 package com.lms.amortisation.service.calculator;
 
 // ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
 import com.lms.amortisation.model.dto.CalculationRequest;
 import com.lms.amortisation.model.dto.EMISchedule;
 import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.OutstandingBalance;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.model.dto.ScheduleEvent;
 import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
 import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendar;
+import com.lms.amortisation.service.metrics.CalculationProfile;
+import com.lms.amortisation.service.metrics.CalculationProfile.Phase;
 
 // ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 // ** import utils
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
 
 /**
  * Reducing Balance Amortisation Calculator
@@ -29,80 +46,421 @@ import java.util.List;
  * Formula: EMI = P × r × (1+r)^n / ((1+r)^n - 1)
  * Where:
  *   P = Principal loan amount
- *   r = Monthly interest rate (annual rate / 12 / 100)
- *   n = Number of monthly installments
+ *   r = Periodic interest rate (annual rate / installments per year / 100)
+ *   n = Number of installments (tenure in months for monthly loans)
+ *
+ * This is the BigDecimal reference engine, active unless
+ * app.amortisation.calculation.engine selects fixed-point.
+ *
+ * Point queries (a single installment or the outstanding balance at a
+ * date) are answered from {@link ScheduleCheckpoints} on scaled longs,
+ * reproducing the per-row rounding of {@link #generateSchedule} exactly.
+ *
+ * Rate resets, part-prepayments and payment holidays regenerate only the
+ * tail of an existing schedule ({@link IncrementalCalculator}), through
+ * the same row loop.
+ *
+ * Due dates are read from the shared sequences of {@link DueDateCalendar},
+ * adjusted to business days when the request names a holiday calendar.
+ * Weekly and fortnightly loans run to over a thousand installments, so
+ * schedules longer than {@link #COLUMNAR_INSTALLMENTS} are generated into
+ * {@link ScheduleColumns} (bit-identical, no Installment per row) whenever
+ * the principal is within the fixed-point range.
  *
  * @author LMS Team
  * @version 1.0.0
  */
 @Slf4j
 @Component
-public class ReducingBalanceCalculator implements AmortisationCalculator {
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "app.amortisation.calculation",
+    name = "engine",
+    havingValue = "big-decimal",
+    matchIfMissing = true
+)
+public class ReducingBalanceCalculator
+    implements AmortisationCalculator, RandomAccessCalculator, IncrementalCalculator {
+
+    private static final RoundingMode ROUNDING_MODE = CalculationRules.ROUNDING_MODE;
+
+    // ** Longest schedule (a 30 year monthly loan) still materialised as Installment rows
+    static final int COLUMNAR_INSTALLMENTS = 360;
+
+    private static final AuditTrail.Template AUDIT_PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Rate={}%, Monthly Rate={}, n={}");
+    private static final AuditTrail.Template PERIODIC_AUDIT_PARAMETERS =
+        AuditTrail.Template.of("P={}, Annual Rate={}%, Frequency={}, Periodic Rate={}, n={}");
+    private static final AuditTrail.Template RECALCULATION_NOTE =
+        AuditTrail.Template.of("Recalculated from installment {}: Prepayment={}, Holiday Months={}");
+
+    private final EmiFactorCache emiFactorCache;
+    private final DueDateCalendar dueDateCalendar;
 
-    private static final int DECIMAL_PRECISION = 15;
-    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    /**
+     * Precompute EMI factors for the configured product rate cards
+     */
+    @PostConstruct
+    void warmUpEmiFactorCache() {
+        for (AmortisationProperties.RateCard rateCard : emiFactorCache.getRateCards()) {
+            for (BigDecimal rate : rateCard.getRates()) {
+                BigDecimal monthlyRate = CalculationRules.monthlyRate(rate);
+                for (Integer tenure : rateCard.getTenures()) {
+                    emiFactorCache.precompute(monthlyRate, tenure);
+                }
+            }
+        }
+        log.info("EMI factor cache warmed with {} factors", emiFactorCache.size());
+    }
 
     @Override
     public EMISchedule calculate(CalculationRequest request) {
+        return runCalculation(request, this::populateSchedule);
+    }
+
+    @Override
+    public EMISchedule calculate(CalculationRequest request, Consumer<Installment> rowSink) {
+        return runCalculation(request, (builder, principal, emi, periodicRate, installments, dueDates) -> {
+            builder.streamedInstallmentCount(installments);
+            return emitSchedule(principal, emi, periodicRate, installments, dueDates, rowSink);
+        });
+    }
+
+    @Override
+    public EMISchedule calculateRows(CalculationRequest request, ScheduleKernel.RowSink rowSink) {
+        return runCalculation(request, (builder, principal, emi, periodicRate, installments, dueDates) -> {
+            builder.streamedInstallmentCount(installments);
+            if (!FixedPointMath.supports(principal, periodicRate)) {
+                // ** sub-paisa principals: BigDecimal rows, converted one at a time
+                return emitSchedule(principal, emi, periodicRate, installments, dueDates,
+                    row -> ScheduleKernel.replay(List.of(row), rowSink));
+            }
+
+            PeriodRule rule = reducingBalance(FixedPointMath.toMinorUnits(emi), FixedPointMath.toRateUnits(periodicRate));
+            long totalInterest = ScheduleKernel.emit(
+                FixedPointMath.toMinorUnits(principal), 1, installments, dueDates, 0, 0, rule, rowSink);
+            return FixedPointMath.toAmount(totalInterest);
+        });
+    }
+
+    /**
+     * Run a calculation, delegating schedule generation to the given writer
+     *
+     * @param request Calculation request
+     * @param scheduleWriter Populates or emits the schedule and returns total interest
+     * @return EMI schedule built around whatever the writer produced
+     */
+    private EMISchedule runCalculation(CalculationRequest request, ScheduleWriter scheduleWriter) {
         log.debug("Starting reducing balance calculation for loanId: {}", request.getLoanId());
 
         try {
             // Validate input
-            validateRequest(request);
+            CalculationRules.validate(request);
+            CalculationProfile.lap(Phase.VALIDATE);
 
             // Extract parameters
             BigDecimal principal = request.getPrincipal();
             BigDecimal annualRate = request.getInterestRate();
-            int tenure = request.getTenure();
-            LocalDate startDate = request.getStartDate();
+            PaymentFrequency frequency = dueDateCalendar.frequency(request);
+            int installments = dueDateCalendar.installments(frequency, request.getTenure());
+            int[] dueDates = dueDateCalendar.dueDates(
+                request.getStartDate(), frequency, dueDateCalendar.holidayCalendar(request), installments);
 
-            // Calculate monthly interest rate
-            BigDecimal monthlyRate = calculateMonthlyRate(annualRate);
+            // Calculate interest rate per installment period
+            BigDecimal periodicRate = CalculationRules.periodicRate(annualRate, frequency);
 
             // Calculate EMI
-            BigDecimal emi = calculateEMI(principal, monthlyRate, tenure);
+            BigDecimal emi = calculateEMI(principal, periodicRate, installments);
+            CalculationProfile.lap(Phase.EMI);
 
-            // Generate installment schedule
-            List<Installment> schedule = generateSchedule(
-                principal, emi, monthlyRate, tenure, startDate
+            // Generate installment schedule and calculate totals
+            EMISchedule.EMIScheduleBuilder schedule = EMISchedule.builder();
+            BigDecimal totalInterest = scheduleWriter.write(
+                schedule, principal, emi, periodicRate, installments, dueDates
             );
-
-            // Calculate totals
-            BigDecimal totalInterest = calculateTotalInterest(schedule);
+            CalculationProfile.lap(Phase.SCHEDULE);
             BigDecimal totalPayment = principal.add(totalInterest);
 
-            // Build audit trail
-            String auditTrail = buildAuditTrail(principal, annualRate, monthlyRate, tenure, emi);
+            // Capture audit trail (rendered only when read)
+            AuditTrail auditTrail = buildAuditTrail(principal, annualRate, frequency, periodicRate, installments, emi);
 
-            log.info("Calculation completed for loanId: {}. EMI: {}, Total Interest: {}",
+            log.debug("Calculation completed for loanId: {}. EMI: {}, Total Interest: {}",
                 request.getLoanId(), emi, totalInterest);
 
-            return EMISchedule.builder()
+            return schedule
                 .loanId(request.getLoanId())
                 .emi(emi.setScale(2, ROUNDING_MODE))
                 .totalInterest(totalInterest.setScale(2, ROUNDING_MODE))
                 .totalPayment(totalPayment.setScale(2, ROUNDING_MODE))
-                .schedule(schedule)
                 .auditTrail(auditTrail)
                 .calculationMethod(AmortisationMethod.REDUCING_BALANCE.name())
                 .build();
 
+        } catch (UncheckedIOException e) {
+            // Row sink failed to write (e.g. client disconnected); not a calculation error
+            throw e;
+
         } catch (Exception e) {
             log.error("Calculation failed for loanId: {}", request.getLoanId(), e);
             throw new CalculationException("Failed to calculate amortisation schedule", e);
         }
     }
 
+    @Override
+    public ScheduleCheckpoints buildCheckpoints(CalculationRequest request) {
+        CalculationRules.validate(request);
+
+        // Checkpoint due dates are monthly; other frequencies use the full schedule
+        if (dueDateCalendar.frequency(request) != PaymentFrequency.MONTHLY) {
+            log.debug("No checkpoints for {} installments of loanId: {}",
+                request.getFrequency(), request.getLoanId());
+            return null;
+        }
+
+        BigDecimal principal = request.getPrincipal();
+        BigDecimal monthlyRate = CalculationRules.monthlyRate(request.getInterestRate());
+        if (!FixedPointMath.supports(principal, monthlyRate)) {
+            log.debug("Principal {} outside fixed-point range, no checkpoints for loanId: {}",
+                principal, request.getLoanId());
+            return null;
+        }
+
+        int tenure = request.getTenure();
+        BigDecimal emi = calculateEMI(principal, monthlyRate, tenure);
+        long emiAmount = FixedPointMath.toMinorUnits(emi);
+        long rate = FixedPointMath.toRateUnits(monthlyRate);
+
+        HolidayCalendar calendar = dueDateCalendar.holidayCalendar(request);
+        ScheduleCheckpoints checkpoints = new ScheduleCheckpoints(
+            AmortisationMethod.REDUCING_BALANCE, emiAmount, rate, tenure, request.getStartDate(),
+            calendar != HolidayCalendar.NONE ? calendar.getName() : null
+        );
+        long outstandingBalance = FixedPointMath.toMinorUnits(principal);
+        long cumulativePrincipal = 0;
+        long cumulativeInterest = 0;
+
+        // The last installment is never the start of a checkpoint interval,
+        // so its rounding adjustment is not needed here
+        for (int i = 1; i < tenure; i++) {
+            if (ScheduleCheckpoints.isCheckpoint(i)) {
+                checkpoints.record(i, outstandingBalance, cumulativePrincipal, cumulativeInterest);
+            }
+
+            long interest = FixedPointMath.applyRate(outstandingBalance, rate);
+            long principalComponent = emiAmount - interest;
+
+            cumulativePrincipal += principalComponent;
+            cumulativeInterest += interest;
+            outstandingBalance -= principalComponent;
+        }
+        if (ScheduleCheckpoints.isCheckpoint(tenure)) {
+            checkpoints.record(tenure, outstandingBalance, cumulativePrincipal, cumulativeInterest);
+        }
+
+        return checkpoints;
+    }
+
+    @Override
+    public Installment locateInstallment(ScheduleCheckpoints checkpoints, int installmentNumber) {
+        int tenure = checkpoints.getTenure();
+        if (installmentNumber < 1 || installmentNumber > tenure) {
+            throw new CalculationException("Installment number must be between 1 and " + tenure);
+        }
+
+        long emiAmount = checkpoints.getEmi();
+        long rate = checkpoints.getRate();
+
+        // Step forward from the nearest checkpoint (at most INTERVAL - 1 rows)
+        int i = ScheduleCheckpoints.checkpointFor(installmentNumber);
+        long outstandingBalance = checkpoints.getOpeningBalance(i);
+        long cumulativePrincipal = checkpoints.getCumulativePrincipal(i);
+        long cumulativeInterest = checkpoints.getCumulativeInterest(i);
+
+        for (; i < installmentNumber; i++) {
+            long interest = FixedPointMath.applyRate(outstandingBalance, rate);
+            long principalComponent = emiAmount - interest;
+
+            cumulativePrincipal += principalComponent;
+            cumulativeInterest += interest;
+            outstandingBalance -= principalComponent;
+        }
+
+        long interest = FixedPointMath.applyRate(outstandingBalance, rate);
+        long principalComponent = emiAmount - interest;
+
+        // Adjust last installment for rounding differences
+        if (installmentNumber == tenure) {
+            principalComponent = outstandingBalance;
+            interest = emiAmount - principalComponent;
+        }
+
+        return Installment.builder()
+            .installmentNumber(installmentNumber)
+            .dueDate(LocalDate.ofEpochDay(dueDate(checkpoints, installmentNumber)))
+            .openingBalance(FixedPointMath.toAmount(outstandingBalance))
+            .emi(FixedPointMath.toAmount(emiAmount))
+            .principal(FixedPointMath.toAmount(principalComponent))
+            .interest(FixedPointMath.toAmount(interest))
+            .closingBalance(FixedPointMath.toAmount(outstandingBalance - principalComponent))
+            .cumulativePrincipal(FixedPointMath.toAmount(cumulativePrincipal + principalComponent))
+            .cumulativeInterest(FixedPointMath.toAmount(cumulativeInterest + interest))
+            .build();
+    }
+
+    @Override
+    public OutstandingBalance locateOutstanding(ScheduleCheckpoints checkpoints, LocalDate asOf) {
+        long asOfDay = asOf.toEpochDay();
+
+        // Binary search for the number of installments due on or before asOf;
+        // due dates are strictly increasing in the installment number
+        int low = 0;
+        int high = checkpoints.getTenure();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (dueDate(checkpoints, mid) > asOfDay) {
+                high = mid - 1;
+            } else {
+                low = mid;
+            }
+        }
+
+        OutstandingBalance.OutstandingBalanceBuilder balance = OutstandingBalance.builder()
+            .asOf(asOf)
+            .installmentsDue(low);
+
+        if (low == 0) {
+            return balance
+                .outstandingBalance(FixedPointMath.toAmount(checkpoints.getOpeningBalance(1)))
+                .cumulativePrincipal(FixedPointMath.toAmount(0))
+                .cumulativeInterest(FixedPointMath.toAmount(0))
+                .build();
+        }
+
+        Installment lastDue = locateInstallment(checkpoints, low);
+        return balance
+            .outstandingBalance(lastDue.getClosingBalance())
+            .cumulativePrincipal(lastDue.getCumulativePrincipal())
+            .cumulativeInterest(lastDue.getCumulativeInterest())
+            .build();
+    }
+
+    @Override
+    public EMISchedule recalculate(CalculationRequest loan, List<Installment> existing, ScheduleEvent event) {
+        CalculationRules.validate(loan);
+
+        PaymentFrequency frequency = dueDateCalendar.frequency(loan);
+        int installments = dueDateCalendar.installments(frequency, loan.getTenure());
+        int from = event.getInstallmentNumber();
+        if (from < 1 || from > installments) {
+            throw new CalculationException("Installment number must be between 1 and " + installments);
+        }
+        if (existing.size() < from - 1) {
+            throw new CalculationException("Existing schedule must include installments 1 to " + (from - 1));
+        }
+
+        // Start from the closing position of the last untouched installment
+        BigDecimal outstandingBalance = loan.getPrincipal();
+        BigDecimal cumulativePrincipal = BigDecimal.ZERO;
+        BigDecimal cumulativeInterest = BigDecimal.ZERO;
+        if (from > 1) {
+            Installment previous = existing.get(from - 2);
+            if (previous.getClosingBalance() == null
+                || previous.getCumulativePrincipal() == null
+                || previous.getCumulativeInterest() == null) {
+                throw new CalculationException("Installment " + (from - 1) + " has no balances to continue from");
+            }
+            outstandingBalance = previous.getClosingBalance();
+            cumulativePrincipal = previous.getCumulativePrincipal();
+            cumulativeInterest = previous.getCumulativeInterest();
+        }
+
+        BigDecimal prepayment = event.getPrepaymentAmount();
+        if (prepayment != null) {
+            if (prepayment.compareTo(outstandingBalance) >= 0) {
+                throw new CalculationException(
+                    "Prepayment must be less than the outstanding balance of " + outstandingBalance);
+            }
+            outstandingBalance = outstandingBalance.subtract(prepayment);
+            cumulativePrincipal = cumulativePrincipal.add(prepayment);
+        }
+
+        BigDecimal annualRate = event.getInterestRate() != null ? event.getInterestRate() : loan.getInterestRate();
+        BigDecimal periodicRate = CalculationRules.periodicRate(annualRate, frequency);
+        int holidayMonths = event.getHolidayMonths() != null ? event.getHolidayMonths() : 0;
+        int holidayInstallments = holidayMonths > 0 ? holidayInstallments(frequency, holidayMonths) : 0;
+        int lastInstallment = installments + holidayInstallments;
+        int[] dueDates = dueDateCalendar.dueDates(
+            loan.getStartDate(), frequency, dueDateCalendar.holidayCalendar(loan), lastInstallment);
+
+        List<Installment> schedule = new ArrayList<>(lastInstallment);
+        schedule.addAll(existing.subList(0, from - 1));
+
+        // Payment holiday: nothing is paid and interest is capitalised
+        for (int i = from; i < from + holidayInstallments; i++) {
+            BigDecimal interest = outstandingBalance
+                .multiply(periodicRate)
+                .setScale(2, ROUNDING_MODE);
+            BigDecimal closingBalance = outstandingBalance.add(interest);
+
+            cumulativePrincipal = cumulativePrincipal.subtract(interest);
+            cumulativeInterest = cumulativeInterest.add(interest);
+
+            schedule.add(Installment.builder()
+                .installmentNumber(i)
+                .dueDate(LocalDate.ofEpochDay(dueDates[i]))
+                .openingBalance(outstandingBalance.setScale(2, ROUNDING_MODE))
+                .emi(BigDecimal.ZERO.setScale(2))
+                .principal(interest.negate())
+                .interest(interest)
+                .closingBalance(closingBalance.setScale(2, ROUNDING_MODE))
+                .cumulativePrincipal(cumulativePrincipal.setScale(2, ROUNDING_MODE))
+                .cumulativeInterest(cumulativeInterest.setScale(2, ROUNDING_MODE))
+                .build());
+
+            outstandingBalance = closingBalance;
+        }
+
+        // Re-amortise the balance over the installments that were left
+        int remaining = installments - from + 1;
+        BigDecimal emi = calculateEMI(outstandingBalance, periodicRate, remaining);
+        BigDecimal totalInterest = emitRows(
+            outstandingBalance, emi, periodicRate, from + holidayInstallments, lastInstallment, dueDates,
+            cumulativePrincipal, cumulativeInterest, schedule::add
+        );
+        BigDecimal totalPayment = loan.getPrincipal().add(totalInterest);
+
+        AuditTrail auditTrail = buildAuditTrail(outstandingBalance, annualRate, frequency, periodicRate, remaining, emi)
+            .withNote(RECALCULATION_NOTE, from, prepayment, holidayMonths);
+
+        log.debug("Recalculation completed for loanId: {} from installment {}. EMI: {}",
+            loan.getLoanId(), from, emi);
+
+        return EMISchedule.builder()
+            .loanId(loan.getLoanId())
+            .emi(emi.setScale(2, ROUNDING_MODE))
+            .totalInterest(totalInterest.setScale(2, ROUNDING_MODE))
+            .totalPayment(totalPayment.setScale(2, ROUNDING_MODE))
+            .schedule(schedule)
+            .auditTrail(auditTrail)
+            .calculationMethod(AmortisationMethod.REDUCING_BALANCE.name())
+            .build();
+    }
+
     /**
-     * Calculate monthly interest rate from annual rate
+     * Installments a payment holiday covers
      *
-     * @param annualRate Annual interest rate (e.g., 8.5 for 8.5%)
-     * @return Monthly interest rate as decimal (e.g., 0.00708333 for 8.5% annual)
+     * @param frequency Installment frequency
+     * @param holidayMonths Holiday length in months
+     * @return Installment count
+     * @throws CalculationException if the holiday is not a whole number of installments
      */
-    private BigDecimal calculateMonthlyRate(BigDecimal annualRate) {
-        return annualRate
-            .divide(BigDecimal.valueOf(12), DECIMAL_PRECISION, ROUNDING_MODE)
-            .divide(BigDecimal.valueOf(100), DECIMAL_PRECISION, ROUNDING_MODE);
+    private int holidayInstallments(PaymentFrequency frequency, int holidayMonths) {
+        int installments = frequency.installments(holidayMonths);
+        if (installments == 0) {
+            throw new CalculationException("Holiday of " + holidayMonths + " months is not a whole number of "
+                + frequency.getDisplayName().toLowerCase(Locale.ROOT) + " installments", "INVALID_HOLIDAY");
+        }
+        return installments;
     }
 
     /**
@@ -110,66 +468,186 @@ public class ReducingBalanceCalculator implements AmortisationCalculator {
      *
      * Formula: EMI = P × r × (1+r)^n / ((1+r)^n - 1)
      *
+     * The annuity factor comes from {@link EmiFactorCache}, which returns
+     * exactly what the formula above rounds to.
+     *
      * @param principal Loan principal amount
-     * @param monthlyRate Monthly interest rate (as decimal)
-     * @param tenure Number of months
-     * @return Monthly EMI amount
+     * @param periodicRate Interest rate per installment period (as decimal)
+     * @param installments Number of installments
+     * @return EMI amount
      */
-    private BigDecimal calculateEMI(BigDecimal principal, BigDecimal monthlyRate, int tenure) {
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+    protected BigDecimal calculateEMI(BigDecimal principal, BigDecimal periodicRate, int installments) {
+        if (periodicRate.compareTo(BigDecimal.ZERO) == 0) {
             // Zero interest case
-            return principal.divide(BigDecimal.valueOf(tenure), 2, ROUNDING_MODE);
+            return principal.divide(BigDecimal.valueOf(installments), 2, ROUNDING_MODE);
         }
 
-        // Calculate (1 + r)^n
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRatePowerN = onePlusRate.pow(tenure);
+        return emiFactorCache.calculateEMI(principal, periodicRate, installments);
+    }
 
-        // Calculate numerator: P × r × (1+r)^n
-        BigDecimal numerator = principal
-            .multiply(monthlyRate)
-            .multiply(onePlusRatePowerN);
+    /**
+     * Generate the installment schedule into the result builder
+     *
+     * @param builder Result builder to receive the schedule
+     * @param principal Loan principal
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @return Total interest over the schedule
+     */
+    protected BigDecimal populateSchedule(
+        EMISchedule.EMIScheduleBuilder builder,
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates
+    ) {
+        if (installments > COLUMNAR_INSTALLMENTS && FixedPointMath.supports(principal, periodicRate)) {
+            ScheduleColumns columns = generateColumns(principal, emi, periodicRate, installments, dueDates);
+            builder.columns(columns);
+            return FixedPointMath.toAmount(columns.getCumulativeInterest(columns.size() - 1));
+        }
 
-        // Calculate denominator: (1+r)^n - 1
-        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+        List<Installment> schedule = generateSchedule(principal, emi, periodicRate, installments, dueDates);
+        builder.schedule(schedule);
+        return calculateTotalInterest(schedule);
+    }
 
-        // Calculate EMI
-        return numerator.divide(denominator, 2, ROUNDING_MODE);
+    /**
+     * Generate the installment schedule straight into primitive columns
+     *
+     * @param principal Loan principal (at most two decimal places)
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @return Columnar schedule in minor units
+     */
+    ScheduleColumns generateColumns(
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates
+    ) {
+        PeriodRule rule = reducingBalance(FixedPointMath.toMinorUnits(emi), FixedPointMath.toRateUnits(periodicRate));
+        return ScheduleKernel.columns(FixedPointMath.toMinorUnits(principal), installments, dueDates, rule);
+    }
+
+    /**
+     * Equal installments with interest on the outstanding balance; the last
+     * installment keeps the EMI and absorbs the rounding in its interest
+     *
+     * @param emiAmount EMI in minor units
+     * @param rate Periodic rate in rate units
+     * @return Period rule for {@link ScheduleKernel}
+     */
+    static PeriodRule reducingBalance(long emiAmount, long rate) {
+        return new PeriodRule() {
+            @Override
+            public long interest(int installment, long openingBalance) {
+                return FixedPointMath.applyRate(openingBalance, rate);
+            }
+
+            @Override
+            public long principal(int installment, long openingBalance, long interest) {
+                return emiAmount - interest;
+            }
+
+            @Override
+            public long finalInterest(long openingBalance, long interest, long cumulativeInterest) {
+                return emiAmount - openingBalance;
+            }
+        };
     }
 
     /**
      * Generate complete installment schedule
      *
      * @param principal Loan principal
-     * @param emi Monthly EMI amount
-     * @param monthlyRate Monthly interest rate
-     * @param tenure Number of months
-     * @param startDate Loan start date
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
      * @return List of installments with principal/interest split
      */
-    private List<Installment> generateSchedule(
+    protected List<Installment> generateSchedule(
         BigDecimal principal,
         BigDecimal emi,
-        BigDecimal monthlyRate,
-        int tenure,
-        LocalDate startDate
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates
     ) {
-        List<Installment> schedule = new ArrayList<>(tenure);
-        BigDecimal outstandingBalance = principal;
-        BigDecimal cumulativePrincipal = BigDecimal.ZERO;
-        BigDecimal cumulativeInterest = BigDecimal.ZERO;
+        List<Installment> schedule = new ArrayList<>(installments);
+        emitSchedule(principal, emi, periodicRate, installments, dueDates, schedule::add);
+        return schedule;
+    }
+
+    /**
+     * Produce the installment schedule row by row
+     *
+     * @param principal Loan principal
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number
+     * @param rowSink Receives each installment as soon as it is computed
+     * @return Total interest over the schedule
+     */
+    protected BigDecimal emitSchedule(
+        BigDecimal principal,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int installments,
+        int[] dueDates,
+        Consumer<Installment> rowSink
+    ) {
+        return emitRows(principal, emi, periodicRate, 1, installments, dueDates, BigDecimal.ZERO, BigDecimal.ZERO, rowSink);
+    }
+
+    /**
+     * Produce a run of installments that amortises a balance to zero
+     *
+     * The last installment absorbs the rounding difference, exactly as for
+     * a full schedule.
+     *
+     * @param openingBalance Balance outstanding before the first installment
+     * @param emi EMI amount
+     * @param periodicRate Interest rate per installment period
+     * @param firstInstallment Number of the first installment produced
+     * @param lastInstallment Number of the last installment (balance is zero after it)
+     * @param dueDates Due dates as epoch days indexed by installment number, covering lastInstallment
+     * @param cumulativePrincipal Principal paid before the first installment
+     * @param cumulativeInterest Interest paid before the first installment
+     * @param rowSink Receives each installment as soon as it is computed
+     * @return Cumulative interest after the last installment
+     */
+    protected BigDecimal emitRows(
+        BigDecimal openingBalance,
+        BigDecimal emi,
+        BigDecimal periodicRate,
+        int firstInstallment,
+        int lastInstallment,
+        int[] dueDates,
+        BigDecimal cumulativePrincipal,
+        BigDecimal cumulativeInterest,
+        Consumer<Installment> rowSink
+    ) {
+        BigDecimal outstandingBalance = openingBalance;
 
-        for (int i = 1; i <= tenure; i++) {
-            // Calculate interest for this month
+        for (int i = firstInstallment; i <= lastInstallment; i++) {
+            // Calculate interest for this period
             BigDecimal interest = outstandingBalance
-                .multiply(monthlyRate)
+                .multiply(periodicRate)
                 .setScale(2, ROUNDING_MODE);
 
             // Calculate principal component
             BigDecimal principalComponent = emi.subtract(interest);
 
             // Adjust last installment for rounding differences
-            if (i == tenure) {
+            if (i == lastInstallment) {
                 principalComponent = outstandingBalance;
                 interest = emi.subtract(principalComponent);
             }
@@ -181,13 +659,10 @@ public class ReducingBalanceCalculator implements AmortisationCalculator {
             // Calculate closing balance
             BigDecimal closingBalance = outstandingBalance.subtract(principalComponent);
 
-            // Calculate due date (add i months to start date)
-            LocalDate dueDate = startDate.plusMonths(i);
-
             // Create installment
             Installment installment = Installment.builder()
                 .installmentNumber(i)
-                .dueDate(dueDate)
+                .dueDate(LocalDate.ofEpochDay(dueDates[i]))
                 .openingBalance(outstandingBalance.setScale(2, ROUNDING_MODE))
                 .emi(emi)
                 .principal(principalComponent.setScale(2, ROUNDING_MODE))
@@ -197,13 +672,25 @@ public class ReducingBalanceCalculator implements AmortisationCalculator {
                 .cumulativeInterest(cumulativeInterest.setScale(2, ROUNDING_MODE))
                 .build();
 
-            schedule.add(installment);
+            rowSink.accept(installment);
 
             // Update outstanding balance for next iteration
             outstandingBalance = closingBalance;
         }
 
-        return schedule;
+        return cumulativeInterest;
+    }
+
+    /**
+     * Due date of an installment of a loan described by checkpoints
+     *
+     * @param checkpoints Loan checkpoints
+     * @param installmentNumber Installment number (0 is the start date)
+     * @return Due date as epoch day
+     */
+    private int dueDate(ScheduleCheckpoints checkpoints, int installmentNumber) {
+        HolidayCalendar calendar = dueDateCalendar.holidayCalendar(checkpoints.getHolidayCalendar());
+        return dueDateCalendar.dueDate(checkpoints.getStartDate(), PaymentFrequency.MONTHLY, calendar, installmentNumber);
     }
 
     /**
@@ -218,59 +705,39 @@ public class ReducingBalanceCalculator implements AmortisationCalculator {
             .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
+    @Override
+    public AuditTrail auditTrail(CalculationRequest request, EMISchedule schedule) {
+        PaymentFrequency frequency = dueDateCalendar.frequency(request);
+        return buildAuditTrail(request.getPrincipal(), request.getInterestRate(), frequency,
+            CalculationRules.periodicRate(request.getInterestRate(), frequency),
+            dueDateCalendar.installments(frequency, request.getTenure()), schedule.getEmi());
+    }
+
     /**
-     * Build audit trail for compliance
+     * Capture audit trail for compliance
      *
      * @param principal Loan principal
      * @param annualRate Annual interest rate
-     * @param monthlyRate Monthly interest rate
-     * @param tenure Tenure in months
+     * @param frequency Installment frequency
+     * @param periodicRate Interest rate per installment period
+     * @param installments Number of installments
      * @param emi Calculated EMI
-     * @return Audit trail string
+     * @return Audit trail, rendered only when read
      */
-    private String buildAuditTrail(
+    private AuditTrail buildAuditTrail(
         BigDecimal principal,
         BigDecimal annualRate,
-        BigDecimal monthlyRate,
-        int tenure,
+        PaymentFrequency frequency,
+        BigDecimal periodicRate,
+        int installments,
         BigDecimal emi
     ) {
-        return String.format(
-            "Amortisation Method: REDUCING_BALANCE | " +
-            "Formula: EMI = P × r × (1+r)^n / ((1+r)^n - 1) | " +
-            "Parameters: P=%s, Annual Rate=%s%%, Monthly Rate=%s, n=%d | " +
-            "Calculated EMI: %s | " +
-            "Regulatory Version: RBI-2024-v1",
-            principal, annualRate, monthlyRate, tenure, emi
-        );
-    }
-
-    /**
-     * Validate calculation request
-     *
-     * @param request Calculation request
-     * @throws CalculationException if validation fails
-     */
-    private void validateRequest(CalculationRequest request) {
-        if (request.getPrincipal() == null || request.getPrincipal().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new CalculationException("Principal must be greater than zero");
-        }
-
-        if (request.getInterestRate() == null || request.getInterestRate().compareTo(BigDecimal.ZERO) < 0) {
-            throw new CalculationException("Interest rate must be non-negative");
-        }
-
-        if (request.getTenure() <= 0) {
-            throw new CalculationException("Tenure must be greater than zero");
-        }
-
-        if (request.getTenure() > 360) {
-            throw new CalculationException("Tenure cannot exceed 360 months");
-        }
-
-        if (request.getStartDate() == null) {
-            throw new CalculationException("Start date is required");
+        if (frequency == PaymentFrequency.MONTHLY) {
+            return AuditTrail.of(AmortisationMethod.REDUCING_BALANCE, AUDIT_PARAMETERS,
+                emi, principal, annualRate, periodicRate, installments);
         }
+        return AuditTrail.of(AmortisationMethod.REDUCING_BALANCE, PERIODIC_AUDIT_PARAMETERS,
+            emi, principal, annualRate, frequency, periodicRate, installments);
     }
 
     @Override
@@ -282,4 +749,20 @@ public class ReducingBalanceCalculator implements AmortisationCalculator {
     public String getCalculatorName() {
         return AmortisationMethod.REDUCING_BALANCE.name();
     }
+
+    /**
+     * Schedule generation step of a calculation
+     */
+    @FunctionalInterface
+    private interface ScheduleWriter {
+
+        BigDecimal write(
+            EMISchedule.EMIScheduleBuilder builder,
+            BigDecimal principal,
+            BigDecimal emi,
+            BigDecimal periodicRate,
+            int installments,
+            int[] dueDates
+        );
+    }
 }
@@ -0,0 +1,146 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.enums.AmortisationMethod;
+
+// ** import utils
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Periodic snapshots of a fixed-point schedule for random-access lookups
+ *
+ * Every {@link #INTERVAL} installments the running state (opening balance
+ * and cumulative principal/interest before that installment) is recorded
+ * in minor units. Any single installment can then be rebuilt by stepping
+ * at most INTERVAL - 1 rows forward from the nearest checkpoint, with the
+ * same per-row rounding as the full schedule. A 360 month loan needs 30
+ * checkpoints (well under 1 KB) instead of 360 Installment objects.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class ScheduleCheckpoints implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Installments between consecutive checkpoints
+     */
+    public static final int INTERVAL = 12;
+
+    private final AmortisationMethod method;
+    private final long emi;
+    private final long rate;
+    private final int tenure;
+    private final LocalDate startDate;
+    private final String holidayCalendar;
+    private final long[] openingBalances;
+    private final long[] cumulativePrincipals;
+    private final long[] cumulativeInterests;
+
+    ScheduleCheckpoints(
+        AmortisationMethod method,
+        long emi,
+        long rate,
+        int tenure,
+        LocalDate startDate,
+        String holidayCalendar
+    ) {
+        int count = (tenure + INTERVAL - 1) / INTERVAL;
+        this.method = method;
+        this.emi = emi;
+        this.rate = rate;
+        this.tenure = tenure;
+        this.startDate = startDate;
+        this.holidayCalendar = holidayCalendar;
+        this.openingBalances = new long[count];
+        this.cumulativePrincipals = new long[count];
+        this.cumulativeInterests = new long[count];
+    }
+
+    /**
+     * Record the state at the start of an installment
+     *
+     * @param installmentNumber Installment number (1-based, 1 + k × INTERVAL)
+     * @param openingBalance Opening balance in minor units
+     * @param cumulativePrincipal Principal paid before this installment
+     * @param cumulativeInterest Interest paid before this installment
+     */
+    void record(int installmentNumber, long openingBalance, long cumulativePrincipal, long cumulativeInterest) {
+        int slot = (installmentNumber - 1) / INTERVAL;
+        openingBalances[slot] = openingBalance;
+        cumulativePrincipals[slot] = cumulativePrincipal;
+        cumulativeInterests[slot] = cumulativeInterest;
+    }
+
+    /**
+     * Check whether an installment starts a checkpoint interval
+     *
+     * @param installmentNumber Installment number (1-based)
+     * @return true if its state should be recorded
+     */
+    static boolean isCheckpoint(int installmentNumber) {
+        return (installmentNumber - 1) % INTERVAL == 0;
+    }
+
+    /**
+     * Installment number of the nearest checkpoint at or before an installment
+     *
+     * @param installmentNumber Installment number (1-based)
+     * @return Checkpointed installment number
+     */
+    static int checkpointFor(int installmentNumber) {
+        return (installmentNumber - 1) / INTERVAL * INTERVAL + 1;
+    }
+
+    long getOpeningBalance(int checkpointInstallment) {
+        return openingBalances[(checkpointInstallment - 1) / INTERVAL];
+    }
+
+    long getCumulativePrincipal(int checkpointInstallment) {
+        return cumulativePrincipals[(checkpointInstallment - 1) / INTERVAL];
+    }
+
+    long getCumulativeInterest(int checkpointInstallment) {
+        return cumulativeInterests[(checkpointInstallment - 1) / INTERVAL];
+    }
+
+    /**
+     * Method of the calculator that built these checkpoints (and can locate rows in them)
+     */
+    public AmortisationMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * EMI in minor units
+     */
+    public long getEmi() {
+        return emi;
+    }
+
+    /**
+     * Monthly rate in 10^-15 units
+     */
+    public long getRate() {
+        return rate;
+    }
+
+    public int getTenure() {
+        return tenure;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Holiday calendar of the loan's due dates, or null for unadjusted dates
+     */
+    public String getHolidayCalendar() {
+        return holidayCalendar;
+    }
+}
@@ -0,0 +1,223 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+
+// ** import utils
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Row-emission kernel shared by the scaled-long calculators
+ *
+ * Owns everything a schedule row needs apart from the method's own split
+ * of each payment: due dates, opening and closing balances, cumulative
+ * principal and interest, and the final installment repaying whatever
+ * balance is left after rounding. A method supplies a {@link PeriodRule};
+ * rows are handed to a {@link RowSink} as primitives, so writing into
+ * {@link ScheduleColumns} allocates nothing per row and Installment
+ * objects are only built when a caller streams them.
+ *
+ * Amounts are minor units (see {@link FixedPointMath}). The installment
+ * amount of each row is its principal plus interest.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class ScheduleKernel {
+
+    private ScheduleKernel() {
+    }
+
+    /**
+     * How a method splits each installment into principal and interest
+     */
+    public interface PeriodRule {
+
+        /**
+         * Interest charged for an installment
+         *
+         * @param installment Installment number
+         * @param openingBalance Balance outstanding before the installment, in minor units
+         * @return Interest in minor units
+         */
+        long interest(int installment, long openingBalance);
+
+        /**
+         * Principal repaid by an installment other than the last
+         *
+         * @param installment Installment number
+         * @param openingBalance Balance outstanding before the installment, in minor units
+         * @param interest Interest returned by {@link #interest}
+         * @return Principal in minor units
+         */
+        long principal(int installment, long openingBalance, long interest);
+
+        /**
+         * Interest for the last installment, which repays the whole remaining balance
+         *
+         * @param openingBalance Balance outstanding before the last installment
+         * @param interest Interest returned by {@link #interest}
+         * @param cumulativeInterest Interest charged before the last installment
+         * @return Interest in minor units
+         */
+        default long finalInterest(long openingBalance, long interest, long cumulativeInterest) {
+            return interest;
+        }
+    }
+
+    /**
+     * Receives one schedule row as primitives
+     */
+    @FunctionalInterface
+    public interface RowSink {
+
+        void accept(
+            int installment,
+            int dueDate,
+            long openingBalance,
+            long emi,
+            long principal,
+            long interest,
+            long cumulativePrincipal,
+            long cumulativeInterest
+        );
+    }
+
+    /**
+     * Produce a run of installments that amortises a balance to zero
+     *
+     * @param openingBalance Balance outstanding before the first installment, in minor units
+     * @param firstInstallment Number of the first installment produced
+     * @param lastInstallment Number of the last installment (balance is zero after it)
+     * @param dueDates Due dates as epoch days indexed by installment number, covering lastInstallment
+     * @param cumulativePrincipal Principal paid before the first installment
+     * @param cumulativeInterest Interest paid before the first installment
+     * @param rule Principal and interest split of the method
+     * @param sink Receives each row as soon as it is computed
+     * @return Cumulative interest after the last installment, in minor units
+     */
+    public static long emit(
+        long openingBalance,
+        int firstInstallment,
+        int lastInstallment,
+        int[] dueDates,
+        long cumulativePrincipal,
+        long cumulativeInterest,
+        PeriodRule rule,
+        RowSink sink
+    ) {
+        long outstandingBalance = openingBalance;
+
+        for (int i = firstInstallment; i <= lastInstallment; i++) {
+            long interest = rule.interest(i, outstandingBalance);
+            long principalComponent;
+
+            // Last installment repays the balance left after rounding
+            if (i == lastInstallment) {
+                principalComponent = outstandingBalance;
+                interest = rule.finalInterest(outstandingBalance, interest, cumulativeInterest);
+            } else {
+                principalComponent = rule.principal(i, outstandingBalance, interest);
+            }
+
+            cumulativePrincipal += principalComponent;
+            cumulativeInterest += interest;
+
+            sink.accept(
+                i,
+                dueDates[i],
+                outstandingBalance,
+                principalComponent + interest,
+                principalComponent,
+                interest,
+                cumulativePrincipal,
+                cumulativeInterest
+            );
+
+            outstandingBalance -= principalComponent;
+        }
+
+        return cumulativeInterest;
+    }
+
+    /**
+     * Produce a complete schedule in columnar form
+     *
+     * @param principal Loan principal in minor units
+     * @param tenure Number of installments
+     * @param dueDates Due dates as epoch days indexed by installment number, covering tenure
+     * @param rule Principal and interest split of the method
+     * @return Columnar schedule
+     */
+    public static ScheduleColumns columns(long principal, int tenure, int[] dueDates, PeriodRule rule) {
+        ScheduleColumns columns = new ScheduleColumns(tenure);
+        emit(principal, 1, tenure, dueDates, 0, 0, rule, toColumns(columns));
+        return columns;
+    }
+
+    /**
+     * Sink appending rows to columns (installments must start at 1)
+     *
+     * @param columns Columns sized for the rows
+     * @return Row sink
+     */
+    public static RowSink toColumns(ScheduleColumns columns) {
+        return (installment, dueDate, openingBalance, emi, principal, interest, cumulativePrincipal,
+                cumulativeInterest) -> columns.add(
+            dueDate, openingBalance, emi, principal, interest, cumulativePrincipal, cumulativeInterest);
+    }
+
+    /**
+     * Hand columnar rows to a sink
+     *
+     * @param columns Schedule columns
+     * @param sink Receives each row in order
+     */
+    public static void replay(ScheduleColumns columns, RowSink sink) {
+        for (int i = 0; i < columns.size(); i++) {
+            sink.accept(i + 1, columns.getDueDate(i), columns.getOpeningBalance(i), columns.getEmi(i),
+                columns.getPrincipal(i), columns.getInterest(i), columns.getCumulativePrincipal(i),
+                columns.getCumulativeInterest(i));
+        }
+    }
+
+    /**
+     * Hand installments to a sink as primitives
+     *
+     * @param installments Installments with amounts of at most two decimal places
+     * @param sink Receives each row in order
+     */
+    public static void replay(List<Installment> installments, RowSink sink) {
+        for (Installment row : installments) {
+            sink.accept(row.getInstallmentNumber(), (int) row.getDueDate().toEpochDay(),
+                FixedPointMath.toMinorUnits(row.getOpeningBalance()), FixedPointMath.toMinorUnits(row.getEmi()),
+                FixedPointMath.toMinorUnits(row.getPrincipal()), FixedPointMath.toMinorUnits(row.getInterest()),
+                FixedPointMath.toMinorUnits(row.getCumulativePrincipal()),
+                FixedPointMath.toMinorUnits(row.getCumulativeInterest()));
+        }
+    }
+
+    /**
+     * Sink materialising each row as an Installment
+     *
+     * @param rowSink Receives installments in order
+     * @return Row sink
+     */
+    public static RowSink toInstallments(Consumer<Installment> rowSink) {
+        return (installment, dueDate, openingBalance, emi, principal, interest, cumulativePrincipal,
+                cumulativeInterest) -> rowSink.accept(Installment.builder()
+            .installmentNumber(installment)
+            .dueDate(LocalDate.ofEpochDay(dueDate))
+            .openingBalance(FixedPointMath.toAmount(openingBalance))
+            .emi(FixedPointMath.toAmount(emi))
+            .principal(FixedPointMath.toAmount(principal))
+            .interest(FixedPointMath.toAmount(interest))
+            .closingBalance(FixedPointMath.toAmount(openingBalance - principal))
+            .cumulativePrincipal(FixedPointMath.toAmount(cumulativePrincipal))
+            .cumulativeInterest(FixedPointMath.toAmount(cumulativeInterest))
+            .build());
+    }
+}
@@ -0,0 +1,26 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+/**
+ * Step-down EMI Amortisation Calculator
+ *
+ * Installments shrink by a fixed percentage at regular intervals; used for
+ * borrowers nearing retirement or with front-loaded income.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class StepDownCalculator extends StepEmiCalculator {
+
+    public StepDownCalculator(AmortisationProperties properties, DueDateCalendar dueDateCalendar) {
+        super(AmortisationMethod.STEP_DOWN, -1, properties, dueDateCalendar);
+    }
+}
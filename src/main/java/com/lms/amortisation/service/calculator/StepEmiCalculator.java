@@ -0,0 +1,165 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.service.calculator.ScheduleKernel.PeriodRule;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import utils
+import java.math.BigDecimal;
+
+/**
+ * Base for step-up and step-down EMI calculators
+ *
+ * The installment changes by stepPercent every stepMonths installments;
+ * stepped amounts are rounded to stepRounding rupees (0 keeps paise).
+ * The three come from the request options of the same names, or from
+ * app.amortisation.calculation.step-emi. Interest is charged on the
+ * outstanding balance at the monthly rate, as in the reducing balance
+ * method, and the base installment is found by {@link StepEmiSolver}.
+ * Steps are counted in months, so only monthly installments are supported.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public abstract class StepEmiCalculator extends KernelScheduleCalculator {
+
+    static final String STEP_PERCENT_OPTION = "stepPercent";
+    static final String STEP_MONTHS_OPTION = "stepMonths";
+    static final String STEP_ROUNDING_OPTION = "stepRounding";
+
+    static final String INVALID_STEP_OPTION = "INVALID_STEP_OPTION";
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final AuditTrail.Template PARAMETERS = AuditTrail.Template.of(
+        "P={}, Annual Rate={}%, Monthly Rate={}, n={}, Step={}{}% every {} months, Step Rounding={}");
+
+    private final int direction;
+    private final AmortisationProperties.StepEmi defaults;
+
+    /**
+     * @param method STEP_UP or STEP_DOWN
+     * @param direction 1 for installments that grow, -1 for installments that shrink
+     * @param properties Default step settings
+     */
+    protected StepEmiCalculator(
+        AmortisationMethod method,
+        int direction,
+        AmortisationProperties properties,
+        DueDateCalendar dueDateCalendar
+    ) {
+        super(method, dueDateCalendar);
+        this.direction = direction;
+        this.defaults = properties.getCalculation().getStepEmi();
+    }
+
+    @Override
+    protected boolean supportsFrequency(PaymentFrequency frequency) {
+        return frequency == PaymentFrequency.MONTHLY;
+    }
+
+    @Override
+    protected Plan plan(CalculationRequest request, long principal, Term term) {
+        BigDecimal monthlyRate = term.periodicRate();
+        BigDecimal stepPercent = decimalOption(request, STEP_PERCENT_OPTION, defaults.getStepPercent());
+        BigDecimal stepRounding = decimalOption(request, STEP_ROUNDING_OPTION, defaults.getStepRounding());
+        int tenure = request.getTenure();
+        int stepMonths = stepMonths(request, tenure);
+
+        if (stepPercent.signum() <= 0 || stepPercent.compareTo(HUNDRED) >= 0) {
+            throw new CalculationException("Step percent must be greater than 0 and less than 100", INVALID_STEP_OPTION);
+        }
+        if (stepRounding.signum() < 0 || stepRounding.scale() > FixedPointMath.MINOR_UNIT_SCALE) {
+            throw new CalculationException(
+                "Step rounding must be a non-negative amount in rupees and paise", INVALID_STEP_OPTION);
+        }
+
+        long roundingUnit = roundingUnit(stepRounding);
+        StepEmiSolver solver = new StepEmiSolver(
+            principal,
+            monthlyRate,
+            tenure,
+            stepPercent.divide(HUNDRED).multiply(BigDecimal.valueOf(direction)),
+            stepMonths,
+            roundingUnit
+        );
+        long baseEmi = solver.solve();
+        long[] installments = solver.installments(baseEmi);
+        long rate = FixedPointMath.toRateUnits(monthlyRate);
+
+        PeriodRule rule = new PeriodRule() {
+            @Override
+            public long interest(int installment, long openingBalance) {
+                return FixedPointMath.applyRate(openingBalance, rate);
+            }
+
+            @Override
+            public long principal(int installment, long openingBalance, long interest) {
+                return installments[(installment - 1) / stepMonths] - interest;
+            }
+        };
+
+        return Plan.of(baseEmi, rule);
+    }
+
+    @Override
+    protected AuditParameters auditParameters(CalculationRequest request, Term term, BigDecimal totalInterest) {
+        BigDecimal stepRounding = decimalOption(request, STEP_ROUNDING_OPTION, defaults.getStepRounding());
+        return new AuditParameters(PARAMETERS,
+            request.getPrincipal(), request.getInterestRate(), term.periodicRate(), request.getTenure(),
+            direction > 0 ? "+" : "-", decimalOption(request, STEP_PERCENT_OPTION, defaults.getStepPercent()),
+            stepMonths(request, request.getTenure()),
+            FixedPointMath.toAmount(roundingUnit(stepRounding)));
+    }
+
+    /**
+     * Amount in minor units stepped installments are rounded to; 0 keeps paise
+     */
+    private static long roundingUnit(BigDecimal stepRounding) {
+        return Math.max(FixedPointMath.toMinorUnits(stepRounding), 1);
+    }
+
+    /**
+     * Installments between steps: the configured default, or a whole number
+     * from 1 to the tenure when the request sets it
+     */
+    private int stepMonths(CalculationRequest request, int tenure) {
+        if (request.getOptions() == null || request.getOptions().get(STEP_MONTHS_OPTION) == null) {
+            if (defaults.getStepMonths() < 1) {
+                throw new CalculationException("Configured step months must be at least 1", INVALID_STEP_OPTION);
+            }
+            return defaults.getStepMonths();
+        }
+
+        BigDecimal value = decimalOption(request, STEP_MONTHS_OPTION, null);
+        try {
+            int stepMonths = value.intValueExact();
+            if (stepMonths >= 1 && stepMonths <= tenure) {
+                return stepMonths;
+            }
+        } catch (ArithmeticException e) {
+            // ** fractional or out of int range; reported below
+        }
+        throw new CalculationException(
+            "Step months must be a whole number from 1 to the tenure (" + tenure + "), got " + value.toPlainString(),
+            INVALID_STEP_OPTION);
+    }
+
+    private static BigDecimal decimalOption(CalculationRequest request, String key, BigDecimal defaultValue) {
+        Object value = request.getOptions() != null ? request.getOptions().get(key) : null;
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+            throw new CalculationException("Option " + key + " must be a number", INVALID_STEP_OPTION);
+        }
+    }
+}
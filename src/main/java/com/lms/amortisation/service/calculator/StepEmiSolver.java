@@ -0,0 +1,268 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Base installment solver for stepped (step-up / step-down) schedules
+ *
+ * The installment starts at a base amount E and is multiplied by
+ * (1 + g) every s months (g is negative for step-down); stepped amounts
+ * are rounded to a unit (a paisa, or a coarser amount such as a rupee).
+ * The base is the smallest E, in paise, whose installments repay the
+ * principal by the last installment on the fixed-point recurrence the
+ * schedule uses, so the final installment never exceeds its scheduled
+ * amount.
+ *
+ * Solving:
+ * 1. Closed form: without rounding, the present value of the installments
+ *    is E × a(s) × Σ q^j (q = (1 + g) × v^s, v = 1 / (1 + r)) plus the
+ *    partial last step, which gives E directly
+ * 2. Bracket the root around that guess, using the exact slope of the
+ *    residual balance in E for a Newton step
+ * 3. Narrow the bracket by regula falsi (Illinois variant) on the exact
+ *    residual until it is one paisa wide
+ *
+ * Each residual evaluation replays the balance recurrence on scaled
+ * longs. With paisa rounding the closed form is within a paisa, so a
+ * solve costs two or three replays; coarse rounding makes the residual a
+ * step function and adds a few secant iterations. {@link #bruteForce}
+ * bisects the same residual from scratch and is the reference the solver
+ * must match.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class StepEmiSolver {
+
+    private static final MathContext CONTEXT = MathContext.DECIMAL128;
+    private static final int MAX_SECANT_ITERATIONS = 64;
+    private static final long RESIDUAL_LIMIT = 100_000_000_000L;
+    private static final BigDecimal MAX_INSTALLMENT = BigDecimal.valueOf(RESIDUAL_LIMIT);
+
+    private final long principal;
+    private final long rate;
+    private final BigDecimal monthlyRate;
+    private final int tenure;
+    private final int stepMonths;
+    private final BigDecimal[] multipliers;
+    private final long roundingUnit;
+
+    private int evaluations;
+
+    /**
+     * Describe a stepped schedule
+     *
+     * @param principal Principal in minor units
+     * @param monthlyRate Monthly interest rate (at most fifteen decimal places)
+     * @param tenure Number of installments
+     * @param stepRate Growth per step as a decimal (0.10 steps up 10%, -0.10 steps down 10%)
+     * @param stepMonths Installments between steps
+     * @param roundingUnit Stepped installments are rounded to this many minor units (1 for a paisa)
+     */
+    public StepEmiSolver(
+        long principal,
+        BigDecimal monthlyRate,
+        int tenure,
+        BigDecimal stepRate,
+        int stepMonths,
+        long roundingUnit
+    ) {
+        this.principal = principal;
+        this.monthlyRate = monthlyRate;
+        this.rate = FixedPointMath.toRateUnits(monthlyRate);
+        this.tenure = tenure;
+        this.stepMonths = stepMonths;
+        this.roundingUnit = roundingUnit;
+
+        int steps = (tenure + stepMonths - 1) / stepMonths;
+        BigDecimal growth = BigDecimal.ONE.add(stepRate);
+        this.multipliers = new BigDecimal[steps];
+        multipliers[0] = BigDecimal.ONE;
+        for (int j = 1; j < steps; j++) {
+            multipliers[j] = multipliers[j - 1].multiply(growth, CONTEXT);
+        }
+    }
+
+    /**
+     * Find the base installment
+     *
+     * @return Base installment in minor units
+     */
+    public long solve() {
+        BigDecimal factor = presentValueFactor();
+        long guess = new BigDecimal(principal).divide(factor, CONTEXT).setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+        // ** residual balance falls by factor × (1+r)^n minor units per unit of E
+        double slope = factor.doubleValue() * Math.pow(1 + monthlyRate.doubleValue(), tenure);
+
+        long a = Math.max(guess, 1);
+        long fa = residual(a);
+        long b = Math.max(a + Math.round(fa / slope), 0);
+        if (b == a) {
+            b = fa > 0 ? a + 1 : a - 1;
+        }
+        long fb = residual(b);
+
+        // Expand until the root is bracketed; E = 0 always leaves a positive balance
+        long step = Math.max(Math.abs(b - a), 1);
+        while ((fa > 0) == (fb > 0)) {
+            step *= 2;
+            a = b;
+            fa = fb;
+            b = fb > 0 ? b + step : Math.max(b - step, 0);
+            fb = residual(b);
+        }
+
+        long low = fa > 0 ? a : b;
+        long lowResidual = fa > 0 ? fa : fb;
+        long high = fa > 0 ? b : a;
+        long highResidual = fa > 0 ? fb : fa;
+        int lastMoved = 0;
+
+        for (int iteration = 0; high - low > 1; iteration++) {
+            long x;
+            if (iteration < MAX_SECANT_ITERATIONS) {
+                double weight = (double) lowResidual / ((double) lowResidual - highResidual);
+                x = low + (long) (weight * (high - low));
+                x = Math.min(Math.max(x, low + 1), high - 1);
+            } else {
+                x = (low + high) >>> 1;
+            }
+
+            long fx = residual(x);
+            if (fx > 0) {
+                low = x;
+                lowResidual = fx;
+                // Illinois: halve the stale end so the next point moves across the root
+                if (lastMoved < 0) {
+                    highResidual /= 2;
+                }
+                lastMoved = -1;
+            } else {
+                high = x;
+                highResidual = fx;
+                if (lastMoved > 0) {
+                    lowResidual = Math.max(lowResidual / 2, 1);
+                }
+                lastMoved = 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Reference solver: bisect the residual from scratch
+     *
+     * @return Base installment in minor units, identical to {@link #solve()}
+     */
+    public long bruteForce() {
+        long low = 0;
+        long high = Math.max(principal, 1);
+        while (residual(high) > 0) {
+            low = high;
+            high *= 2;
+        }
+        while (high - low > 1) {
+            long mid = (low + high) >>> 1;
+            if (residual(mid) > 0) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Scheduled installment for each step
+     *
+     * @param baseEmi Base installment in minor units
+     * @return Installments in minor units, indexed by step
+     */
+    public long[] installments(long baseEmi) {
+        long[] amounts = new long[multipliers.length];
+        amounts[0] = baseEmi;
+        BigDecimal base = BigDecimal.valueOf(baseEmi);
+        BigDecimal unit = BigDecimal.valueOf(roundingUnit);
+        for (int j = 1; j < amounts.length; j++) {
+            BigDecimal units = base.multiply(multipliers[j], CONTEXT).divide(unit, 0, RoundingMode.HALF_UP);
+            // ** steep step-ups over long tenures outgrow any balance; capping
+            // ** keeps the amount monotone in E and inside long range
+            amounts[j] = units.multiply(unit).compareTo(MAX_INSTALLMENT) > 0
+                ? RESIDUAL_LIMIT
+                : units.longValueExact() * roundingUnit;
+        }
+        return amounts;
+    }
+
+    /**
+     * Balance left after paying every scheduled installment
+     *
+     * @param baseEmi Base installment in minor units
+     * @return Remaining balance in minor units: positive while E is too small,
+     *         zero or negative once it is large enough (magnitude exact only near the root)
+     */
+    long residual(long baseEmi) {
+        evaluations++;
+        long[] amounts = installments(baseEmi);
+        long balance = principal;
+        for (int i = 1; i <= tenure; i++) {
+            long interest = FixedPointMath.applyRate(balance, rate);
+            balance -= amounts[(i - 1) / stepMonths] - interest;
+
+            // ** only the sign decides the bracket: a repaid balance never
+            // ** turns positive again, and stopping early keeps runaway
+            // ** balances inside the range applyRate handles
+            if (balance <= 0 || balance > RESIDUAL_LIMIT) {
+                return balance;
+            }
+        }
+        return balance;
+    }
+
+    /**
+     * Present value of the unrounded installments per unit of base installment
+     */
+    private BigDecimal presentValueFactor() {
+        int steps = multipliers.length;
+        int lastStepMonths = tenure - (steps - 1) * stepMonths;
+
+        BigDecimal discount = BigDecimal.ONE.divide(BigDecimal.ONE.add(monthlyRate), CONTEXT);
+        BigDecimal stepDiscount = discount.pow(stepMonths, CONTEXT);
+        BigDecimal ratio = stepDiscount.multiply(multipliers.length > 1 ? multipliers[1] : BigDecimal.ONE, CONTEXT);
+
+        BigDecimal fullSteps;
+        if (ratio.compareTo(BigDecimal.ONE) == 0) {
+            fullSteps = BigDecimal.valueOf(steps - 1L);
+        } else {
+            fullSteps = BigDecimal.ONE.subtract(ratio.pow(steps - 1, CONTEXT))
+                .divide(BigDecimal.ONE.subtract(ratio), CONTEXT);
+        }
+
+        BigDecimal lastStep = multipliers[steps - 1]
+            .multiply(stepDiscount.pow(steps - 1, CONTEXT), CONTEXT)
+            .multiply(annuity(discount, lastStepMonths), CONTEXT);
+
+        return annuity(discount, stepMonths).multiply(fullSteps, CONTEXT).add(lastStep, CONTEXT);
+    }
+
+    /**
+     * Present value of 1 paid at the end of each of the next t months
+     */
+    private BigDecimal annuity(BigDecimal discount, int months) {
+        if (monthlyRate.signum() == 0) {
+            return BigDecimal.valueOf(months);
+        }
+        return BigDecimal.ONE.subtract(discount.pow(months, CONTEXT)).divide(monthlyRate, CONTEXT);
+    }
+
+    /**
+     * Residual evaluations made so far (each replays the schedule recurrence)
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+/**
+ * Step-up EMI Amortisation Calculator
+ *
+ * Installments grow by a fixed percentage at regular intervals; used for
+ * borrowers expecting rising income.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class StepUpCalculator extends StepEmiCalculator {
+
+    public StepUpCalculator(AmortisationProperties properties, DueDateCalendar dueDateCalendar) {
+        super(AmortisationMethod.STEP_UP, 1, properties, dueDateCalendar);
+    }
+}
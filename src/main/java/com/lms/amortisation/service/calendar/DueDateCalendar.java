@@ -0,0 +1,261 @@
+package com.lms.amortisation.service.calendar;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Locale;
+
+/**
+ * Shared, precomputed due-date sequences
+ *
+ * A sequence holds every business-day adjusted due date of one anchor over
+ * a fixed span of years as an int[] of epoch days:
+ * - calendar frequencies: one date per month on the start day-of-month
+ *   (clamped to the month end), shared by MONTHLY, QUARTERLY and
+ *   HALF_YEARLY loans which read every first, third or sixth entry
+ * - fixed-day frequencies: one date per step from the start date's
+ *   position in the step cycle
+ *
+ * Loans with the same anchor and holiday calendar share one sequence
+ * whatever their start month or tenure, so a schedule's dates are array
+ * reads instead of LocalDate arithmetic and holiday checks per row. Dates
+ * outside the span are computed directly.
+ *
+ * Misses build the sequence outside the cache's lock (a concurrent miss
+ * may build it twice, which is harmless) so virtual threads are never
+ * pinned while a sequence is computed.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class DueDateCalendar {
+
+    public static final String HOLIDAY_CALENDAR_OPTION = "holidayCalendar";
+
+    // ** Sequences cover due dates from 1990-01-01 to 2129-12-31
+    private static final int FIRST_YEAR = 1990;
+    private static final int YEARS = 140;
+    private static final int FIRST_MONTH = FIRST_YEAR * 12;
+    private static final int MONTHS = YEARS * 12;
+    private static final int FIRST_DAY = (int) LocalDate.of(FIRST_YEAR, 1, 1).toEpochDay();
+    private static final int DAYS = (int) LocalDate.of(FIRST_YEAR + YEARS, 1, 1).toEpochDay() - FIRST_DAY;
+
+    private final HolidayCalendars holidayCalendars;
+    private final String defaultHolidayCalendar;
+    private final Cache<SequenceKey, int[]> sequences;
+    private final Counter hits;
+    private final Counter misses;
+
+    public DueDateCalendar(
+        AmortisationProperties properties,
+        HolidayCalendars holidayCalendars,
+        MeterRegistry meterRegistry
+    ) {
+        this.holidayCalendars = holidayCalendars;
+        this.defaultHolidayCalendar = properties.getCalculation().getHolidayCalendar();
+        this.sequences = Caffeine.newBuilder()
+            .maximumSize(properties.getCalculation().getDueDateCacheSize())
+            .build();
+        this.hits = Counter.builder("amortisation.due.date.sequences")
+            .description("Due-date sequence lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("amortisation.due.date.sequences")
+            .description("Due-date sequence lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("amortisation.due.date.sequences.size", sequences, Cache::estimatedSize)
+            .description("Due-date sequences currently cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Installment frequency of a request
+     *
+     * @param request Calculation request
+     * @return Frequency (MONTHLY when not set)
+     * @throws CalculationException if the frequency is not supported
+     */
+    public PaymentFrequency frequency(CalculationRequest request) {
+        String name = request.getFrequency();
+        if (name == null || name.isBlank()) {
+            return PaymentFrequency.MONTHLY;
+        }
+        try {
+            return PaymentFrequency.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CalculationException("Unsupported payment frequency: " + name, "INVALID_FREQUENCY");
+        }
+    }
+
+    /**
+     * Installments of a request's tenure at a frequency
+     *
+     * @param frequency Installment frequency
+     * @param tenureMonths Tenure in months
+     * @return Installment count
+     * @throws CalculationException if the tenure is not a whole number of installments
+     */
+    public int installments(PaymentFrequency frequency, int tenureMonths) {
+        int installments = frequency.installments(tenureMonths);
+        if (installments == 0) {
+            throw new CalculationException("Tenure of " + tenureMonths + " months is not a whole number of "
+                + frequency.getDisplayName().toLowerCase(Locale.ROOT) + " installments", "INVALID_TENURE");
+        }
+        return installments;
+    }
+
+    /**
+     * Holiday calendar for a request's due dates
+     *
+     * @param request Calculation request
+     * @return The holidayCalendar option's calendar, else app.amortisation.calculation.holiday-calendar
+     * @throws CalculationException if no calendar has that name
+     */
+    public HolidayCalendar holidayCalendar(CalculationRequest request) {
+        Object name = request.getOptions() != null ? request.getOptions().get(HOLIDAY_CALENDAR_OPTION) : null;
+        return holidayCalendars.get(name != null ? name.toString() : defaultHolidayCalendar);
+    }
+
+    /**
+     * Holiday calendar by name
+     *
+     * @param name Calendar name, or null for no adjustment
+     * @return Calendar
+     * @throws CalculationException if no calendar has that name
+     */
+    public HolidayCalendar holidayCalendar(String name) {
+        return holidayCalendars.get(name);
+    }
+
+    /**
+     * Adjusted due dates of a loan
+     *
+     * @param startDate Loan start date
+     * @param frequency Installment frequency
+     * @param calendar Holiday calendar (modified following)
+     * @param periods Number of installments
+     * @return Epoch days indexed by installment number (index 0 is the unadjusted start date)
+     */
+    public int[] dueDates(LocalDate startDate, PaymentFrequency frequency, HolidayCalendar calendar, int periods) {
+        int[] dueDates = new int[periods + 1];
+        dueDates[0] = (int) startDate.toEpochDay();
+
+        int[] sequence = sequence(startDate, frequency, calendar);
+        int first = firstIndex(startDate, frequency);
+        int stride = frequency.isCalendar() ? frequency.getMonths() : 1;
+        if (first >= 0 && first + (long) periods * stride < sequence.length) {
+            if (stride == 1) {
+                System.arraycopy(sequence, first + 1, dueDates, 1, periods);
+            } else {
+                for (int i = 1, index = first + stride; i <= periods; i++, index += stride) {
+                    dueDates[i] = sequence[index];
+                }
+            }
+            return dueDates;
+        }
+
+        for (int i = 1; i <= periods; i++) {
+            dueDates[i] = dueDate(startDate, frequency, calendar, i);
+        }
+        return dueDates;
+    }
+
+    /**
+     * Adjusted due date of one installment
+     *
+     * @param startDate Loan start date
+     * @param frequency Installment frequency
+     * @param calendar Holiday calendar (modified following)
+     * @param installment Installment number (0 is the unadjusted start date)
+     * @return Due date as epoch day
+     */
+    public int dueDate(LocalDate startDate, PaymentFrequency frequency, HolidayCalendar calendar, int installment) {
+        if (installment == 0) {
+            return (int) startDate.toEpochDay();
+        }
+
+        int[] sequence = sequence(startDate, frequency, calendar);
+        long index = firstIndex(startDate, frequency)
+            + (long) installment * (frequency.isCalendar() ? frequency.getMonths() : 1);
+        if (index >= 0 && index < sequence.length) {
+            return sequence[(int) index];
+        }
+
+        LocalDate unadjusted = frequency.isCalendar()
+            ? startDate.plusMonths((long) installment * frequency.getMonths())
+            : startDate.plusDays((long) installment * frequency.getDays());
+        return calendar.adjust((int) unadjusted.toEpochDay());
+    }
+
+    private int[] sequence(LocalDate startDate, PaymentFrequency frequency, HolidayCalendar calendar) {
+        SequenceKey key = frequency.isCalendar()
+            ? new SequenceKey(startDate.getDayOfMonth(), 0, calendar.getName())
+            : new SequenceKey(
+                Math.floorMod((int) startDate.toEpochDay() - FIRST_DAY, frequency.getDays()),
+                frequency.getDays(),
+                calendar.getName());
+
+        int[] sequence = sequences.getIfPresent(key);
+        if (sequence != null) {
+            hits.increment();
+            return sequence;
+        }
+
+        misses.increment();
+        sequence = key.stepDays() == 0
+            ? buildMonthly(key.anchor(), calendar)
+            : buildFixedDays(key.anchor(), key.stepDays(), calendar);
+        sequences.put(key, sequence);
+        return sequence;
+    }
+
+    /**
+     * Index in the loan's sequence of its (unadjusted) start date
+     */
+    private static int firstIndex(LocalDate startDate, PaymentFrequency frequency) {
+        if (frequency.isCalendar()) {
+            return startDate.getYear() * 12 + startDate.getMonthValue() - 1 - FIRST_MONTH;
+        }
+        return Math.floorDiv((int) startDate.toEpochDay() - FIRST_DAY, frequency.getDays());
+    }
+
+    private static int[] buildMonthly(int dayOfMonth, HolidayCalendar calendar) {
+        int[] sequence = new int[MONTHS];
+        for (int m = 0; m < MONTHS; m++) {
+            YearMonth month = YearMonth.of(FIRST_YEAR + m / 12, m % 12 + 1);
+            int day = Math.min(dayOfMonth, month.lengthOfMonth());
+            sequence[m] = calendar.adjust((int) month.atDay(day).toEpochDay());
+        }
+        return sequence;
+    }
+
+    private static int[] buildFixedDays(int offset, int stepDays, HolidayCalendar calendar) {
+        int[] sequence = new int[DAYS / stepDays];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = calendar.adjust(FIRST_DAY + offset + i * stepDays);
+        }
+        return sequence;
+    }
+
+    /**
+     * Sequence identity: day-of-month (stepDays 0) or offset in the step cycle
+     */
+    private record SequenceKey(int anchor, int stepDays, String calendar) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.lms.amortisation.service.calendar;
+
+// ** import utils
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Non-business days of a market, as weekend days and dated holidays
+ *
+ * Holidays are held as a sorted int[] of epoch days, so a business-day
+ * check is a day-of-week test and a binary search. Immutable.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class HolidayCalendar {
+
+    /**
+     * Calendar with every day a business day (no due-date adjustment)
+     */
+    public static final HolidayCalendar NONE = new HolidayCalendar("NONE", EnumSet.noneOf(DayOfWeek.class), new int[0]);
+
+    private final String name;
+    private final Set<DayOfWeek> weekendDays;
+    private final int[] holidays;
+
+    private HolidayCalendar(String name, Set<DayOfWeek> weekendDays, int[] holidays) {
+        this.name = name;
+        this.weekendDays = weekendDays;
+        this.holidays = holidays;
+    }
+
+    /**
+     * Create a calendar
+     *
+     * @param name Calendar name
+     * @param weekendDays Days of the week that are never business days
+     * @param holidays Dated holidays
+     * @return Calendar
+     */
+    public static HolidayCalendar of(String name, Collection<DayOfWeek> weekendDays, Collection<LocalDate> holidays) {
+        Set<DayOfWeek> weekend = weekendDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekendDays);
+        if (weekend.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("Calendar " + name + " has no business days");
+        }
+
+        int[] days = holidays.stream().mapToInt(date -> (int) date.toEpochDay()).sorted().distinct().toArray();
+        return new HolidayCalendar(name, weekend, days);
+    }
+
+    /**
+     * Check whether a date is a business day
+     *
+     * @param epochDay Date as epoch day
+     * @return True unless the date is a weekend day or holiday
+     */
+    public boolean isBusinessDay(int epochDay) {
+        // ** 1970-01-01 was a Thursday
+        DayOfWeek dayOfWeek = DayOfWeek.of((int) Math.floorMod(epochDay + 3L, 7L) + 1);
+        return !weekendDays.contains(dayOfWeek) && Arrays.binarySearch(holidays, epochDay) < 0;
+    }
+
+    /**
+     * Move a due date to a business day (modified following)
+     *
+     * The date moves forward to the next business day unless that falls in
+     * the next month, in which case it moves back to the previous one.
+     *
+     * @param epochDay Unadjusted due date as epoch day
+     * @return Adjusted due date as epoch day
+     */
+    public int adjust(int epochDay) {
+        if (isBusinessDay(epochDay)) {
+            return epochDay;
+        }
+
+        int following = epochDay + 1;
+        while (!isBusinessDay(following)) {
+            following++;
+        }
+        if (LocalDate.ofEpochDay(following).getMonthValue() == LocalDate.ofEpochDay(epochDay).getMonthValue()) {
+            return following;
+        }
+
+        int preceding = epochDay - 1;
+        while (!isBusinessDay(preceding)) {
+            preceding--;
+        }
+        return preceding;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,61 @@
+package com.lms.amortisation.service.calendar;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Holiday calendars configured under app.amortisation.calendars
+ *
+ * Calendars are looked up by case-insensitive name; a null or blank name
+ * selects {@link HolidayCalendar#NONE}.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class HolidayCalendars {
+
+    private final Map<String, HolidayCalendar> calendars = new HashMap<>();
+
+    public HolidayCalendars(AmortisationProperties properties) {
+        properties.getCalendars().forEach((name, calendar) -> {
+            HolidayCalendar holidayCalendar = HolidayCalendar.of(
+                name,
+                calendar.getWeekendDays(),
+                calendar.getHolidays().stream().map(LocalDate::parse).toList()
+            );
+            calendars.put(name.toUpperCase(Locale.ROOT), holidayCalendar);
+        });
+        log.info("Holiday calendars: {}", calendars.keySet());
+    }
+
+    /**
+     * Get a calendar by name
+     *
+     * @param name Calendar name, or null for no adjustment
+     * @return Calendar
+     * @throws CalculationException if no calendar has that name
+     */
+    public HolidayCalendar get(String name) {
+        if (name == null || name.isBlank()) {
+            return HolidayCalendar.NONE;
+        }
+        HolidayCalendar calendar = calendars.get(name.toUpperCase(Locale.ROOT));
+        if (calendar == null) {
+            throw new CalculationException("Unknown holiday calendar: " + name, "UNKNOWN_CALENDAR");
+        }
+        return calendar;
+    }
+}
@@ -0,0 +1,133 @@
+package com.lms.amortisation.service.metrics;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.metrics.CalculationProfile.Phase;
+
+// ** import core packages
+import org.springframework.stereotype.Component;
+
+// ** import utils
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records calculation profiles as phase timers and allocation summaries
+ *
+ * Meters are tagged by amortisation method, product type and tenure
+ * bucket so that a latency spike can be traced to the loans causing it.
+ * They are registered on first use and kept in a map, so recording is a
+ * lookup and a histogram increment. With histograms enabled, timers and
+ * summaries publish percentile histograms whose buckets are trimmed to
+ * the expected range, keeping the series count per meter small.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Component
+public class CalculationMetrics {
+
+    private static final String PHASE_TIMER = "amortisation.calculate.phase";
+    private static final String ALLOCATION_SUMMARY = "amortisation.calculate.allocated";
+
+    private static final int[] TENURE_BUCKET_LIMITS = {12, 36, 60, 120, 240, 360};
+    private static final String[] TENURE_BUCKETS = {"1-12", "13-36", "37-60", "61-120", "121-240", "241-360", "361+"};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean histograms;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> allocations = new ConcurrentHashMap<>();
+
+    public CalculationMetrics(MeterRegistry meterRegistry, AmortisationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.histograms = properties.getDiagnostics().isPhaseHistograms();
+    }
+
+    /**
+     * Record a finished profile
+     *
+     * Profiles without a described calculation (e.g. rejected requests) are ignored.
+     *
+     * @param profile Finished profile
+     */
+    public void record(CalculationProfile profile) {
+        CalculationRequest request = profile.getRequest();
+        if (request == null) {
+            return;
+        }
+
+        AmortisationMethod method = request.getAmortisationMethod();
+        ProductType product = request.getProductType();
+        String tenure = tenureBucket(request.getTenure() != null ? request.getTenure() : 0);
+
+        for (Phase phase : Phase.values()) {
+            long nanos = profile.getNanos(phase);
+            if (nanos > 0) {
+                timers.computeIfAbsent(new MeterKey(phase, method, product, tenure), this::phaseTimer)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        long allocated = profile.getAllocatedBytes();
+        if (allocated >= 0) {
+            allocations.computeIfAbsent(new MeterKey(null, method, product, tenure), this::allocationSummary)
+                .record(allocated);
+        }
+    }
+
+    /**
+     * Tenure bucket tag of a tenure in months
+     *
+     * @param tenure Tenure in months
+     * @return Bucket label, e.g. "121-240"
+     */
+    public static String tenureBucket(int tenure) {
+        for (int i = 0; i < TENURE_BUCKET_LIMITS.length; i++) {
+            if (tenure <= TENURE_BUCKET_LIMITS[i]) {
+                return TENURE_BUCKETS[i];
+            }
+        }
+        return TENURE_BUCKETS[TENURE_BUCKETS.length - 1];
+    }
+
+    private Timer phaseTimer(MeterKey key) {
+        return Timer.builder(PHASE_TIMER)
+            .description("Time spent in each phase of a calculation request")
+            .tag("phase", key.phase().getTag())
+            .tag("method", tagValue(key.method()))
+            .tag("product", tagValue(key.product()))
+            .tag("tenure", key.tenure())
+            .publishPercentileHistogram(histograms)
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofSeconds(2))
+            .register(meterRegistry);
+    }
+
+    private DistributionSummary allocationSummary(MeterKey key) {
+        return DistributionSummary.builder(ALLOCATION_SUMMARY)
+            .description("Heap allocated by the request thread per calculation request")
+            .baseUnit("bytes")
+            .tag("method", tagValue(key.method()))
+            .tag("product", tagValue(key.product()))
+            .tag("tenure", key.tenure())
+            .publishPercentileHistogram(histograms)
+            .minimumExpectedValue(1024.0)
+            .maximumExpectedValue(256.0 * 1024 * 1024)
+            .register(meterRegistry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value != null ? value.name() : "none";
+    }
+
+    private record MeterKey(Phase phase, AmortisationMethod method, ProductType product, String tenure) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.lms.amortisation.service.metrics;
+
+// ** import types
+import com.lms.amortisation.model.dto.CalculationRequest;
+
+// ** import utils
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-request breakdown of where a calculation spends its time
+ *
+ * A profile is bound to the request thread between {@link #start()} and
+ * {@link #finish()}. Code on the calculation path calls {@link #lap} at
+ * the end of each phase, which adds the time since the previous lap (or
+ * {@link #mark()}) to that phase. Without a profile on the thread (batch
+ * runs, bulk workers, benchmarks) every call is a single ThreadLocal read.
+ *
+ * Heap allocated by the thread over the profile is taken from the JVM's
+ * per-thread allocation counter where the platform supports it.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class CalculationProfile {
+
+    /**
+     * Phases of a calculation request
+     */
+    public enum Phase {
+        VALIDATE("validate"),
+        EMI("emi"),
+        SCHEDULE("schedule"),
+        SERIALISATION("serialisation"),
+        CACHE("cache");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private static final ThreadLocal<CalculationProfile> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final long allocatedAtStart;
+    private long lastMark;
+    private CalculationRequest request;
+
+    private CalculationProfile() {
+        this.allocatedAtStart = allocatedBytes();
+        this.lastMark = System.nanoTime();
+    }
+
+    /**
+     * Bind a new profile to the current thread
+     */
+    public static void start() {
+        CURRENT.set(new CalculationProfile());
+    }
+
+    /**
+     * Unbind the current thread's profile
+     *
+     * @return The profile, or null if none was started
+     */
+    public static CalculationProfile finish() {
+        CalculationProfile profile = CURRENT.get();
+        CURRENT.remove();
+        return profile;
+    }
+
+    /**
+     * Record which loan terms the profile measures (tags its metrics)
+     *
+     * @param request Calculation request
+     */
+    public static void describe(CalculationRequest request) {
+        CalculationProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.request = request;
+        }
+    }
+
+    /**
+     * Start timing the next phase from now, discarding time since the last lap
+     */
+    public static void mark() {
+        CalculationProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.lastMark = System.nanoTime();
+        }
+    }
+
+    /**
+     * Add the time since the last lap or mark to a phase
+     *
+     * @param phase Phase that just ended
+     */
+    public static void lap(Phase phase) {
+        CalculationProfile profile = CURRENT.get();
+        if (profile != null) {
+            long now = System.nanoTime();
+            profile.phaseNanos[phase.ordinal()] += now - profile.lastMark;
+            profile.lastMark = now;
+        }
+    }
+
+    /**
+     * Loan terms the profile measured
+     *
+     * @return Calculation request, or null if no calculation was described
+     */
+    public CalculationRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Time spent in a phase
+     *
+     * @param phase Phase
+     * @return Nanoseconds, 0 if the phase did not run
+     */
+    public long getNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Heap allocated by the thread since the profile started
+     *
+     * @return Bytes, or -1 where the thread's allocation counter is unavailable
+     */
+    public long getAllocatedBytes() {
+        long now = allocatedBytes();
+        return now >= 0 && allocatedAtStart >= 0 ? now - allocatedAtStart : -1;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported()
+            && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.lms.amortisation.service.portfolio;
+
+// ** import types
+import com.lms.amortisation.service.calculator.ScheduleKernel;
+
+// ** import utils
+import java.util.Arrays;
+
+/**
+ * Per-month principal and interest totals for one shard of the loan book
+ *
+ * Keeps totals in flat long[] accumulators indexed by group × months +
+ * period, so its size depends on the number of months and groups only,
+ * never on the loans or rows seen. Schedule rows are received as
+ * primitives into group 0. Rows due before the first month are ignored
+ * (already collected); rows after the last month are added to a
+ * per-group beyond-horizon total.
+ *
+ * Not thread-safe: each worker fills its own accumulator and the shards
+ * are combined with {@link #merge} once they are complete. A worker
+ * calculates each loan into a one-group scratch accumulator and adds it
+ * to its shard with {@link #addLoan} only once the loan's schedule is
+ * complete, so a loan that fails part-way leaves no rows behind.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class CashFlowAccumulator implements ScheduleKernel.RowSink {
+
+    private final int[] monthStarts;
+    private final int months;
+    private final long[] principal;
+    private final long[] interest;
+    private final long[] principalBeyond;
+    private final long[] interestBeyond;
+    private final long[] loans;
+
+    // ** cells written since the last clear, so per-loan scratch is cheap to add and reset
+    private int firstCell = Integer.MAX_VALUE;
+    private int lastCell = -1;
+
+    /**
+     * Create empty accumulators
+     *
+     * @param monthStarts Epoch day of the first day of each month, plus the day after the last month
+     * @param groups Number of groups
+     */
+    public CashFlowAccumulator(int[] monthStarts, int groups) {
+        this.monthStarts = monthStarts;
+        this.months = monthStarts.length - 1;
+        this.principal = new long[groups * months];
+        this.interest = new long[groups * months];
+        this.principalBeyond = new long[groups];
+        this.interestBeyond = new long[groups];
+        this.loans = new long[groups];
+    }
+
+    /**
+     * Add one completed loan to a group and clear the loan's accumulator
+     *
+     * @param group Group index
+     * @param loan One-group accumulator over the same months holding only this loan's rows
+     */
+    public void addLoan(int group, CashFlowAccumulator loan) {
+        int offset = group * months;
+        for (int cell = loan.firstCell; cell <= loan.lastCell; cell++) {
+            principal[offset + cell] += loan.principal[cell];
+            interest[offset + cell] += loan.interest[cell];
+        }
+        principalBeyond[group] += loan.principalBeyond[0];
+        interestBeyond[group] += loan.interestBeyond[0];
+        loans[group]++;
+        loan.clear();
+    }
+
+    /**
+     * Discard the rows accepted since the last clear (for per-loan scratch accumulators)
+     */
+    public void clear() {
+        if (firstCell <= lastCell) {
+            Arrays.fill(principal, firstCell, lastCell + 1, 0);
+            Arrays.fill(interest, firstCell, lastCell + 1, 0);
+        }
+        Arrays.fill(principalBeyond, 0);
+        Arrays.fill(interestBeyond, 0);
+        Arrays.fill(loans, 0);
+        firstCell = Integer.MAX_VALUE;
+        lastCell = -1;
+    }
+
+    @Override
+    public void accept(
+        int installment,
+        int dueDate,
+        long openingBalance,
+        long emi,
+        long principal,
+        long interest,
+        long cumulativePrincipal,
+        long cumulativeInterest
+    ) {
+        if (dueDate < monthStarts[0]) {
+            return;
+        }
+        if (dueDate >= monthStarts[months]) {
+            principalBeyond[0] += principal;
+            interestBeyond[0] += interest;
+            return;
+        }
+
+        int period = Arrays.binarySearch(monthStarts, dueDate);
+        if (period < 0) {
+            period = -period - 2;
+        }
+        this.principal[period] += principal;
+        this.interest[period] += interest;
+        firstCell = Math.min(firstCell, period);
+        lastCell = Math.max(lastCell, period);
+    }
+
+    /**
+     * Add another shard's totals into this one
+     *
+     * @param other Completed shard over the same months and groups
+     */
+    public void merge(CashFlowAccumulator other) {
+        for (int i = 0; i < principal.length; i++) {
+            principal[i] += other.principal[i];
+            interest[i] += other.interest[i];
+        }
+        for (int g = 0; g < loans.length; g++) {
+            principalBeyond[g] += other.principalBeyond[g];
+            interestBeyond[g] += other.interestBeyond[g];
+            loans[g] += other.loans[g];
+        }
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public long getLoans(int group) {
+        return loans[group];
+    }
+
+    public long getPrincipal(int group, int period) {
+        return principal[group * months + period];
+    }
+
+    public long getInterest(int group, int period) {
+        return interest[group * months + period];
+    }
+
+    public long getPrincipalBeyond(int group) {
+        return principalBeyond[group];
+    }
+
+    public long getInterestBeyond(int group) {
+        return interestBeyond[group];
+    }
+}
@@ -0,0 +1,283 @@
+package com.lms.amortisation.service.portfolio;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.CashFlowProjection;
+import com.lms.amortisation.model.dto.CashFlowProjectionStatus;
+import com.lms.amortisation.model.dto.ProductCashFlow;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.batch.LoanIdRangePartitioner;
+import com.lms.amortisation.service.batch.LoanTermsRowMapper;
+import com.lms.amortisation.service.calculator.CalculatorRegistry;
+import com.lms.amortisation.service.calculator.FixedPointMath;
+
+// ** import core packages
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service projecting the active book's principal and interest inflows per month
+ *
+ * The book is split into the same loan-id ranges as the month-end job and
+ * each range is read through its own cursor on the batch executor. Every
+ * loan is calculated with {@link com.lms.amortisation.service.calculator.AmortisationCalculator#calculateRows}
+ * into a scratch {@link CashFlowAccumulator} that is added to the range's
+ * shard once the loan completes; no schedule or installment is retained.
+ * Shards are merged when all ranges are done, so memory is proportional to
+ * months × product types whatever the size of the book.
+ *
+ * A projection takes as long as a month-end pass over the book, so
+ * requests {@link #submit} it and poll {@link #getStatus}; one runs at a
+ * time and finished results are kept for app.amortisation.projection.result-ttl.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class CashFlowProjectionService {
+
+    private static final String ACTIVE_STATUS = "ACTIVE";
+
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    private static final String LOAN_RANGE_SQL =
+        "SELECT " + LoanTermsRowMapper.COLUMNS + " " +
+        "FROM LMS.LOANS l JOIN LMS.PRODUCT_CONFIG p ON p.PRODUCT_ID = l.PRODUCT_ID " +
+        "WHERE l.STATUS = ? AND l.LOAN_ID BETWEEN ? AND ?";
+
+    private static final ProductType[] GROUPS = ProductType.values();
+
+    private final CalculatorRegistry calculatorRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursor;
+    private final TaskExecutor batchExecutor;
+    private final TaskExecutor applicationTaskExecutor;
+    private final int gridSize;
+    private final int maxMonths;
+    private final Cache<String, CashFlowProjectionStatus> projections;
+    private final AtomicReference<String> runningProjection = new AtomicReference<>();
+
+    public CashFlowProjectionService(
+        CalculatorRegistry calculatorRegistry,
+        JdbcTemplate jdbcTemplate,
+        DataSource dataSource,
+        @Qualifier("batchExecutor") TaskExecutor batchExecutor,
+        @Qualifier("applicationTaskExecutor") TaskExecutor applicationTaskExecutor,
+        AmortisationProperties properties
+    ) {
+        AmortisationProperties.Batch batch = properties.getBatch();
+
+        this.calculatorRegistry = calculatorRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursor = new JdbcTemplate(dataSource);
+        this.cursor.setFetchSize(batch.getFetchSize());
+        this.batchExecutor = batchExecutor;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.gridSize = batch.getGridSize() > 0 ? batch.getGridSize() : batch.getParallelThreads() * 4;
+        this.maxMonths = properties.getProjection().getMaxMonths();
+        this.projections = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getProjection().getResultTtl())
+            .build();
+    }
+
+    /**
+     * Maximum months accepted in one projection
+     *
+     * @return Configured month limit
+     */
+    public int getMaxMonths() {
+        return maxMonths;
+    }
+
+    /**
+     * Start projecting the active book in the background
+     *
+     * @param from Any day of the first projected month
+     * @param months Number of months (1 to max-months)
+     * @return Running projection, or null if another projection is still running
+     */
+    public CashFlowProjectionStatus submit(LocalDate from, int months) {
+        String projectionId = UUID.randomUUID().toString();
+        if (!runningProjection.compareAndSet(null, projectionId)) {
+            return null;
+        }
+
+        CashFlowProjectionStatus status = CashFlowProjectionStatus.builder()
+            .projectionId(projectionId)
+            .status(RUNNING)
+            .from(from)
+            .months(months)
+            .startTime(LocalDateTime.now())
+            .build();
+        projections.put(projectionId, status);
+
+        try {
+            applicationTaskExecutor.execute(() -> run(status));
+        } catch (RuntimeException e) {
+            projections.invalidate(projectionId);
+            runningProjection.set(null);
+            throw e;
+        }
+        return status;
+    }
+
+    /**
+     * Status of a submitted projection, with its result once completed
+     *
+     * @param projectionId Projection ID returned by submit
+     * @return Status, or null if unknown or expired
+     */
+    public CashFlowProjectionStatus getStatus(String projectionId) {
+        return projections.getIfPresent(projectionId);
+    }
+
+    /**
+     * Run a submitted projection and record its outcome
+     */
+    private void run(CashFlowProjectionStatus submitted) {
+        CashFlowProjectionStatus.CashFlowProjectionStatusBuilder outcome = submitted.toBuilder();
+        try {
+            outcome.status(COMPLETED).projection(project(submitted.getFrom(), submitted.getMonths()));
+        } catch (RuntimeException e) {
+            log.error("Cash-flow projection {} failed", submitted.getProjectionId(), e);
+            outcome.status(FAILED).error(e.getMessage());
+        } finally {
+            projections.put(submitted.getProjectionId(), outcome.endTime(LocalDateTime.now()).build());
+            runningProjection.set(null);
+        }
+    }
+
+    /**
+     * Project monthly inflows of every active loan
+     *
+     * @param from Any day of the first projected month
+     * @param months Number of months (1 to max-months)
+     * @return Per-product monthly principal and interest
+     */
+    public CashFlowProjection project(LocalDate from, int months) {
+        LocalDate fromMonth = from.withDayOfMonth(1);
+        int[] monthStarts = new int[months + 1];
+        for (int i = 0; i <= months; i++) {
+            monthStarts[i] = (int) fromMonth.plusMonths(i).toEpochDay();
+        }
+
+        List<CompletableFuture<Shard>> pending = new ArrayList<>();
+        for (ExecutionContext range : new LoanIdRangePartitioner(jdbcTemplate, ACTIVE_STATUS).partition(gridSize).values()) {
+            String minLoanId = range.getString(LoanIdRangePartitioner.MIN_LOAN_ID);
+            String maxLoanId = range.getString(LoanIdRangePartitioner.MAX_LOAN_ID);
+            pending.add(CompletableFuture.supplyAsync(
+                () -> accumulate(minLoanId, maxLoanId, monthStarts), batchExecutor));
+        }
+
+        CashFlowAccumulator total = new CashFlowAccumulator(monthStarts, GROUPS.length);
+        long skipped = 0;
+        try {
+            for (CompletableFuture<Shard> shard : pending) {
+                Shard result = shard.join();
+                total.merge(result.accumulator());
+                skipped += result.skipped();
+            }
+        } catch (CompletionException e) {
+            throw new CalculationException("Cash-flow projection failed", "PROJECTION_FAILED", e.getCause());
+        }
+
+        return toProjection(fromMonth, total, skipped);
+    }
+
+    /**
+     * Calculate every loan of one range into a fresh shard
+     */
+    private Shard accumulate(String minLoanId, String maxLoanId, int[] monthStarts) {
+        CashFlowAccumulator accumulator = new CashFlowAccumulator(monthStarts, GROUPS.length);
+        CashFlowAccumulator loan = new CashFlowAccumulator(monthStarts, 1);
+        LoanTermsRowMapper rowMapper = new LoanTermsRowMapper();
+        long[] skipped = new long[1];
+
+        cursor.query(LOAN_RANGE_SQL, rs -> {
+            CalculationRequest request = rowMapper.mapRow(rs, 0);
+            if (request.getProductType() == null) {
+                skipped[0]++;
+                return;
+            }
+            try {
+                calculatorRegistry.get(request.getAmortisationMethod()).calculateRows(request, loan);
+                accumulator.addLoan(request.getProductType().ordinal(), loan);
+            } catch (CalculationException | ArithmeticException e) {
+                // ** rows the loan produced before failing are dropped with it
+                loan.clear();
+                log.warn("Skipped loanId {} in cash-flow projection: {}", request.getLoanId(), e.getMessage());
+                skipped[0]++;
+            }
+        }, ACTIVE_STATUS, minLoanId, maxLoanId);
+
+        return new Shard(accumulator, skipped[0]);
+    }
+
+    private CashFlowProjection toProjection(LocalDate fromMonth, CashFlowAccumulator total, long skipped) {
+        int months = total.getMonths();
+        List<ProductCashFlow> products = new ArrayList<>();
+        long loans = 0;
+
+        for (ProductType productType : GROUPS) {
+            int group = productType.ordinal();
+            if (total.getLoans(group) == 0) {
+                continue;
+            }
+            List<BigDecimal> principal = new ArrayList<>(months);
+            List<BigDecimal> interest = new ArrayList<>(months);
+            for (int period = 0; period < months; period++) {
+                principal.add(FixedPointMath.toAmount(total.getPrincipal(group, period)));
+                interest.add(FixedPointMath.toAmount(total.getInterest(group, period)));
+            }
+            products.add(ProductCashFlow.builder()
+                .productType(productType)
+                .loans(total.getLoans(group))
+                .principal(principal)
+                .interest(interest)
+                .principalBeyondHorizon(FixedPointMath.toAmount(total.getPrincipalBeyond(group)))
+                .interestBeyondHorizon(FixedPointMath.toAmount(total.getInterestBeyond(group)))
+                .build());
+            loans += total.getLoans(group);
+        }
+
+        log.info("Cash-flow projection from {} over {} months: {} loans aggregated, {} skipped",
+            fromMonth, months, loans, skipped);
+
+        return CashFlowProjection.builder()
+            .fromMonth(fromMonth)
+            .months(months)
+            .loans(loans)
+            .skipped(skipped)
+            .products(products)
+            .build();
+    }
+
+    /**
+     * Completed accumulator of one loan-id range
+     */
+    private record Shard(CashFlowAccumulator accumulator, long skipped) {
+    }
+}
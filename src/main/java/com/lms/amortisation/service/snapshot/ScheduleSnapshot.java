@@ -0,0 +1,256 @@
+package com.lms.amortisation.service.snapshot;
+
+// ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calculator.FixedPointMath;
+
+// ** import utils
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Read-only, memory-mapped file of precomputed schedules
+ *
+ * File layout (little endian, all amounts in minor units):
+ * - Header (64 bytes): magic, format version, creation time, loan and row
+ *   counts, section offsets
+ * - Rows: fixed 52-byte installment records (due epoch day, opening
+ *   balance, EMI, principal, interest, cumulative principal and interest),
+ *   each loan's rows contiguous
+ * - Loans: fixed 80-byte records sorted by loan ID (20-byte zero-padded
+ *   ASCII key, first row, row count, method, EMI, totals, calculation
+ *   time, audit trail position)
+ * - Strings: UTF-8 audit trails
+ *
+ * The loan table is the index: a lookup binary-searches it in the mapping
+ * and copies one loan's rows into {@link ScheduleColumns}. Nothing is
+ * loaded onto the heap when the file is opened, pages come from the OS
+ * page cache, and files larger than 2GB are mapped in overlapping 1GB
+ * windows. Instances are immutable and safe to share between threads.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class ScheduleSnapshot {
+
+    static final int MAGIC = 0x534E4150;
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 64;
+    static final int KEY_BYTES = 20;
+    static final int LOAN_RECORD_BYTES = 80;
+    static final int ROW_RECORD_BYTES = 52;
+
+    // ** loan record field offsets
+    static final int LOAN_FIRST_ROW = 20;
+    static final int LOAN_ROW_COUNT = 28;
+    static final int LOAN_METHOD = 32;
+    static final int LOAN_EMI = 36;
+    static final int LOAN_TOTAL_INTEREST = 44;
+    static final int LOAN_TOTAL_PAYMENT = 52;
+    static final int LOAN_CALCULATED_AT = 60;
+    static final int LOAN_AUDIT_OFFSET = 68;
+    static final int LOAN_AUDIT_LENGTH = 76;
+
+    // ** 1GB windows overlapping by more than one field, so no primitive
+    // ** read ever straddles two mappings
+    private static final int WINDOW_SHIFT = 30;
+    private static final long WINDOW_BYTES = 1L << WINDOW_SHIFT;
+    private static final long WINDOW_MASK = WINDOW_BYTES - 1;
+    private static final long WINDOW_OVERLAP = 64;
+
+    private final Path path;
+    private final MappedByteBuffer[] windows;
+    private final Instant createdAt;
+    private final int loanCount;
+    private final long rowCount;
+    private final long rowsOffset;
+    private final long loansOffset;
+    private final long stringsOffset;
+
+    private ScheduleSnapshot(Path path, MappedByteBuffer[] windows) throws IOException {
+        this.path = path;
+        this.windows = windows;
+
+        if (windows.length == 0 || getInt(0) != MAGIC) {
+            throw new IOException("Not a schedule snapshot: " + path);
+        }
+        if (getInt(4) != VERSION) {
+            throw new IOException("Unsupported schedule snapshot version " + getInt(4) + ": " + path);
+        }
+        this.createdAt = Instant.ofEpochMilli(getLong(8));
+        this.loanCount = Math.toIntExact(getLong(16));
+        this.rowCount = getLong(24);
+        this.rowsOffset = getLong(32);
+        this.loansOffset = getLong(40);
+        this.stringsOffset = getLong(48);
+    }
+
+    /**
+     * Map a snapshot file
+     *
+     * The mapping stays valid after the file is replaced or deleted, so
+     * callers holding this instance keep reading the version they opened.
+     *
+     * @param path Snapshot file
+     * @return Opened snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static ScheduleSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Truncated schedule snapshot: " + path);
+            }
+
+            int count = (int) ((size + WINDOW_MASK) >>> WINDOW_SHIFT);
+            MappedByteBuffer[] windows = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = (long) i << WINDOW_SHIFT;
+                long length = Math.min(size - start, WINDOW_BYTES + WINDOW_OVERLAP);
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                windows[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new ScheduleSnapshot(path, windows);
+        }
+    }
+
+    /**
+     * Look up a loan's schedule
+     *
+     * @param loanId Loan identifier
+     * @return Schedule in columnar form, or null if the loan is not in the snapshot
+     */
+    public EMISchedule find(String loanId) {
+        byte[] key = encodeKey(loanId);
+        if (key == null) {
+            return null;
+        }
+
+        int low = 0;
+        int high = loanCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long record = loansOffset + (long) mid * LOAN_RECORD_BYTES;
+            int comparison = compareKey(record, key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return readSchedule(loanId, record);
+            }
+        }
+        return null;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Encode a loan ID as a zero-padded ASCII key
+     *
+     * @return Key bytes, or null if the ID cannot be stored in the snapshot
+     */
+    static byte[] encodeKey(String loanId) {
+        if (loanId == null || loanId.isEmpty() || loanId.length() > KEY_BYTES) {
+            return null;
+        }
+        byte[] key = new byte[KEY_BYTES];
+        for (int i = 0; i < loanId.length(); i++) {
+            char c = loanId.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                return null;
+            }
+            key[i] = (byte) c;
+        }
+        return key;
+    }
+
+    private int compareKey(long record, byte[] key) {
+        for (int i = 0; i < KEY_BYTES; i++) {
+            int difference = Byte.compare(getByte(record + i), key[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private EMISchedule readSchedule(String loanId, long record) {
+        long firstRow = getLong(record + LOAN_FIRST_ROW);
+        int rows = getInt(record + LOAN_ROW_COUNT);
+        int method = getInt(record + LOAN_METHOD);
+
+        ScheduleColumns columns = new ScheduleColumns(rows);
+        long row = rowsOffset + firstRow * ROW_RECORD_BYTES;
+        for (int i = 0; i < rows; i++, row += ROW_RECORD_BYTES) {
+            columns.add(
+                getInt(row),
+                getLong(row + 4),
+                getLong(row + 12),
+                getLong(row + 20),
+                getLong(row + 28),
+                getLong(row + 36),
+                getLong(row + 44)
+            );
+        }
+
+        return EMISchedule.builder()
+            .loanId(loanId)
+            .calculatedAt(Instant.ofEpochMilli(getLong(record + LOAN_CALCULATED_AT)))
+            .emi(FixedPointMath.toAmount(getLong(record + LOAN_EMI)))
+            .totalInterest(FixedPointMath.toAmount(getLong(record + LOAN_TOTAL_INTEREST)))
+            .totalPayment(FixedPointMath.toAmount(getLong(record + LOAN_TOTAL_PAYMENT)))
+            .columns(columns)
+            .auditTrail(AuditTrail.rendered(readString(
+                stringsOffset + getLong(record + LOAN_AUDIT_OFFSET), getInt(record + LOAN_AUDIT_LENGTH))))
+            .calculationMethod(method >= 0 ? AmortisationMethod.values()[method].name() : null)
+            .build();
+    }
+
+    private String readString(long position, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = getByte(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte getByte(long position) {
+        return windows[(int) (position >>> WINDOW_SHIFT)].get((int) (position & WINDOW_MASK));
+    }
+
+    private int getInt(long position) {
+        return windows[(int) (position >>> WINDOW_SHIFT)].getInt((int) (position & WINDOW_MASK));
+    }
+
+    private long getLong(long position) {
+        return windows[(int) (position >>> WINDOW_SHIFT)].getLong((int) (position & WINDOW_MASK));
+    }
+}
@@ -0,0 +1,162 @@
+package com.lms.amortisation.service.snapshot;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.EMISchedule;
+
+// ** import core packages
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// ** import utils
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Local tier of precomputed schedules for loan-of-record lookups
+ *
+ * Holds the current {@link ScheduleSnapshot} written by the month-end job
+ * and swaps in a new one when the file changes: after a rebuild in this
+ * process, or when another pod publishes it to a shared volume (checked
+ * every reload-interval). When the path is on a persistent volume (as in
+ * the Kubernetes deployment) the file outlives the pod, so a restarted pod
+ * serves schedules as soon as it maps it, without warming Redis; the
+ * default relative path lives in the container and is lost with it.
+ *
+ * Schedules reflect loan terms as of the run that wrote the snapshot; a
+ * snapshot older than max-age is ignored and lookups fall through to the
+ * cache and Oracle.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.amortisation.snapshot", name = "enabled", havingValue = "true")
+public class ScheduleSnapshotStore {
+
+    private final Path path;
+    private final Duration maxAge;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile ScheduleSnapshot current;
+    private volatile FileTime loadedModified;
+
+    public ScheduleSnapshotStore(AmortisationProperties properties, MeterRegistry meterRegistry) {
+        this.path = Path.of(properties.getSnapshot().getPath());
+        this.maxAge = properties.getSnapshot().getMaxAge();
+        this.hits = Counter.builder("amortisation.snapshot.lookups")
+            .description("Schedule lookups against the local snapshot")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("amortisation.snapshot.lookups")
+            .description("Schedule lookups against the local snapshot")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("amortisation.snapshot.loans", this, store -> {
+                ScheduleSnapshot snapshot = store.current;
+                return snapshot != null ? snapshot.getLoanCount() : 0;
+            })
+            .description("Loans in the mapped schedule snapshot")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() {
+        reload();
+    }
+
+    /**
+     * Look up a precomputed schedule
+     *
+     * @param loanId Loan identifier
+     * @return Schedule, or null if there is no current snapshot or the loan is not in it
+     */
+    public EMISchedule find(String loanId) {
+        ScheduleSnapshot snapshot = current;
+        if (snapshot == null) {
+            return null;
+        }
+        if (snapshot.getCreatedAt().plus(maxAge).isBefore(Instant.now())) {
+            misses.increment();
+            return null;
+        }
+
+        EMISchedule schedule = snapshot.find(loanId);
+        (schedule != null ? hits : misses).increment();
+        return schedule;
+    }
+
+    /**
+     * Start writing a replacement snapshot
+     *
+     * @return Writer that publishes to the store's path on commit
+     * @throws IOException if the temporary files cannot be created
+     */
+    public ScheduleSnapshotWriter newWriter() throws IOException {
+        return new ScheduleSnapshotWriter(path);
+    }
+
+    /**
+     * Directory of the per-partition part files of a month-end run
+     *
+     * Keyed by run date rather than execution, so partitions completed
+     * before a restart keep their parts.
+     *
+     * @param runDate Month-end run date
+     * @return Directory next to the snapshot file
+     */
+    public Path partsDirectory(LocalDate runDate) {
+        return path.resolveSibling(path.getFileName() + ".parts").resolve(runDate.toString());
+    }
+
+    /**
+     * Map the snapshot file again if it changed since it was last opened
+     *
+     * A file that cannot be opened leaves the current snapshot in place.
+     */
+    @Scheduled(
+        initialDelayString = "${app.amortisation.snapshot.reload-interval:PT1M}",
+        fixedDelayString = "${app.amortisation.snapshot.reload-interval:PT1M}"
+    )
+    public void reload() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(loadedModified)) {
+                return;
+            }
+
+            ScheduleSnapshot snapshot = ScheduleSnapshot.open(path);
+            current = snapshot;
+            loadedModified = modified;
+            log.info("Mapped schedule snapshot {} ({} loans, {} installments, created {})",
+                path, snapshot.getLoanCount(), snapshot.getRowCount(), snapshot.getCreatedAt());
+        } catch (NoSuchFileException e) {
+            log.debug("No schedule snapshot at {}", path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not open schedule snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the snapshot currently served
+     *
+     * @return Current snapshot, or null if none is mapped
+     */
+    public ScheduleSnapshot getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,322 @@
+package com.lms.amortisation.service.snapshot;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.service.calculator.FixedPointMath;
+
+// ** import utils
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams schedules into a new snapshot file
+ *
+ * Rows go straight to a temporary file next to the target as they are
+ * appended, so memory use is bounded by the loan table (80 bytes per
+ * loan) rather than the row count. {@link #commit()} appends the sorted
+ * loan table and the audit trails, writes the header, forces the file to
+ * disk and atomically renames it over the target; readers either see the
+ * previous snapshot or the complete new one. Not thread-safe.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class ScheduleSnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final Path target;
+    private final Path rowsFile;
+    private final Path stringsFile;
+    private final FileChannel rows;
+    private final FileChannel strings;
+    private final ByteBuffer buffer;
+    private final ByteBuffer stringBuffer;
+    private final List<LoanEntry> loans = new ArrayList<>();
+
+    private long rowCount;
+    private long stringBytes;
+    private boolean committed;
+
+    /**
+     * Start a snapshot that will replace the target on commit
+     *
+     * @param target Snapshot file to create or replace
+     * @throws IOException if the temporary files cannot be created
+     */
+    public ScheduleSnapshotWriter(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        this.target = target;
+        this.rowsFile = Files.createTempFile(directory, target.getFileName() + ".", ".tmp");
+        this.stringsFile = Files.createTempFile(directory, target.getFileName() + ".", ".strings.tmp");
+        this.rows = FileChannel.open(rowsFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.strings = FileChannel.open(stringsFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.stringBuffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        // ** rows start after the header, which is written last
+        rows.position(ScheduleSnapshot.HEADER_BYTES);
+    }
+
+    /**
+     * Append a loan's schedule
+     *
+     * Schedules whose amounts cannot be held exactly in minor units, whose
+     * rows are not numbered 1..n, or whose loan ID does not fit the key are
+     * skipped so the snapshot never serves a schedule that differs from the
+     * calculator's output; those loans fall through to the regular path.
+     *
+     * @param schedule Schedule with loan ID set
+     * @return True if the schedule was written
+     * @throws IOException if the row file cannot be written
+     */
+    public boolean append(EMISchedule schedule) throws IOException {
+        byte[] key = ScheduleSnapshot.encodeKey(schedule.getLoanId());
+        if (key == null) {
+            return false;
+        }
+
+        int count = schedule.getInstallmentCount();
+        int[] dueDates = new int[count];
+        long[][] amounts = new long[6][count];
+        if (!copyRows(schedule, dueDates, amounts)) {
+            return false;
+        }
+
+        long emi;
+        long totalInterest;
+        long totalPayment;
+        try {
+            emi = FixedPointMath.toMinorUnits(schedule.getEmi());
+            totalInterest = FixedPointMath.toMinorUnits(schedule.getTotalInterest());
+            totalPayment = FixedPointMath.toMinorUnits(schedule.getTotalPayment());
+        } catch (ArithmeticException e) {
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (buffer.remaining() < ScheduleSnapshot.ROW_RECORD_BYTES) {
+                flush(rows, buffer);
+            }
+            buffer.putInt(dueDates[i]);
+            for (long[] column : amounts) {
+                buffer.putLong(column[i]);
+            }
+        }
+
+        long auditOffset = -1;
+        int auditLength = -1;
+        if (schedule.getAuditTrail() != null) {
+            byte[] audit = schedule.getAuditTrail().render().getBytes(StandardCharsets.UTF_8);
+            auditOffset = stringBytes;
+            auditLength = audit.length;
+            writeString(audit);
+        }
+
+        loans.add(new LoanEntry(key, rowCount, count, methodOrdinal(schedule.getCalculationMethod()),
+            emi, totalInterest, totalPayment, schedule.getCalculatedAt(), auditOffset, auditLength));
+        rowCount += count;
+        return true;
+    }
+
+    /**
+     * Finish the file and move it over the target
+     *
+     * @return Path of the published snapshot
+     * @throws IOException if the file cannot be completed or moved
+     */
+    public Path commit() throws IOException {
+        flush(rows, buffer);
+        flush(strings, stringBuffer);
+
+        loans.sort((left, right) -> Arrays.compare(left.key(), right.key()));
+        for (int i = 1; i < loans.size(); i++) {
+            if (Arrays.equals(loans.get(i - 1).key(), loans.get(i).key())) {
+                throw new IOException("Duplicate loan in schedule snapshot: "
+                    + new String(loans.get(i).key(), StandardCharsets.US_ASCII).trim());
+            }
+        }
+
+        long loansOffset = rows.position();
+        for (LoanEntry loan : loans) {
+            if (buffer.remaining() < ScheduleSnapshot.LOAN_RECORD_BYTES) {
+                flush(rows, buffer);
+            }
+            buffer.put(loan.key())
+                .putLong(loan.firstRow())
+                .putInt(loan.rowCount())
+                .putInt(loan.method())
+                .putLong(loan.emi())
+                .putLong(loan.totalInterest())
+                .putLong(loan.totalPayment())
+                .putLong(loan.calculatedAt())
+                .putLong(loan.auditOffset())
+                .putInt(loan.auditLength());
+        }
+        flush(rows, buffer);
+
+        long stringsOffset = rows.position();
+        long copied = 0;
+        while (copied < stringBytes) {
+            copied += strings.transferTo(copied, stringBytes - copied, rows);
+        }
+
+        buffer.clear();
+        buffer.putInt(ScheduleSnapshot.MAGIC)
+            .putInt(ScheduleSnapshot.VERSION)
+            .putLong(Instant.now().toEpochMilli())
+            .putLong(loans.size())
+            .putLong(rowCount)
+            .putLong(ScheduleSnapshot.HEADER_BYTES)
+            .putLong(loansOffset)
+            .putLong(stringsOffset);
+        while (buffer.position() < ScheduleSnapshot.HEADER_BYTES) {
+            buffer.put((byte) 0);
+        }
+        buffer.flip();
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += rows.write(buffer, position);
+        }
+        buffer.clear();
+
+        rows.force(true);
+        rows.close();
+        strings.close();
+        Files.deleteIfExists(stringsFile);
+        Files.move(rowsFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+        return target;
+    }
+
+    public int getLoanCount() {
+        return loans.size();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Discard the temporary files unless the snapshot was committed
+     */
+    @Override
+    public void close() throws IOException {
+        rows.close();
+        strings.close();
+        Files.deleteIfExists(stringsFile);
+        if (!committed) {
+            Files.deleteIfExists(rowsFile);
+        }
+    }
+
+    private static boolean copyRows(EMISchedule schedule, int[] dueDates, long[][] amounts) {
+        ScheduleColumns columns = schedule.getColumns();
+        if (columns != null) {
+            for (int i = 0; i < dueDates.length; i++) {
+                dueDates[i] = columns.getDueDate(i);
+                amounts[0][i] = columns.getOpeningBalance(i);
+                amounts[1][i] = columns.getEmi(i);
+                amounts[2][i] = columns.getPrincipal(i);
+                amounts[3][i] = columns.getInterest(i);
+                amounts[4][i] = columns.getCumulativePrincipal(i);
+                amounts[5][i] = columns.getCumulativeInterest(i);
+            }
+            return true;
+        }
+
+        List<Installment> installments = schedule.getSchedule();
+        try {
+            for (int i = 0; i < dueDates.length; i++) {
+                Installment installment = installments.get(i);
+                long opening = FixedPointMath.toMinorUnits(installment.getOpeningBalance());
+                long principal = FixedPointMath.toMinorUnits(installment.getPrincipal());
+
+                // ** the closing balance is derived on read, so only store
+                // ** schedules where it is exactly opening minus principal
+                if (installment.getInstallmentNumber() != i + 1
+                    || FixedPointMath.toMinorUnits(installment.getClosingBalance()) != opening - principal) {
+                    return false;
+                }
+
+                dueDates[i] = Math.toIntExact(installment.getDueDate().toEpochDay());
+                amounts[0][i] = opening;
+                amounts[1][i] = FixedPointMath.toMinorUnits(installment.getEmi());
+                amounts[2][i] = principal;
+                amounts[3][i] = FixedPointMath.toMinorUnits(installment.getInterest());
+                amounts[4][i] = FixedPointMath.toMinorUnits(installment.getCumulativePrincipal());
+                amounts[5][i] = FixedPointMath.toMinorUnits(installment.getCumulativeInterest());
+            }
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private static int methodOrdinal(String method) {
+        if (method == null) {
+            return -1;
+        }
+        try {
+            return AmortisationMethod.valueOf(method).ordinal();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private void writeString(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!stringBuffer.hasRemaining()) {
+                flush(strings, stringBuffer);
+            }
+            int length = Math.min(stringBuffer.remaining(), bytes.length - offset);
+            stringBuffer.put(bytes, offset, length);
+            offset += length;
+        }
+        stringBytes += bytes.length;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer source) throws IOException {
+        source.flip();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        source.clear();
+    }
+
+    private record LoanEntry(
+        byte[] key,
+        long firstRow,
+        int rowCount,
+        int method,
+        long emi,
+        long totalInterest,
+        long totalPayment,
+        long calculatedAt,
+        long auditOffset,
+        int auditLength
+    ) {
+        LoanEntry(byte[] key, long firstRow, int rowCount, int method, long emi, long totalInterest,
+                  long totalPayment, Instant calculatedAt, long auditOffset, int auditLength) {
+            this(key, firstRow, rowCount, method, emi, totalInterest, totalPayment,
+                calculatedAt != null ? calculatedAt.toEpochMilli() : 0L, auditOffset, auditLength);
+        }
+    }
+}
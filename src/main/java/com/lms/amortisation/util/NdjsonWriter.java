@@ -0,0 +1,85 @@
+package com.lms.amortisation.util;
+
+// ** import utils
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes newline-delimited JSON (one value per line) to an output stream
+ *
+ * Values are serialised straight into the stream as they are written, so
+ * memory use is bounded by the largest single value rather than by the
+ * whole response. Writes block when the client reads slowly, which is
+ * the backpressure for whatever produces the values.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class NdjsonWriter implements Closeable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final boolean flushEachValue;
+
+    /**
+     * @param objectMapper Mapper configured for API responses
+     * @param outputStream Response stream
+     * @param flushEachValue Flush after every line (large values) rather than
+     *                       whenever the buffer fills (many small values)
+     * @throws IOException if the generator cannot be created
+     */
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream, boolean flushEachValue) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEachValue = flushEachValue;
+    }
+
+    /**
+     * Write one value as a line
+     *
+     * @param value Value to serialise
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+        if (flushEachValue) {
+            generator.flush();
+        }
+    }
+
+    /**
+     * Write one value as a line, for use as a row sink
+     *
+     * @param value Value to serialise
+     * @throws UncheckedIOException if the stream cannot be written
+     */
+    public void emit(Object value) {
+        try {
+            write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Push buffered lines to the client
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,81 @@
+package com.lms.amortisation.util;
+
+// ** import utils
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one execution
+ *
+ * The first caller for a key runs the work on its own thread; callers that
+ * arrive while it is in flight wait for and share its result (or its
+ * exception). Nothing is remembered once the work completes, so this
+ * removes duplicate concurrent work only; caching results is up to the
+ * caller. Waiting blocks on a CompletableFuture, which does not pin
+ * virtual threads.
+ *
+ * @param <K> Key type
+ * @param <V> Result type
+ * @author LMS Team
+ * @version 1.0.0
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Run work for a key, or join the execution already in flight for it
+     *
+     * @param key Identity of the work
+     * @param work Computes the result; runs on the calling thread
+     * @return Result of this or the concurrent execution
+     * @throws RuntimeException thrown by the work, rethrown to every waiting caller
+     */
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V result = work.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Number of calls served by joining another caller's execution
+     *
+     * @return Coalesced call count since startup
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- ** Collection types bound by OracleArrayEmiScheduleWriter
+-- ** (app.amortisation.batch.schedule-writer: oracle-array, or auto on an Oracle URL)
+
+CREATE OR REPLACE TYPE LMS.EMI_VARCHAR_TAB AS TABLE OF VARCHAR2(20);
+/
+
+CREATE OR REPLACE TYPE LMS.EMI_NUMBER_TAB AS TABLE OF NUMBER;
+/
+
+GRANT EXECUTE ON LMS.EMI_VARCHAR_TAB TO lms_user;
+GRANT EXECUTE ON LMS.EMI_NUMBER_TAB TO lms_user;
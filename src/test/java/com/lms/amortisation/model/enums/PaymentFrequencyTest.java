@@ -0,0 +1,36 @@
+package com.lms.amortisation.model.enums;
+
+// ** import utils
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PaymentFrequency}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class PaymentFrequencyTest {
+
+    @Test
+    void countsDayFrequencyInstallmentsOverTheTenure() {
+        assertThat(PaymentFrequency.WEEKLY.installments(360)).isEqualTo(1560);
+        assertThat(PaymentFrequency.WEEKLY.installments(12)).isEqualTo(52);
+        assertThat(PaymentFrequency.FORTNIGHTLY.installments(360)).isEqualTo(780);
+        assertThat(PaymentFrequency.FORTNIGHTLY.installments(1)).isEqualTo(2);
+    }
+
+    @Test
+    void dividesTheTenureIntoCalendarPeriods() {
+        assertThat(PaymentFrequency.MONTHLY.installments(7)).isEqualTo(7);
+        assertThat(PaymentFrequency.QUARTERLY.installments(360)).isEqualTo(120);
+        assertThat(PaymentFrequency.HALF_YEARLY.installments(60)).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsTenuresThatAreNotWholePeriods() {
+        assertThat(PaymentFrequency.QUARTERLY.installments(7)).isZero();
+        assertThat(PaymentFrequency.HALF_YEARLY.installments(9)).isZero();
+    }
+}
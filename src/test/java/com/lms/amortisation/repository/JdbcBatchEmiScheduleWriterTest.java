@@ -0,0 +1,169 @@
+package com.lms.amortisation.repository;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+
+// ** import core packages
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+// ** import utils
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link JdbcBatchEmiScheduleWriter}
+ *
+ * Row counts sit on either side of {@link JdbcBatchEmiScheduleWriter#ROWS_PER_STATEMENT},
+ * so each write mixes full multi-row statements with the single-row
+ * remainder, and schedules are read back from an in-memory H2 EMI_SCHEDULE.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class JdbcBatchEmiScheduleWriterTest {
+
+    private static final int BATCH_ROWS = 100;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcBatchEmiScheduleWriter writer;
+
+    @BeforeEach
+    void createTable() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE SCHEMA LMS");
+        jdbcTemplate.execute("CREATE TABLE LMS.EMI_SCHEDULE ("
+            + "LOAN_ID VARCHAR(20) NOT NULL, "
+            + "INSTALLMENT_NUMBER INTEGER NOT NULL, "
+            + "DUE_DATE DATE NOT NULL, "
+            + "OPENING_BALANCE DECIMAL(15, 2) NOT NULL, "
+            + "EMI DECIMAL(15, 2) NOT NULL, "
+            + "PRINCIPAL DECIMAL(15, 2) NOT NULL, "
+            + "INTEREST DECIMAL(15, 2) NOT NULL, "
+            + "CLOSING_BALANCE DECIMAL(15, 2) NOT NULL, "
+            + "CUMULATIVE_PRINCIPAL DECIMAL(15, 2), "
+            + "CUMULATIVE_INTEREST DECIMAL(15, 2), "
+            + "PRIMARY KEY (LOAN_ID, INSTALLMENT_NUMBER))");
+        writer = new JdbcBatchEmiScheduleWriter(jdbcTemplate, BATCH_ROWS);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        database.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 49, 50, 51, 361 })
+    void writesEveryRowOfAColumnarSchedule(int rows) {
+        EMISchedule schedule = schedule("LN1", rows, 0, true);
+
+        assertThat(writer.replaceSchedules(List.of(schedule))).isEqualTo(rows);
+
+        assertThat(count()).isEqualTo(rows);
+        assertThat(read("LN1")).containsExactlyElementsOf(schedule.getSchedule());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 49, 50, 51, 361 })
+    void writesEveryRowOfAnInstallmentList(int rows) {
+        EMISchedule schedule = schedule("LN1", rows, 0, false);
+
+        assertThat(writer.replaceSchedules(List.of(schedule))).isEqualTo(rows);
+
+        assertThat(count()).isEqualTo(rows);
+        assertThat(read("LN1")).containsExactlyElementsOf(schedule.getSchedule());
+    }
+
+    @Test
+    void carriesRowsAcrossStatementsAndSchedules() {
+        // ** 361 rows in schedules that end mid-statement, flushed every BATCH_ROWS rows
+        List<EMISchedule> schedules = new ArrayList<>();
+        int[] sizes = { 49, 1, 51, 50, 120, 90 };
+        for (int i = 0; i < sizes.length; i++) {
+            schedules.add(schedule("LN" + i, sizes[i], i, i % 2 == 0));
+        }
+
+        assertThat(writer.replaceSchedules(schedules)).isEqualTo(361);
+
+        assertThat(count()).isEqualTo(361);
+        for (EMISchedule schedule : schedules) {
+            assertThat(read(schedule.getLoanId())).as(schedule.getLoanId())
+                .containsExactlyElementsOf(schedule.getSchedule());
+        }
+    }
+
+    @Test
+    void replacesRatherThanAppends() {
+        EMISchedule other = schedule("LN2", 12, 7, true);
+        writer.replaceSchedules(List.of(schedule("LN1", 51, 0, true), other));
+
+        EMISchedule replacement = schedule("LN1", 49, 3, false);
+        assertThat(writer.replaceSchedules(List.of(replacement))).isEqualTo(49);
+
+        assertThat(count()).isEqualTo(49 + 12);
+        assertThat(read("LN1")).containsExactlyElementsOf(replacement.getSchedule());
+        assertThat(read("LN2")).containsExactlyElementsOf(other.getSchedule());
+    }
+
+    /**
+     * Schedule with distinct amounts in every row, so misplaced binds show up
+     */
+    private static EMISchedule schedule(String loanId, int rows, int seed, boolean columnar) {
+        ScheduleColumns columns = new ScheduleColumns(rows);
+        long balance = rows * 100_000L + seed;
+        long cumulativePrincipal = 0;
+        long cumulativeInterest = 0;
+        for (int n = 1; n <= rows; n++) {
+            long interest = n * 7L + seed;
+            long principal = n == rows ? balance : 100_000L;
+            cumulativePrincipal += principal;
+            cumulativeInterest += interest;
+            columns.add((int) LocalDate.of(2025, 1, 31).plusMonths(n).toEpochDay(),
+                balance, principal + interest, principal, interest, cumulativePrincipal, cumulativeInterest);
+            balance -= principal;
+        }
+
+        EMISchedule.EMIScheduleBuilder schedule = EMISchedule.builder().loanId(loanId);
+        return columnar
+            ? schedule.columns(columns).build()
+            : schedule.schedule(new ArrayList<>(columns.asInstallments())).build();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM LMS.EMI_SCHEDULE", Integer.class);
+    }
+
+    private List<Installment> read(String loanId) {
+        return jdbcTemplate.query(
+            "SELECT * FROM LMS.EMI_SCHEDULE WHERE LOAN_ID = ? ORDER BY INSTALLMENT_NUMBER",
+            (rs, rowNum) -> Installment.builder()
+                .installmentNumber(rs.getInt("INSTALLMENT_NUMBER"))
+                .dueDate(rs.getObject("DUE_DATE", LocalDate.class))
+                .openingBalance(rs.getBigDecimal("OPENING_BALANCE"))
+                .emi(rs.getBigDecimal("EMI"))
+                .principal(rs.getBigDecimal("PRINCIPAL"))
+                .interest(rs.getBigDecimal("INTEREST"))
+                .closingBalance(rs.getBigDecimal("CLOSING_BALANCE"))
+                .cumulativePrincipal(rs.getBigDecimal("CUMULATIVE_PRINCIPAL"))
+                .cumulativeInterest(rs.getBigDecimal("CUMULATIVE_INTEREST"))
+                .build(),
+            loanId);
+    }
+}
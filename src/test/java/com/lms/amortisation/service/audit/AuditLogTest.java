@@ -0,0 +1,93 @@
+package com.lms.amortisation.service.audit;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link AuditLog}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class AuditLogTest {
+
+    private static final AuditTrail.Template PARAMETERS = AuditTrail.Template.of("P={}");
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void writesEveryQueuedRecordBeforeClosing() throws Exception {
+        AuditLog auditLog = auditLog();
+        auditLog.open();
+        for (int i = 0; i < 100; i++) {
+            auditLog.append("LN" + i, "user", trail());
+        }
+        auditLog.close();
+
+        List<String> lines = Files.readAllLines(directory.resolve("audit.log"));
+        assertThat(lines).hasSize(100);
+        assertThat(lines.get(0)).contains("loanId=LN0", "requestedBy=user", "P=500000.00");
+        assertThat(records("written")).isEqualTo(100);
+    }
+
+    @Test
+    void rejectsRecordsAppendedAfterClose() throws Exception {
+        AuditLog auditLog = auditLog();
+        auditLog.open();
+        auditLog.close();
+
+        auditLog.append("LN1", "user", trail());
+
+        assertThat(Files.readAllLines(directory.resolve("audit.log"))).isEmpty();
+        assertThat(records("failed")).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "data/audit/calculation-audit.log" })
+    void refusesToStartWithoutAnAbsolutePath(String path) {
+        AmortisationProperties properties = new AmortisationProperties();
+        properties.getCompliance().getAuditLog().setPath(path);
+
+        assertThatThrownBy(() -> new AuditLog(properties, meterRegistry))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("must be an absolute path");
+    }
+
+    private AuditLog auditLog() {
+        AmortisationProperties properties = new AmortisationProperties();
+        AmortisationProperties.AuditLog settings = properties.getCompliance().getAuditLog();
+        settings.setPath(directory.resolve("audit.log").toString());
+        settings.setBatchSize(16);
+        settings.setFsyncInterval(Duration.ofMillis(10));
+        return new AuditLog(properties, meterRegistry);
+    }
+
+    private double records(String result) {
+        return meterRegistry.get("amortisation.audit.records").tag("result", result).counter().count();
+    }
+
+    private static AuditTrail trail() {
+        return AuditTrail.of(AmortisationMethod.REDUCING_BALANCE, PARAMETERS,
+            new BigDecimal("8677.46"), new BigDecimal("500000.00"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.lms.amortisation.service.batch;
+
+// ** import types
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+
+// ** import core packages
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ScheduleSnapshotPartWriter}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class ScheduleSnapshotPartWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasWritten() throws Exception {
+        Path part = directory.resolve("partition0.part");
+        ScheduleSnapshotPartWriter writer = new ScheduleSnapshotPartWriter(part);
+        writer.open(new ExecutionContext());
+        writer.write(Chunk.of(schedule("LN1"), schedule("LN2")));
+        writer.close();
+
+        assertThat(read(part)).extracting(EMISchedule::getLoanId).containsExactly("LN1", "LN2");
+        assertThat(read(part).get(0).getInstallmentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void restartTruncatesToTheCommittedLength() throws Exception {
+        Path part = directory.resolve("partition0.part");
+        ExecutionContext context = new ExecutionContext();
+
+        ScheduleSnapshotPartWriter writer = new ScheduleSnapshotPartWriter(part);
+        writer.open(context);
+        writer.write(Chunk.of(schedule("LN1")));
+        writer.update(context);
+        // ** written but never committed
+        writer.write(Chunk.of(schedule("LN2")));
+        writer.close();
+
+        ScheduleSnapshotPartWriter restarted = new ScheduleSnapshotPartWriter(part);
+        restarted.open(context);
+        restarted.write(Chunk.of(schedule("LN3")));
+        restarted.close();
+
+        assertThat(read(part)).extracting(EMISchedule::getLoanId).containsExactly("LN1", "LN3");
+    }
+
+    private static List<EMISchedule> read(Path part) throws Exception {
+        List<EMISchedule> schedules = new ArrayList<>();
+        ScheduleSnapshotPartWriter.read(part, schedules::add);
+        return schedules;
+    }
+
+    private static EMISchedule schedule(String loanId) {
+        return EMISchedule.builder()
+            .loanId(loanId)
+            .emi(new BigDecimal("505.00"))
+            .totalInterest(new BigDecimal("10.00"))
+            .totalPayment(new BigDecimal("1010.00"))
+            .calculationMethod("FLAT_RATE")
+            .schedule(List.of(
+                installment(1, "1000.00", "500.00", "5.00", "500.00", "5.00"),
+                installment(2, "500.00", "500.00", "5.00", "1000.00", "10.00")))
+            .build();
+    }
+
+    private static Installment installment(
+        int number, String opening, String principal, String interest, String cumulativePrincipal, String cumulativeInterest
+    ) {
+        BigDecimal openingBalance = new BigDecimal(opening);
+        BigDecimal principalComponent = new BigDecimal(principal);
+        return Installment.builder()
+            .installmentNumber(number)
+            .dueDate(LocalDate.of(2025, 1, 1).plusMonths(number))
+            .openingBalance(openingBalance)
+            .emi(new BigDecimal("505.00"))
+            .principal(principalComponent)
+            .interest(new BigDecimal(interest))
+            .closingBalance(openingBalance.subtract(principalComponent))
+            .cumulativePrincipal(new BigDecimal(cumulativePrincipal))
+            .cumulativeInterest(new BigDecimal(cumulativeInterest))
+            .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.DayCountConvention;
+import com.lms.amortisation.model.enums.ProductType;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CalculationFingerprint}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class CalculationFingerprintTest {
+
+    private static final String SETTINGS = CalculationFingerprint.settings(new AmortisationProperties());
+
+    @Test
+    void ignoresLoanIdAndRequester() {
+        CalculationRequest first = request("500000.00", "8.5");
+        CalculationRequest second = request("500000.00", "8.5");
+        second.setLoanId("LN2");
+        second.setRequestedBy("someone-else");
+
+        assertThat(fingerprint(first)).isEqualTo(fingerprint(second));
+    }
+
+    @Test
+    void comparesNumbersByValue() {
+        assertThat(fingerprint(request("500000", "8.5")))
+            .isEqualTo(fingerprint(request("500000.00", "8.5")))
+            .isEqualTo(fingerprint(request("5E+5", "8.50")));
+        assertThat(fingerprint(request("500000.00", "8.5")))
+            .isNotEqualTo(fingerprint(request("500000.01", "8.5")));
+    }
+
+    @Test
+    void keepsThePrincipalScaleBeyondPaise() {
+        // ** the reducing balance schedule carries it into the last installment's interest
+        assertThat(fingerprint(request("500000.000", "8.5")))
+            .isNotEqualTo(fingerprint(request("500000.00", "8.5")));
+    }
+
+    @Test
+    void includesTheConfiguredDefaults() {
+        AmortisationProperties dayCount = new AmortisationProperties();
+        dayCount.getCalculation().getDailyReducing().setDayCount(DayCountConvention.THIRTY_360);
+        AmortisationProperties holidayCalendar = new AmortisationProperties();
+        holidayCalendar.getCalculation().setHolidayCalendar("IN");
+        AmortisationProperties holidays = new AmortisationProperties();
+        AmortisationProperties.Calendar calendar = new AmortisationProperties.Calendar();
+        calendar.setHolidays(List.of("2025-01-26"));
+        holidays.getCalendars().put("IN", calendar);
+        AmortisationProperties stepEmi = new AmortisationProperties();
+        stepEmi.getCalculation().getStepEmi().setStepMonths(6);
+
+        CalculationRequest request = request("500000.00", "8.5");
+        assertThat(List.of(dayCount, holidayCalendar, holidays, stepEmi))
+            .extracting(properties -> CalculationFingerprint.of(request, CalculationFingerprint.settings(properties)))
+            .doesNotContain(fingerprint(request))
+            .doesNotHaveDuplicates();
+        assertThat(CalculationFingerprint.settings(new AmortisationProperties())).isEqualTo(SETTINGS);
+    }
+
+    @Test
+    void comparesOptionsIndependentOfKeyOrder() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("stepPercent", 10);
+        ordered.put("stepMonths", 12);
+        Map<String, Object> reversed = new LinkedHashMap<>();
+        reversed.put("stepMonths", 12);
+        reversed.put("stepPercent", 10);
+
+        CalculationRequest first = request("500000.00", "8.5");
+        first.setOptions(ordered);
+        CalculationRequest second = request("500000.00", "8.5");
+        second.setOptions(reversed);
+
+        assertThat(fingerprint(first)).isEqualTo(fingerprint(second));
+    }
+
+    @Test
+    void prefixesTheVersion() {
+        assertThat(fingerprint(request("500000.00", "8.5")))
+            .startsWith(CalculationFingerprint.VERSION + ":")
+            .hasSize(CalculationFingerprint.VERSION.length() + 1 + 64);
+    }
+
+    private static String fingerprint(CalculationRequest request) {
+        return CalculationFingerprint.of(request, SETTINGS);
+    }
+
+    private static CalculationRequest request(String principal, String interestRate) {
+        return CalculationRequest.builder()
+            .loanId("LN1")
+            .principal(new BigDecimal(principal))
+            .interestRate(new BigDecimal(interestRate))
+            .tenure(240)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .requestedBy("user")
+            .build();
+    }
+}
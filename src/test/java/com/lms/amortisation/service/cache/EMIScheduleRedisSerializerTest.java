@@ -0,0 +1,220 @@
+package com.lms.amortisation.service.cache;
+
+// ** import types
+import com.lms.amortisation.model.dto.AuditTrail;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleColumns;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+
+// ** import core packages
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link EMIScheduleRedisSerializer}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class EMIScheduleRedisSerializerTest {
+
+    private static final AuditTrail.Template PARAMETERS = AuditTrail.Template.of("P={}, n={}");
+    private static final EMISchedule LEGACY = EMISchedule.builder().loanId("LEGACY").build();
+
+    private final EMIScheduleRedisSerializer serializer = new EMIScheduleRedisSerializer(new LegacyStub());
+
+    @Test
+    void roundTripsAColumnarSchedule() {
+        ScheduleColumns columns = new ScheduleColumns(3);
+        columns.add(19_754, 30_000, 10_201, 9_901, 300, 9_901, 300);
+        columns.add(19_785, 20_099, 10_201, 10_000, 201, 19_901, 501);
+        columns.add(19_814, 10_099, 10_201, 10_099, 102, 30_000, 603);
+
+        EMISchedule schedule = summary()
+            .columns(columns)
+            .build();
+
+        EMISchedule decoded = roundTrip(schedule);
+
+        assertThat(decoded.getColumns()).isEqualTo(columns);
+        assertThat(decoded.getSchedule()).containsExactlyElementsOf(schedule.getSchedule());
+    }
+
+    @Test
+    void roundTripsAListScheduleInColumnarForm() {
+        EMISchedule schedule = summary()
+            .schedule(List.of(
+                row(1, "300.00", "102.01", "99.01", "3.00", "99.01", "3.00"),
+                row(2, "200.99", "102.01", "100.00", "2.01", "199.01", "5.01"),
+                row(3, "100.99", "102.01", "100.99", "1.02", "300.00", "6.03")))
+            .build();
+
+        EMISchedule decoded = roundTrip(schedule);
+
+        // ** regular rows are stored as columns and read back without Installment objects
+        assertThat(decoded.getColumns()).isNotNull();
+        assertThat(decoded.getSchedule()).containsExactlyElementsOf(schedule.getSchedule());
+    }
+
+    @Test
+    void roundTripsNegativeAndZeroAmounts() {
+        // ** zero-rate loan whose last installment gives back the EMI rounding
+        EMISchedule schedule = summary()
+            .emi(new BigDecimal("33.34"))
+            .totalInterest(new BigDecimal("-0.02"))
+            .totalPayment(new BigDecimal("99.98"))
+            .schedule(List.of(
+                row(1, "100.00", "33.34", "33.34", "0.00", "33.34", "0.00"),
+                row(2, "66.66", "33.34", "33.34", "0.00", "66.68", "0.00"),
+                row(3, "33.32", "33.34", "33.32", "0.02", "100.00", "0.02"),
+                row(4, "0.00", "0.00", "0.00", "0.00", "100.00", "0.02"),
+                row(5, "0.00", "-0.04", "0.00", "-0.04", "100.00", "-0.02")))
+            .build();
+
+        EMISchedule decoded = roundTrip(schedule);
+
+        assertThat(decoded.getTotalInterest()).isEqualTo("-0.02");
+        assertThat(decoded.getSchedule()).containsExactlyElementsOf(schedule.getSchedule());
+    }
+
+    @Test
+    void roundTripsRowsThatNeedTheGenericForm() {
+        Installment paid = row(1, "300.00", "102.01", "99.01", "3.00", "99.01", "3.00");
+        paid.setPaymentStatus("PAID");
+        paid.setPaymentDate(LocalDate.of(2024, 2, 3));
+        paid.setAmountPaid(new BigDecimal("-102.010"));
+        Installment unscaled = row(2, "200.99", "102.01", "100.00", "2.01", "199.01", "5.01");
+        unscaled.setOpeningBalance(new BigDecimal("200.990000000000000001"));
+        Installment empty = new Installment();
+
+        EMISchedule schedule = summary()
+            .schedule(List.of(paid, unscaled, empty))
+            .build();
+
+        EMISchedule decoded = roundTrip(schedule);
+
+        assertThat(decoded.getColumns()).isNull();
+        assertThat(decoded.getSchedule()).containsExactly(paid, unscaled, empty);
+        assertThat(decoded.getSchedule().get(0).getAmountPaid().scale()).isEqualTo(3);
+    }
+
+    @Test
+    void roundTripsANullAuditTrailAndNoRows() {
+        EMISchedule schedule = EMISchedule.builder()
+            .loanId("LN1")
+            .calculatedAt(null)
+            .build();
+
+        EMISchedule decoded = roundTrip(schedule);
+
+        assertThat(decoded.getAuditTrail()).isNull();
+        assertThat(decoded.getCalculatedAt()).isNull();
+        assertThat(decoded.getRequestId()).isNull();
+        assertThat(decoded.getEmi()).isNull();
+        assertThat(decoded.getSchedule()).isNull();
+        assertThat(decoded.getColumns()).isNull();
+        assertThat(decoded.getInstallmentCount()).isZero();
+    }
+
+    @Test
+    void rejectsAnUnknownVersion() {
+        byte[] bytes = serializer.serialize(summary().build());
+        bytes[1] = (byte) (EMIScheduleRedisSerializer.VERSION + 1);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+            .isInstanceOf(SerializationException.class)
+            .hasMessage("Unsupported schedule encoding version: " + (EMIScheduleRedisSerializer.VERSION + 1));
+    }
+
+    @Test
+    void rejectsATruncatedValue() {
+        byte[] bytes = serializer.serialize(summary().schedule(List.of(
+            row(1, "300.00", "102.01", "99.01", "3.00", "99.01", "3.00"))).build());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void handsValuesWithoutTheMagicByteToTheLegacySerializer() {
+        assertThat(serializer.deserialize("{\"loanId\":\"LN1\"}".getBytes())).isSameAs(LEGACY);
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.serialize(null)).isEmpty();
+    }
+
+    private EMISchedule roundTrip(EMISchedule schedule) {
+        EMISchedule decoded = serializer.deserialize(serializer.serialize(schedule));
+
+        assertThat(decoded.getRequestId()).isEqualTo(schedule.getRequestId());
+        assertThat(decoded.getLoanId()).isEqualTo(schedule.getLoanId());
+        assertThat(decoded.getCalculatedAt()).isEqualTo(schedule.getCalculatedAt());
+        assertThat(decoded.getEmi()).isEqualTo(schedule.getEmi());
+        assertThat(decoded.getTotalInterest()).isEqualTo(schedule.getTotalInterest());
+        assertThat(decoded.getTotalPayment()).isEqualTo(schedule.getTotalPayment());
+        assertThat(decoded.getAuditTrail()).isEqualTo(schedule.getAuditTrail());
+        assertThat(decoded.getCalculationMethod()).isEqualTo(schedule.getCalculationMethod());
+        assertThat(decoded.isCached()).isEqualTo(schedule.isCached());
+        assertThat(decoded.getInstallmentCount()).isEqualTo(schedule.getInstallmentCount());
+        return decoded;
+    }
+
+    private static EMISchedule.EMIScheduleBuilder summary() {
+        return EMISchedule.builder()
+            .requestId("REQ-1")
+            .loanId("LN1")
+            .calculatedAt(Instant.parse("2024-01-31T10:15:30.123456789Z"))
+            .emi(new BigDecimal("102.01"))
+            .totalInterest(new BigDecimal("6.03"))
+            .totalPayment(new BigDecimal("306.03"))
+            .auditTrail(AuditTrail.of(AmortisationMethod.REDUCING_BALANCE, PARAMETERS,
+                new BigDecimal("102.01"), new BigDecimal("300.00"), 3))
+            .calculationMethod(AmortisationMethod.REDUCING_BALANCE.name())
+            .cached(true);
+    }
+
+    private static Installment row(int number, String opening, String emi, String principal, String interest,
+                                   String cumulativePrincipal, String cumulativeInterest) {
+        BigDecimal openingBalance = new BigDecimal(opening);
+        BigDecimal principalComponent = new BigDecimal(principal);
+        return Installment.builder()
+            .installmentNumber(number)
+            .dueDate(LocalDate.of(2024, 1, 31).plusMonths(number))
+            .openingBalance(openingBalance)
+            .emi(new BigDecimal(emi))
+            .principal(principalComponent)
+            .interest(new BigDecimal(interest))
+            .closingBalance(openingBalance.subtract(principalComponent))
+            .cumulativePrincipal(new BigDecimal(cumulativePrincipal))
+            .cumulativeInterest(new BigDecimal(cumulativeInterest))
+            .build();
+    }
+
+    /**
+     * Stands in for the JSON serializer of entries written before the binary encoding
+     */
+    private static final class LegacyStub implements RedisSerializer<EMISchedule> {
+
+        @Override
+        public byte[] serialize(EMISchedule schedule) {
+            throw new UnsupportedOperationException("Legacy format is read-only");
+        }
+
+        @Override
+        public EMISchedule deserialize(byte[] bytes) {
+            return LEGACY;
+        }
+    }
+}
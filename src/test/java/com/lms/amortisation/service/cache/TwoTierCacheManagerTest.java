@@ -0,0 +1,102 @@
+package com.lms.amortisation.service.cache;
+
+// ** import core packages
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link TwoTierCacheManager}
+ *
+ * Two managers stand in for two pods: they share one remote cache and a
+ * stub Redis that delivers every published invalidation to both.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE = "schedules";
+
+    private final CacheManager redis = new ConcurrentMapCacheManager();
+    private final List<TwoTierCacheManager> pods = new ArrayList<>();
+
+    @Test
+    void putOnOnePodDropsTheOtherPodsNearCopy() {
+        Cache first = pod().getCache(CACHE);
+        Cache second = pod().getCache(CACHE);
+
+        first.put("LN1", "v1");
+        assertThat(second.get("LN1", String.class)).isEqualTo("v1");
+
+        first.put("LN1", "v2");
+
+        assertThat(second.get("LN1", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    void evictOnOnePodDropsTheOtherPodsNearCopy() {
+        Cache first = pod().getCache(CACHE);
+        Cache second = pod().getCache(CACHE);
+
+        first.put("LN1", "v1");
+        assertThat(second.get("LN1", String.class)).isEqualTo("v1");
+
+        first.evict("LN1");
+
+        assertThat(second.get("LN1", String.class)).isNull();
+        assertThat(first.get("LN1", String.class)).isNull();
+    }
+
+    @Test
+    void clearOnOnePodDropsEveryNearCopyOfThatCache() {
+        Cache first = pod().getCache(CACHE);
+        Cache second = pod().getCache(CACHE);
+
+        first.put("LN1", "v1");
+        first.put("LN2", "v1");
+        assertThat(second.get("LN1", String.class)).isEqualTo("v1");
+        assertThat(second.get("LN2", String.class)).isEqualTo("v1");
+
+        first.clear();
+
+        assertThat(second.get("LN1", String.class)).isNull();
+        assertThat(second.get("LN2", String.class)).isNull();
+    }
+
+    /**
+     * Manager whose invalidations reach every pod created by this test
+     */
+    private TwoTierCacheManager pod() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(
+                invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            pods.forEach(pod -> pod.onMessage(message, null));
+            return null;
+        }).when(redisTemplate).convertAndSend(anyString(), any());
+
+        TwoTierCacheManager pod = new TwoTierCacheManager(
+            redis, Set.of(CACHE), 1 << 20, Duration.ofMinutes(5), redisTemplate, new SimpleMeterRegistry());
+        pods.add(pod);
+        return pod;
+    }
+}
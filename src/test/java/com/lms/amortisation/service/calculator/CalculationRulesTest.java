@@ -0,0 +1,69 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CalculationRules}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class CalculationRulesTest {
+
+    @Test
+    void acceptsAValidRequest() {
+        assertThatCode(() -> CalculationRules.validate(request(240))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsTenuresOutsideOneToMax() {
+        assertThatThrownBy(() -> CalculationRules.validate(request(0)))
+            .isInstanceOf(CalculationException.class)
+            .hasMessage("Tenure must be greater than zero");
+        assertThatThrownBy(() -> CalculationRules.validate(request(CalculationRules.MAX_TENURE_MONTHS + 1)))
+            .isInstanceOf(CalculationException.class)
+            .hasMessage("Tenure cannot exceed 360 months");
+    }
+
+    @Test
+    void rejectsMissingStartDate() {
+        CalculationRequest request = request(240);
+        request.setStartDate(null);
+
+        assertThatThrownBy(() -> CalculationRules.validate(request))
+            .isInstanceOf(CalculationException.class)
+            .hasMessage("Start date is required");
+    }
+
+    @Test
+    void derivesRatesAtFixedPointScale() {
+        BigDecimal monthly = CalculationRules.monthlyRate(new BigDecimal("8.5"));
+
+        assertThat(monthly).isEqualByComparingTo("0.007083333333333");
+        assertThat(monthly.scale()).isEqualTo(FixedPointMath.RATE_SCALE);
+        assertThat(CalculationRules.periodicRate(new BigDecimal("8.5"), PaymentFrequency.MONTHLY)).isEqualTo(monthly);
+        assertThat(CalculationRules.periodicRate(new BigDecimal("8.5"), PaymentFrequency.QUARTERLY))
+            .isEqualByComparingTo("0.02125");
+    }
+
+    private static CalculationRequest request(int tenure) {
+        return CalculationRequest.builder()
+            .principal(new BigDecimal("500000.00"))
+            .interestRate(new BigDecimal("8.5"))
+            .tenure(tenure)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+    }
+}
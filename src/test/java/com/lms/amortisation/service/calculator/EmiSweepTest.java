@@ -0,0 +1,105 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EmiSweep}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class EmiSweepTest {
+
+    private final ReducingBalanceCalculator calculator = calculator();
+
+    @Test
+    void everyCellMatchesCalculateEmi() {
+        int[] tenures = tenures();
+        long[] principals = principals();
+        List<String> mismatches = new ArrayList<>();
+        int cells = 0;
+
+        // ** 0% to 24% in quarter-point steps: 97 × 33 × 42 = 134,442 cells
+        for (int quarterPoints = 0; quarterPoints <= 96; quarterPoints++) {
+            BigDecimal annualRate = BigDecimal.valueOf(quarterPoints, 2).multiply(BigDecimal.valueOf(25));
+            BigDecimal monthlyRate = CalculationRules.monthlyRate(annualRate);
+            long[] emis = new long[tenures.length * principals.length];
+            long[] totalInterests = new long[emis.length];
+            EmiSweep.fillRow(monthlyRate, tenures, principals, emis, totalInterests, 0);
+
+            int cell = 0;
+            for (int tenure : tenures) {
+                for (long principal : principals) {
+                    long expected = FixedPointMath.toMinorUnits(
+                        calculator.calculateEMI(FixedPointMath.toAmount(principal), monthlyRate, tenure));
+                    if (emis[cell] != expected || totalInterests[cell] != expected * tenure - principal) {
+                        mismatches.add(annualRate + "% " + tenure + "m " + principal + ": " + emis[cell] + " != " + expected);
+                    }
+                    cell++;
+                    cells++;
+                }
+            }
+        }
+
+        assertThat(cells).isEqualTo(134_442);
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void writesRowsAtTheirOffset() {
+        int[] tenures = {12, 24};
+        long[] principals = {10_000_000L};
+        long[] emis = new long[4];
+        long[] totalInterests = new long[4];
+
+        EmiSweep.fillRow(CalculationRules.monthlyRate(new BigDecimal("8.5")), tenures, principals, emis, totalInterests, 2);
+
+        assertThat(emis[0]).isZero();
+        assertThat(emis[1]).isZero();
+        assertThat(emis[2]).isEqualTo(872_198L);
+        assertThat(emis[2]).isGreaterThan(emis[3]);
+    }
+
+    private static int[] tenures() {
+        int[] tenures = new int[33];
+        tenures[0] = 1;
+        tenures[1] = 3;
+        tenures[2] = 6;
+        for (int i = 3; i < tenures.length; i++) {
+            tenures[i] = 12 * (i - 2);
+        }
+        return tenures;
+    }
+
+    private static long[] principals() {
+        Random random = new Random(2025);
+        long[] principals = new long[42];
+        for (int i = 0; i < principals.length; i++) {
+            // ** ₹1 to ₹10 crore with arbitrary paise
+            principals[i] = 100 + (long) (random.nextDouble() * 10_000_000_000L);
+        }
+        return principals;
+    }
+
+    private static ReducingBalanceCalculator calculator() {
+        AmortisationProperties properties = new AmortisationProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new ReducingBalanceCalculator(
+            new EmiFactorCache(properties, meterRegistry),
+            new DueDateCalendar(properties, new HolidayCalendars(properties), meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FixedPointReducingBalanceCalculator}
+ *
+ * The engine promises output bit-identical to {@link ReducingBalanceCalculator}
+ * for every request CalculationRequest validation accepts, so each case
+ * sits on a boundary of that range: principal 10,000 and 10 crore, rate
+ * 0, 0.01 and 50, and the shortest and longest tenure of every frequency.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class FixedPointReducingBalanceCalculatorTest {
+
+    private static final String[] PRINCIPALS = { "10000.00", "100000000.00" };
+    private static final String[] RATES = { "0", "0.01", "50" };
+
+    private final DueDateCalendar dueDateCalendar = dueDateCalendar();
+    private final ReducingBalanceCalculator bigDecimal = new ReducingBalanceCalculator(emiFactorCache(), dueDateCalendar);
+    private final FixedPointReducingBalanceCalculator fixedPoint =
+        new FixedPointReducingBalanceCalculator(emiFactorCache(), dueDateCalendar);
+
+    static Stream<Arguments> boundaries() {
+        List<Arguments> cases = new ArrayList<>();
+        for (String principal : PRINCIPALS) {
+            for (String rate : RATES) {
+                for (PaymentFrequency frequency : PaymentFrequency.values()) {
+                    int shortest = frequency.isCalendar() ? frequency.getMonths() : 1;
+                    cases.add(Arguments.of(principal, rate, frequency, shortest));
+                    cases.add(Arguments.of(principal, rate, frequency, CalculationRules.MAX_TENURE_MONTHS));
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("boundaries")
+    void matchesTheBigDecimalEngine(String principal, String rate, PaymentFrequency frequency, int tenure) {
+        CalculationRequest request = request(principal, rate, frequency, tenure);
+
+        EMISchedule expected = bigDecimal.calculate(request);
+        EMISchedule actual = fixedPoint.calculate(request);
+
+        assertThat(actual.getEmi()).isEqualTo(expected.getEmi());
+        assertThat(actual.getTotalInterest()).isEqualTo(expected.getTotalInterest());
+        assertThat(actual.getTotalPayment()).isEqualTo(expected.getTotalPayment());
+        assertThat(actual.getCalculationMethod()).isEqualTo(expected.getCalculationMethod());
+        assertThat(actual.getAuditTrail().render()).isEqualTo(expected.getAuditTrail().render());
+        assertThat(actual.getInstallmentCount()).isEqualTo(expected.getInstallmentCount());
+        assertThat(actual.getSchedule()).containsExactlyElementsOf(expected.getSchedule());
+    }
+
+    @ParameterizedTest
+    @MethodSource("boundaries")
+    void matchesTheBigDecimalRowLoop(String principal, String rate, PaymentFrequency frequency, int tenure) {
+        // ** past COLUMNAR_INSTALLMENTS both calculators use the kernel, so
+        // ** also compare against the BigDecimal loop itself
+        CalculationRequest request = request(principal, rate, frequency, tenure);
+        int installments = frequency.installments(tenure);
+        BigDecimal periodicRate = CalculationRules.periodicRate(request.getInterestRate(), frequency);
+        int[] dueDates = dueDateCalendar.dueDates(
+            request.getStartDate(), frequency, dueDateCalendar.holidayCalendar(request), installments);
+
+        EMISchedule actual = fixedPoint.calculate(request);
+        List<Installment> expected = bigDecimal.generateSchedule(
+            request.getPrincipal(), actual.getEmi(), periodicRate, installments, dueDates);
+
+        assertThat(actual.getSchedule()).containsExactlyElementsOf(expected);
+        assertThat(actual.getTotalInterest())
+            .isEqualTo(expected.get(installments - 1).getCumulativeInterest());
+    }
+
+    private static CalculationRequest request(String principal, String rate, PaymentFrequency frequency, int tenure) {
+        return CalculationRequest.builder()
+            .loanId("LN-" + principal + "-" + rate + "-" + frequency + "-" + tenure)
+            .principal(new BigDecimal(principal))
+            .interestRate(new BigDecimal(rate))
+            .tenure(tenure)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(LocalDate.of(2024, 1, 31))
+            .frequency(frequency.name())
+            .build();
+    }
+
+    private static EmiFactorCache emiFactorCache() {
+        return new EmiFactorCache(new AmortisationProperties(), new SimpleMeterRegistry());
+    }
+
+    private static DueDateCalendar dueDateCalendar() {
+        AmortisationProperties properties = new AmortisationProperties();
+        return new DueDateCalendar(properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,304 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.exception.CalculationException;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.EMISchedule;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.ScheduleEvent;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ReducingBalanceCalculator}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class ReducingBalanceCalculatorTest {
+
+    private final ReducingBalanceCalculator calculator = calculator();
+
+    @ParameterizedTest
+    @CsvSource({
+        "WEEKLY, 260, 2362.14",
+        "FORTNIGHTLY, 130, 4727.37",
+        "MONTHLY, 60, 10258.27",
+        "QUARTERLY, 20, 30948.46",
+        "HALF_YEARLY, 10, 62415.06"
+    })
+    void chargesTheEmiForThePeriodicRate(PaymentFrequency frequency, int installments, String emi) {
+        EMISchedule schedule = calculator.calculate(request("500000.00", 60, frequency.name()));
+
+        assertThat(schedule.getEmi()).isEqualTo(emi);
+        assertThat(schedule.getInstallmentCount()).isEqualTo(installments);
+        assertThat(schedule.getSchedule().get(installments - 1).getClosingBalance()).isEqualTo("0.00");
+    }
+
+    @Test
+    void generatesLongSchedulesInColumnsRowForRow() {
+        CalculationRequest request = request("500000.00", 240, "WEEKLY");
+        BigDecimal periodicRate = CalculationRules.periodicRate(request.getInterestRate(), PaymentFrequency.WEEKLY);
+        int installments = PaymentFrequency.WEEKLY.installments(240);
+        DueDateCalendar dueDateCalendar = dueDateCalendar(new AmortisationProperties());
+        int[] dueDates = dueDateCalendar.dueDates(request.getStartDate(), PaymentFrequency.WEEKLY,
+            dueDateCalendar.holidayCalendar(request), installments);
+
+        EMISchedule schedule = calculator.calculate(request);
+        List<Installment> reference = calculator.generateSchedule(
+            request.getPrincipal(), schedule.getEmi(), periodicRate, installments, dueDates);
+
+        assertThat(installments).isGreaterThan(ReducingBalanceCalculator.COLUMNAR_INSTALLMENTS);
+        assertThat(schedule.getColumns()).isNotNull();
+        assertThat(schedule.getSchedule()).containsExactlyElementsOf(reference);
+    }
+
+    @Test
+    void rejectsTenuresThatAreNotWholeQuarters() {
+        assertThatThrownBy(() -> calculator.calculate(request("500000.00", 7, "QUARTERLY")))
+            .isInstanceOf(CalculationException.class)
+            .hasRootCauseMessage("Tenure of 7 months is not a whole number of quarterly installments");
+    }
+
+    @Test
+    void rejectsHolidaysThatAreNotWholeQuarters() {
+        CalculationRequest loan = request("500000.00", 60, "QUARTERLY");
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+        ScheduleEvent event = new ScheduleEvent();
+        event.setInstallmentNumber(5);
+        event.setHolidayMonths(4);
+
+        assertThatThrownBy(() -> calculator.recalculate(loan, existing, event))
+            .isInstanceOf(CalculationException.class)
+            .hasMessage("Holiday of 4 months is not a whole number of quarterly installments");
+    }
+
+    @Test
+    void restatesASharedAuditTrailWithTheCallersValues() {
+        CalculationRequest caller = request("500000", 60, null);
+        EMISchedule shared = calculator.calculate(request("500000.00", 60, null));
+
+        assertThat(calculator.auditTrail(caller, shared).render())
+            .isEqualTo(calculator.calculate(caller).getAuditTrail().render())
+            .isNotEqualTo(shared.getAuditTrail().render());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 13, 60 })
+    void rateResetKeepsEarlierInstallments(int k) {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+
+        EMISchedule recalculated = calculator.recalculate(loan, existing, event(k, "9.75", null, null));
+
+        assertKeepsInstallmentsBefore(k, existing, recalculated, 60);
+        assertThat(recalculated.getSchedule().get(k - 1).getOpeningBalance())
+            .isEqualTo(existing.get(k - 2).getClosingBalance());
+        assertThat(recalculated.getEmi()).isEqualTo(calculator.calculateEMI(
+            existing.get(k - 2).getClosingBalance(), monthlyRate("9.75"), 60 - k + 1).setScale(2, CalculationRules.ROUNDING_MODE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 13, 60 })
+    void prepaymentKeepsEarlierInstallments(int k) {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+        BigDecimal prepayment = existing.get(k - 2).getClosingBalance().min(new BigDecimal("50000.00"))
+            .subtract(new BigDecimal("0.01"));
+
+        EMISchedule recalculated = calculator.recalculate(loan, existing, event(k, null, prepayment, null));
+
+        assertKeepsInstallmentsBefore(k, existing, recalculated, 60);
+        Installment first = recalculated.getSchedule().get(k - 1);
+        assertThat(first.getOpeningBalance()).isEqualTo(existing.get(k - 2).getClosingBalance().subtract(prepayment));
+        assertThat(first.getCumulativePrincipal()).isEqualTo(
+            existing.get(k - 2).getCumulativePrincipal().add(prepayment).add(first.getPrincipal()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 13, 60 })
+    void holidayKeepsEarlierInstallments(int k) {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+
+        EMISchedule recalculated = calculator.recalculate(loan, existing, event(k, null, null, 3));
+
+        assertKeepsInstallmentsBefore(k, existing, recalculated, 63);
+    }
+
+    @Test
+    void rateResetAtTheFirstInstallmentMatchesAFreshCalculation() {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+        CalculationRequest reset = request("500000.00", 60, null);
+        reset.setInterestRate(new BigDecimal("9.75"));
+        EMISchedule expected = calculator.calculate(reset);
+
+        EMISchedule recalculated = calculator.recalculate(loan, existing, event(1, "9.75", null, null));
+
+        assertThat(recalculated.getEmi()).isEqualTo(expected.getEmi());
+        assertThat(recalculated.getTotalInterest()).isEqualTo(expected.getTotalInterest());
+        assertThat(recalculated.getTotalPayment()).isEqualTo(expected.getTotalPayment());
+        assertThat(recalculated.getSchedule()).containsExactlyElementsOf(expected.getSchedule());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0.00", "0.01", "1000000.00" })
+    void rejectsPrepaymentsOfTheWholeBalance(String excess) {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+        BigDecimal balance = existing.get(11).getClosingBalance();
+
+        assertThatThrownBy(() -> calculator.recalculate(
+                loan, existing, event(13, null, balance.add(new BigDecimal(excess)), null)))
+            .isInstanceOf(CalculationException.class)
+            .hasMessage("Prepayment must be less than the outstanding balance of " + balance);
+    }
+
+    @Test
+    void capitalisesInterestOverAHoliday() {
+        CalculationRequest loan = request("500000.00", 60, null);
+        List<Installment> existing = calculator.calculate(loan).getSchedule();
+        BigDecimal monthlyRate = monthlyRate("8.5");
+
+        EMISchedule recalculated = calculator.recalculate(loan, existing, event(13, null, null, 3));
+        List<Installment> schedule = recalculated.getSchedule();
+
+        // ** nothing is paid for three installments and their interest is added to the balance
+        BigDecimal balance = existing.get(11).getClosingBalance();
+        BigDecimal cumulativePrincipal = existing.get(11).getCumulativePrincipal();
+        for (int n = 13; n <= 15; n++) {
+            Installment installment = schedule.get(n - 1);
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, CalculationRules.ROUNDING_MODE);
+            cumulativePrincipal = cumulativePrincipal.subtract(interest);
+
+            assertThat(installment.getInstallmentNumber()).isEqualTo(n);
+            assertThat(installment.getEmi()).isEqualTo("0.00");
+            assertThat(installment.getOpeningBalance()).isEqualTo(balance);
+            assertThat(installment.getInterest()).isEqualTo(interest);
+            assertThat(installment.getPrincipal()).isEqualTo(interest.negate());
+            assertThat(installment.getClosingBalance()).isEqualTo(balance.add(interest));
+            assertThat(installment.getCumulativePrincipal()).isEqualTo(cumulativePrincipal);
+            balance = balance.add(interest);
+        }
+
+        // ** the capitalised balance is re-amortised over the 48 installments that were left
+        assertThat(schedule).hasSize(63);
+        assertThat(schedule.get(15).getOpeningBalance()).isEqualTo(balance);
+        assertThat(recalculated.getEmi()).isEqualTo(calculator.calculateEMI(balance, monthlyRate, 48).setScale(2, CalculationRules.ROUNDING_MODE));
+        assertThat(schedule.get(62).getClosingBalance()).isEqualTo("0.00");
+        assertThat(schedule.get(62).getCumulativePrincipal()).isEqualTo("500000.00");
+        assertThat(schedule.get(62).getDueDate()).isEqualTo(existing.get(59).getDueDate().plusMonths(3));
+        assertThat(recalculated.getTotalInterest()).isEqualTo(schedule.get(62).getCumulativeInterest());
+    }
+
+    /**
+     * Installments 1..k-1 are the existing ones and the tail runs to a zero balance
+     */
+    private static void assertKeepsInstallmentsBefore(
+        int k, List<Installment> existing, EMISchedule recalculated, int installments
+    ) {
+        List<Installment> schedule = recalculated.getSchedule();
+
+        assertThat(schedule).hasSize(installments);
+        assertThat(schedule.subList(0, k - 1)).containsExactlyElementsOf(existing.subList(0, k - 1));
+        for (int n = 1; n <= installments; n++) {
+            assertThat(schedule.get(n - 1).getInstallmentNumber()).isEqualTo(n);
+        }
+        assertThat(schedule.get(installments - 1).getClosingBalance()).isEqualTo("0.00");
+        assertThat(recalculated.getTotalInterest()).isEqualTo(schedule.get(installments - 1).getCumulativeInterest());
+    }
+
+    private static ScheduleEvent event(int installmentNumber, String interestRate, BigDecimal prepayment,
+                                       Integer holidayMonths) {
+        return ScheduleEvent.builder()
+            .installmentNumber(installmentNumber)
+            .interestRate(interestRate != null ? new BigDecimal(interestRate) : null)
+            .prepaymentAmount(prepayment)
+            .holidayMonths(holidayMonths)
+            .build();
+    }
+
+    private static BigDecimal monthlyRate(String annualRate) {
+        return CalculationRules.periodicRate(new BigDecimal(annualRate), PaymentFrequency.MONTHLY);
+    }
+
+    @Test
+    void calculateRowsMatchesTheSchedule() {
+        assertRowsMatchSchedule(request("500000.00", 240, null));
+    }
+
+    @Test
+    void calculateRowsMatchesTheColumnarSchedule() {
+        assertRowsMatchSchedule(request("500000.00", 240, "WEEKLY"));
+    }
+
+    private void assertRowsMatchSchedule(CalculationRequest request) {
+        List<Installment> expected = calculator.calculate(request).getSchedule();
+        List<long[]> rows = new ArrayList<>();
+
+        EMISchedule summary = calculator.calculateRows(request, (installment, dueDate, openingBalance, emi,
+                principal, interest, cumulativePrincipal, cumulativeInterest) ->
+            rows.add(new long[] { installment, dueDate, openingBalance, emi, principal, interest,
+                cumulativePrincipal, cumulativeInterest }));
+
+        assertThat(summary.getSchedule()).isNull();
+        assertThat(summary.getInstallmentCount()).isEqualTo(expected.size());
+        assertThat(rows).hasSameSizeAs(expected);
+        for (int i = 0; i < rows.size(); i++) {
+            Installment installment = expected.get(i);
+            assertThat(rows.get(i)).containsExactly(
+                installment.getInstallmentNumber(),
+                installment.getDueDate().toEpochDay(),
+                FixedPointMath.toMinorUnits(installment.getOpeningBalance()),
+                FixedPointMath.toMinorUnits(installment.getEmi()),
+                FixedPointMath.toMinorUnits(installment.getPrincipal()),
+                FixedPointMath.toMinorUnits(installment.getInterest()),
+                FixedPointMath.toMinorUnits(installment.getCumulativePrincipal()),
+                FixedPointMath.toMinorUnits(installment.getCumulativeInterest()));
+        }
+    }
+
+    private static CalculationRequest request(String principal, int tenure, String frequency) {
+        return CalculationRequest.builder()
+            .loanId("LN1")
+            .principal(new BigDecimal(principal))
+            .interestRate(new BigDecimal("8.5"))
+            .tenure(tenure)
+            .frequency(frequency)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+    }
+
+    private static ReducingBalanceCalculator calculator() {
+        AmortisationProperties properties = new AmortisationProperties();
+        return new ReducingBalanceCalculator(
+            new EmiFactorCache(properties, new SimpleMeterRegistry()),
+            dueDateCalendar(properties)
+        );
+    }
+
+    private static DueDateCalendar dueDateCalendar(AmortisationProperties properties) {
+        return new DueDateCalendar(properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,147 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.dto.CalculationRequest;
+import com.lms.amortisation.model.dto.Installment;
+import com.lms.amortisation.model.dto.OutstandingBalance;
+import com.lms.amortisation.model.enums.AmortisationMethod;
+import com.lms.amortisation.model.enums.ProductType;
+import com.lms.amortisation.service.calendar.DueDateCalendar;
+import com.lms.amortisation.service.calendar.HolidayCalendars;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ScheduleCheckpoints}
+ *
+ * Lookups rebuilt from checkpoints must reproduce the per-row rounding of
+ * the full schedule exactly, so every installment and every due date of
+ * each loan is checked against {@link ReducingBalanceCalculator#calculate}.
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class ScheduleCheckpointsTest {
+
+    private static final String CALENDAR = "IN";
+
+    private final ReducingBalanceCalculator calculator = calculator();
+
+    static Stream<Arguments> loans() {
+        List<Arguments> loans = new ArrayList<>();
+        for (String rate : new String[] { "0", "8.5", "24" }) {
+            for (int tenure : new int[] { 1, 11, 12, 13, 25, 60, 359, 360 }) {
+                loans.add(Arguments.of(rate, tenure, ""));
+            }
+        }
+        loans.add(Arguments.of("10.25", 240, CALENDAR));
+        return loans.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("loans")
+    void rebuildsEveryInstallmentOfTheFullSchedule(String rate, int tenure, String holidayCalendar) {
+        CalculationRequest request = request(rate, tenure, holidayCalendar);
+        List<Installment> schedule = calculator.calculate(request).getSchedule();
+        ScheduleCheckpoints checkpoints = calculator.buildCheckpoints(request);
+
+        assertThat(checkpoints).isNotNull();
+        for (int n = 1; n <= tenure; n++) {
+            assertThat(calculator.locateInstallment(checkpoints, n)).as("installment %d", n)
+                .isEqualTo(schedule.get(n - 1));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("loans")
+    void matchesAScanOfTheFullSchedule(String rate, int tenure, String holidayCalendar) {
+        CalculationRequest request = request(rate, tenure, holidayCalendar);
+        List<Installment> schedule = calculator.calculate(request).getSchedule();
+        ScheduleCheckpoints checkpoints = calculator.buildCheckpoints(request);
+
+        List<LocalDate> dates = new ArrayList<>();
+        dates.add(request.getStartDate());
+        for (Installment installment : schedule) {
+            dates.add(installment.getDueDate().minusDays(1));
+            dates.add(installment.getDueDate());
+        }
+        dates.add(schedule.get(tenure - 1).getDueDate().plusDays(1));
+        dates.add(schedule.get(tenure - 1).getDueDate().plusYears(5));
+
+        for (LocalDate asOf : dates) {
+            assertThat(calculator.locateOutstanding(checkpoints, asOf)).as("as of %s", asOf)
+                .isEqualTo(scan(request, schedule, asOf));
+        }
+    }
+
+    /**
+     * Outstanding balance found by walking the full schedule
+     */
+    private static OutstandingBalance scan(CalculationRequest request, List<Installment> schedule, LocalDate asOf) {
+        Installment lastDue = null;
+        int due = 0;
+        for (Installment installment : schedule) {
+            if (installment.getDueDate().isAfter(asOf)) {
+                break;
+            }
+            lastDue = installment;
+            due++;
+        }
+
+        OutstandingBalance.OutstandingBalanceBuilder balance = OutstandingBalance.builder()
+            .asOf(asOf)
+            .installmentsDue(due);
+        if (lastDue == null) {
+            return balance
+                .outstandingBalance(request.getPrincipal())
+                .cumulativePrincipal(new BigDecimal("0.00"))
+                .cumulativeInterest(new BigDecimal("0.00"))
+                .build();
+        }
+        return balance
+            .outstandingBalance(lastDue.getClosingBalance())
+            .cumulativePrincipal(lastDue.getCumulativePrincipal())
+            .cumulativeInterest(lastDue.getCumulativeInterest())
+            .build();
+    }
+
+    private static CalculationRequest request(String rate, int tenure, String holidayCalendar) {
+        return CalculationRequest.builder()
+            .loanId("LN-" + rate + "-" + tenure)
+            .principal(new BigDecimal("500000.00"))
+            .interestRate(new BigDecimal(rate))
+            .tenure(tenure)
+            .productType(ProductType.HOME_LOAN)
+            .amortisationMethod(AmortisationMethod.REDUCING_BALANCE)
+            // ** month-end start, so due dates also exercise the short-month roll
+            .startDate(LocalDate.of(2024, 1, 31))
+            .options(holidayCalendar.isEmpty() ? null : Map.of(DueDateCalendar.HOLIDAY_CALENDAR_OPTION, holidayCalendar))
+            .build();
+    }
+
+    private static ReducingBalanceCalculator calculator() {
+        AmortisationProperties properties = new AmortisationProperties();
+        AmortisationProperties.Calendar calendar = new AmortisationProperties.Calendar();
+        calendar.setHolidays(List.of("2024-08-15", "2024-10-02", "2025-01-26", "2025-08-15"));
+        properties.getCalendars().put(CALENDAR, calendar);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new ReducingBalanceCalculator(
+            new EmiFactorCache(properties, meterRegistry),
+            new DueDateCalendar(properties, new HolidayCalendars(properties), meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.lms.amortisation.service.calculator;
+
+// ** import utils
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StepEmiSolver}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class StepEmiSolverTest {
+
+    private static final long PRINCIPAL = 50_000_000L;
+
+    private static final String[] ANNUAL_RATES = {"0", "8.5", "12.75", "24"};
+    private static final int[] TENURES = {12, 60, 240, 360};
+    private static final String[] STEP_RATES = {"0.10", "-0.05", "0.015"};
+    private static final int[] STEP_MONTHS = {1, 6, 12};
+    private static final long[] ROUNDING_UNITS = {1, 10_000};
+
+    @Test
+    void solveMatchesBruteForceOverGrid() {
+        List<String> mismatches = new ArrayList<>();
+        for (String annualRate : ANNUAL_RATES) {
+            BigDecimal monthlyRate = CalculationRules.monthlyRate(new BigDecimal(annualRate));
+            for (int tenure : TENURES) {
+                for (String stepRate : STEP_RATES) {
+                    for (int stepMonths : STEP_MONTHS) {
+                        for (long roundingUnit : ROUNDING_UNITS) {
+                            long solved = solver(monthlyRate, tenure, stepRate, stepMonths, roundingUnit).solve();
+                            long reference = solver(monthlyRate, tenure, stepRate, stepMonths, roundingUnit).bruteForce();
+                            if (solved != reference) {
+                                mismatches.add(annualRate + "% " + tenure + "m step " + stepRate + "/" + stepMonths
+                                    + " unit " + roundingUnit + ": " + solved + " != " + reference);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void solvedBaseRepaysWithinTheLastInstallment() {
+        StepEmiSolver solver = solver(CalculationRules.monthlyRate(new BigDecimal("8.5")), 240, "0.10", 12, 1);
+        long baseEmi = solver.solve();
+
+        assertThat(solver.residual(baseEmi)).isLessThanOrEqualTo(0);
+        assertThat(solver.residual(baseEmi - 1)).isGreaterThan(0);
+    }
+
+    @Test
+    void steepMonthlyStepUpOverLongTenureDoesNotOverflow() {
+        BigDecimal monthlyRate = CalculationRules.monthlyRate(new BigDecimal("24"));
+
+        long solved = solver(monthlyRate, 360, "0.99", 1, 1).solve();
+        long reference = solver(monthlyRate, 360, "0.99", 1, 1).bruteForce();
+        long[] installments = solver(monthlyRate, 360, "0.99", 1, 1).installments(solved);
+
+        assertThat(solved).isEqualTo(reference).isPositive();
+        for (int j = 1; j < installments.length; j++) {
+            assertThat(installments[j]).isGreaterThanOrEqualTo(installments[j - 1]);
+        }
+    }
+
+    private static StepEmiSolver solver(
+        BigDecimal monthlyRate, int tenure, String stepRate, int stepMonths, long roundingUnit) {
+        return new StepEmiSolver(PRINCIPAL, monthlyRate, tenure, new BigDecimal(stepRate), stepMonths, roundingUnit);
+    }
+}
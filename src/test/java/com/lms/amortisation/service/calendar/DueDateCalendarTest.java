@@ -0,0 +1,117 @@
+package com.lms.amortisation.service.calendar;
+
+// ** import types
+import com.lms.amortisation.config.AmortisationProperties;
+import com.lms.amortisation.model.enums.PaymentFrequency;
+
+// ** import utils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DueDateCalendar}
+ *
+ * Unadjusted monthly sequences must give exactly what
+ * {@link LocalDate#plusMonths} gives from the start date, both inside the
+ * precomputed span and past it (where dates are computed directly).
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class DueDateCalendarTest {
+
+    private static final String CALENDAR = "TEST";
+    private static final int TENURE_MONTHS = 360;
+
+    private final DueDateCalendar dueDateCalendar = dueDateCalendar();
+
+    static Stream<Arguments> monthEndStarts() {
+        List<Arguments> starts = new ArrayList<>();
+        // ** 2024 is a leap year, 2023 is not, 2100 (reached from 2099) is not, 2120 runs past the span
+        for (int year : new int[] { 2023, 2024, 2099, 2120 }) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 28; day <= 31; day++) {
+                    if (day <= LocalDate.of(year, month, 1).lengthOfMonth()) {
+                        for (PaymentFrequency frequency : PaymentFrequency.values()) {
+                            if (frequency.isCalendar()) {
+                                starts.add(Arguments.of(LocalDate.of(year, month, day), frequency));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return starts.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("monthEndStarts")
+    void matchesPlusMonthsFromTheStartDate(LocalDate startDate, PaymentFrequency frequency) {
+        int periods = frequency.installments(TENURE_MONTHS);
+
+        int[] dueDates = dueDateCalendar.dueDates(startDate, frequency, HolidayCalendar.NONE, periods);
+
+        assertThat(dueDates).hasSize(periods + 1);
+        assertThat(LocalDate.ofEpochDay(dueDates[0])).isEqualTo(startDate);
+        for (int n = 1; n <= periods; n++) {
+            LocalDate expected = startDate.plusMonths((long) n * frequency.getMonths());
+            assertThat(LocalDate.ofEpochDay(dueDates[n])).as("installment %d", n).isEqualTo(expected);
+            assertThat(dueDateCalendar.dueDate(startDate, frequency, HolidayCalendar.NONE, n))
+                .as("installment %d", n).isEqualTo(dueDates[n]);
+        }
+    }
+
+    @Test
+    void clampsToFebruaryWithoutCarryingTheShortMonthForward() {
+        assertThat(monthly(LocalDate.of(2024, 1, 31), HolidayCalendar.NONE, 3)).containsExactly(
+            LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30));
+        assertThat(monthly(LocalDate.of(2023, 1, 31), HolidayCalendar.NONE, 3)).containsExactly(
+            LocalDate.of(2023, 2, 28), LocalDate.of(2023, 3, 31), LocalDate.of(2023, 4, 30));
+        assertThat(monthly(LocalDate.of(2023, 1, 29), HolidayCalendar.NONE, 2)).containsExactly(
+            LocalDate.of(2023, 2, 28), LocalDate.of(2023, 3, 29));
+    }
+
+    @Test
+    void rollsBackWhenTheNextBusinessDayIsInTheNextMonth() {
+        HolidayCalendar calendar = dueDateCalendar.holidayCalendar(CALENDAR);
+
+        // ** Sat 31 Aug, holiday Mon 30 Sep (back over the weekend), holiday Thu 31 Oct, Sat 30 Nov
+        assertThat(monthly(LocalDate.of(2024, 7, 31), calendar, 5)).containsExactly(
+            LocalDate.of(2024, 8, 30),
+            LocalDate.of(2024, 9, 27),
+            LocalDate.of(2024, 10, 30),
+            LocalDate.of(2024, 11, 29),
+            LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    void rollsForwardWithinTheMonth() {
+        HolidayCalendar calendar = dueDateCalendar.holidayCalendar(CALENDAR);
+
+        // ** Sun 15 Sep moves to Mon 16 Sep
+        assertThat(monthly(LocalDate.of(2024, 8, 15), calendar, 1)).containsExactly(LocalDate.of(2024, 9, 16));
+    }
+
+    private List<LocalDate> monthly(LocalDate startDate, HolidayCalendar calendar, int periods) {
+        int[] dueDates = dueDateCalendar.dueDates(startDate, PaymentFrequency.MONTHLY, calendar, periods);
+        return Arrays.stream(dueDates, 1, dueDates.length).mapToObj(LocalDate::ofEpochDay).toList();
+    }
+
+    private static DueDateCalendar dueDateCalendar() {
+        AmortisationProperties properties = new AmortisationProperties();
+        AmortisationProperties.Calendar calendar = new AmortisationProperties.Calendar();
+        calendar.setHolidays(List.of("2024-09-30", "2024-10-31"));
+        properties.getCalendars().put(CALENDAR, calendar);
+        return new DueDateCalendar(properties, new HolidayCalendars(properties), new SimpleMeterRegistry());
+    }
+}
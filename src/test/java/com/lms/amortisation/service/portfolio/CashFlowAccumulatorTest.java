@@ -0,0 +1,103 @@
+package com.lms.amortisation.service.portfolio;
+
+// ** import utils
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CashFlowAccumulator}
+ *
+ * @author LMS Team
+ * @version 1.0.0
+ */
+class CashFlowAccumulatorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    private final int[] monthStarts = monthStarts(3);
+
+    @Test
+    void addsACompletedLoanToItsGroup() {
+        CashFlowAccumulator shard = new CashFlowAccumulator(monthStarts, 2);
+        CashFlowAccumulator loan = new CashFlowAccumulator(monthStarts, 1);
+
+        row(loan, FROM.minusDays(1), 999, 999);
+        row(loan, FROM.plusDays(14), 100, 10);
+        row(loan, FROM.plusMonths(2).plusDays(3), 200, 20);
+        row(loan, FROM.plusMonths(5), 300, 30);
+        shard.addLoan(1, loan);
+
+        assertThat(shard.getLoans(0)).isZero();
+        assertThat(shard.getLoans(1)).isEqualTo(1);
+        assertThat(shard.getPrincipal(1, 0)).isEqualTo(100);
+        assertThat(shard.getInterest(1, 0)).isEqualTo(10);
+        assertThat(shard.getPrincipal(1, 1)).isZero();
+        assertThat(shard.getPrincipal(1, 2)).isEqualTo(200);
+        assertThat(shard.getPrincipalBeyond(1)).isEqualTo(300);
+        assertThat(shard.getInterestBeyond(1)).isEqualTo(30);
+        assertThat(shard.getPrincipal(0, 0)).isZero();
+    }
+
+    @Test
+    void addingALoanClearsItForTheNext() {
+        CashFlowAccumulator shard = new CashFlowAccumulator(monthStarts, 1);
+        CashFlowAccumulator loan = new CashFlowAccumulator(monthStarts, 1);
+
+        row(loan, FROM, 100, 10);
+        shard.addLoan(0, loan);
+        row(loan, FROM.plusMonths(1), 50, 5);
+        shard.addLoan(0, loan);
+
+        assertThat(shard.getLoans(0)).isEqualTo(2);
+        assertThat(shard.getPrincipal(0, 0)).isEqualTo(100);
+        assertThat(shard.getPrincipal(0, 1)).isEqualTo(50);
+    }
+
+    @Test
+    void clearedRowsNeverReachTheShard() {
+        CashFlowAccumulator shard = new CashFlowAccumulator(monthStarts, 1);
+        CashFlowAccumulator loan = new CashFlowAccumulator(monthStarts, 1);
+
+        row(loan, FROM, 100, 10);
+        row(loan, FROM.plusMonths(4), 100, 10);
+        loan.clear();
+        row(loan, FROM.plusMonths(1), 50, 5);
+        shard.addLoan(0, loan);
+
+        assertThat(shard.getLoans(0)).isEqualTo(1);
+        assertThat(shard.getPrincipal(0, 0)).isZero();
+        assertThat(shard.getPrincipal(0, 1)).isEqualTo(50);
+        assertThat(shard.getPrincipalBeyond(0)).isZero();
+    }
+
+    @Test
+    void mergesShards() {
+        CashFlowAccumulator first = new CashFlowAccumulator(monthStarts, 1);
+        CashFlowAccumulator second = new CashFlowAccumulator(monthStarts, 1);
+        CashFlowAccumulator loan = new CashFlowAccumulator(monthStarts, 1);
+
+        row(loan, FROM, 100, 10);
+        first.addLoan(0, loan);
+        row(loan, FROM, 40, 4);
+        second.addLoan(0, loan);
+        first.merge(second);
+
+        assertThat(first.getLoans(0)).isEqualTo(2);
+        assertThat(first.getPrincipal(0, 0)).isEqualTo(140);
+        assertThat(first.getInterest(0, 0)).isEqualTo(14);
+    }
+
+    private static void row(CashFlowAccumulator accumulator, LocalDate dueDate, long principal, long interest) {
+        accumulator.accept(1, (int) dueDate.toEpochDay(), 0, principal + interest, principal, interest, 0, 0);
+    }
+
+    private static int[] monthStarts(int months) {
+        int[] monthStarts = new int[months + 1];
+        for (int i = 0; i <= months; i++) {
+            monthStarts[i] = (int) FROM.plusMonths(i).toEpochDay();
+        }
+        return monthStarts;
+    }
+}
@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Summarise JMeter CSV results (.jtl): throughput, p50/p99 latency and error rate per label.
+#
+# Usage:
+#   tests/load/summarise-results.sh results-platform.jtl [results-virtual.jtl ...]
+#
+set -euo pipefail
+
+if [ "$#" -eq 0 ]; then
+    echo "usage: $0 <results.jtl>..." >&2
+    exit 2
+fi
+
+tmp="$(mktemp)"
+trap 'rm -f "${tmp}"' EXIT
+
+for jtl in "$@"; do
+    echo "== ${jtl}"
+    awk -F',' '
+        NR == 1 {
+            for (i = 1; i <= NF; i++) col[$i] = i
+            if (!("timeStamp" in col) || !("elapsed" in col) || !("label" in col) || !("success" in col)) {
+                print "missing timeStamp/elapsed/label/success columns (save results as CSV with a header)" > "/dev/stderr"
+                exit 1
+            }
+            next
+        }
+        {
+            ts = $col["timeStamp"]; el = $col["elapsed"]; label = $col["label"]
+            if (first == "" || ts < first) first = ts
+            if (ts + el > last) last = ts + el
+            n[label]++; n["TOTAL"]++
+            if ($col["success"] != "true") { err[label]++; err["TOTAL"]++ }
+            print label "\t" el | "sort -t\"\t\" -k1,1 -k2,2n > \"" tmp "\""
+            print "TOTAL\t" el | "sort -t\"\t\" -k1,1 -k2,2n > \"" tmp "\""
+        }
+        END {
+            close("sort -t\"\t\" -k1,1 -k2,2n > \"" tmp "\"")
+            seconds = (last - first) / 1000
+            printf "%-32s %10s %10s %10s %10s %8s\n", "label", "samples", "req/s", "p50 ms", "p99 ms", "errors"
+            while ((getline line < tmp) > 0) {
+                split(line, f, "\t")
+                seen[f[1]]++
+                if (seen[f[1]] == int(n[f[1]] * 0.50 + 0.999)) p50[f[1]] = f[2]
+                if (seen[f[1]] == int(n[f[1]] * 0.99 + 0.999)) p99[f[1]] = f[2]
+            }
+            for (label in n) {
+                if (label == "TOTAL") continue
+                printf "%-32s %10d %10.1f %10d %10d %7.2f%%\n", label, n[label], n[label] / seconds, p50[label], p99[label], 100 * err[label] / n[label]
+            }
+            printf "%-32s %10d %10.1f %10d %10d %7.2f%%\n", "TOTAL", n["TOTAL"], n["TOTAL"] / seconds, p50["TOTAL"], p99["TOTAL"], 100 * err["TOTAL"] / n["TOTAL"]
+        }
+    ' tmp="${tmp}" "${jtl}"
+done